@@ -0,0 +1,105 @@
+package fi.fmi.avi.converter.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.unitils.thirdparty.org.apache.commons.io.IOUtils;
+
+import fi.fmi.avi.converter.AviMessageSpecificConverter;
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+
+/**
+ * Throughput and average time of the JSON parsers and serializers for each message type, using the JSON test fixtures as input.
+ * Run with the gc profiler (the default in the jmh Maven profile) to also get the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JSONConversionBenchmark {
+
+    @Param({ "TAF", "METAR", "SIGMET", "AIRMET", "SWX", "TAF_BULLETIN", "SIGMET_BULLETIN", "GENERIC_BULLETIN" })
+    public String messageType;
+
+    private Supplier<ConversionResult<?>> parseOperation;
+    private Supplier<ConversionResult<?>> serializeOperation;
+
+    private static String readFixture(final String fileName) throws IOException {
+        try (InputStream inputStream = JSONConversionBenchmark.class.getResourceAsStream(fileName)) {
+            requireNonNull(inputStream, fileName);
+            return IOUtils.toString(inputStream, "UTF-8");
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        switch (messageType) {
+            case "TAF":
+                setUp("taf1.json", new TAFJSONParser(), new TAFJSONSerializer());
+                break;
+            case "METAR":
+                setUp("metar1.json", new METARJSONParser(), new METARJSONSerializer());
+                break;
+            case "SIGMET":
+                setUp("sigmet1.json", new SIGMETJSONParser(), new SIGMETJSONSerializer());
+                break;
+            case "AIRMET":
+                setUp("airmet2.json", new AIRMETJSONParser(), new AIRMETJSONSerializer());
+                break;
+            case "SWX":
+                setUp("swx1.json", new SpaceWeatherAdvisoryJSONParser(), new SpaceWeatherAdvisoryJSONSerializer());
+                break;
+            case "TAF_BULLETIN":
+                setUp("tafBulletin1.json", new TAFBulletinJSONParser(), new TAFBulletinJSONSerializer());
+                break;
+            case "SIGMET_BULLETIN":
+                setUp("sigmetBulletin1.json", new SIGMETBulletinJSONParser(), new SIGMETBulletinJSONSerializer());
+                break;
+            case "GENERIC_BULLETIN":
+                setUp("generic-bulletin1.json", new GenericMeteorologicalBulletinJSONParser(), new GenericMeteorologicalBulletinJSONSerializer());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown message type " + messageType);
+        }
+    }
+
+    private <T> void setUp(final String fixture, final AviMessageSpecificConverter<String, T> parser, final AviMessageSpecificConverter<T, String> serializer)
+            throws IOException {
+        final String json = readFixture(fixture);
+        final ConversionResult<T> parsed = parser.convertMessage(json, ConversionHints.EMPTY);
+        if (parsed.getStatus() != ConversionResult.Status.SUCCESS) {
+            throw new IllegalStateException("Unable to parse fixture " + fixture + ": " + parsed.getConversionIssues());
+        }
+        final T message = parsed.getConvertedMessage().get();
+        this.parseOperation = () -> parser.convertMessage(json, ConversionHints.EMPTY);
+        this.serializeOperation = () -> serializer.convertMessage(message, ConversionHints.EMPTY);
+    }
+
+    @Benchmark
+    public ConversionResult<?> parse() {
+        return parseOperation.get();
+    }
+
+    @Benchmark
+    public ConversionResult<?> serialize() {
+        return serializeOperation.get();
+    }
+}
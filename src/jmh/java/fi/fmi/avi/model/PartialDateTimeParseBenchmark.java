@@ -0,0 +1,96 @@
+package fi.fmi.avi.model;
+
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fi.fmi.avi.model.PartialDateTime.PartialField;
+
+/**
+ * Compares the character scanning parsers of {@link PartialDateTime} to the regular expression and substring based implementation they replaced.
+ * Run with the gc profiler (the default in the jmh Maven profile) to also get the allocation rate per operation.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartialDateTimeParseBenchmark {
+
+    private static final Pattern PARTIAL_TIME_STRING_PATTERN = Pattern.compile(
+            "^--(?<DAY>[0-9]{1,2})?T(?<HOUR>[0-9]{1,2})?:(?<MINUTE>[0-9]{1,2})?:?(?<ZONE>.*)?$");
+
+    private static PartialDateTime regexParse(final String partialDateTimeString) {
+        final Matcher matcher = PARTIAL_TIME_STRING_PATTERN.matcher(partialDateTimeString);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException(partialDateTimeString);
+        }
+        final String zoneId = matcher.group("ZONE");
+        return PartialDateTime.of(parseOrEmpty(matcher.group("DAY")), parseOrEmpty(matcher.group("HOUR")), parseOrEmpty(matcher.group("MINUTE")),
+                zoneId == null || zoneId.isEmpty() ? null : ZoneId.of(zoneId));
+    }
+
+    private static int parseOrEmpty(final String fieldValue) {
+        return fieldValue == null ? -1 : Integer.parseInt(fieldValue);
+    }
+
+    private static PartialDateTime substringParseTACString(final String tacString) {
+        final int[] fieldValues = { -1, -1, -1 };
+        int index = 0;
+        int fieldIndex = 0;
+        while (index < tacString.length() && Character.isDigit(tacString.charAt(index)) && Character.isDigit(tacString.charAt(index + 1))) {
+            fieldValues[fieldIndex] = Integer.parseInt(tacString.substring(index, index + 2));
+            index += 2;
+            fieldIndex += 1;
+        }
+        final String zoneId = tacString.substring(index);
+        final int[] values = { -1, -1, -1 };
+        final int firstField = values.length - fieldIndex;
+        System.arraycopy(fieldValues, 0, values, firstField, fieldIndex);
+        return PartialDateTime.of(values[0], values[1], values[2], zoneId.isEmpty() ? null : ZoneId.of(zoneId));
+    }
+
+    @Benchmark
+    public PartialDateTime parse(final PartialDateTimeStringState state) {
+        return PartialDateTime.parse(state.partialDateTimeString);
+    }
+
+    @Benchmark
+    public PartialDateTime parseWithRegex(final PartialDateTimeStringState state) {
+        return regexParse(state.partialDateTimeString);
+    }
+
+    @Benchmark
+    public PartialDateTime parseTACString(final TACStringState state) {
+        return PartialDateTime.parseTACString(state.tacString, PartialField.MINUTE);
+    }
+
+    @Benchmark
+    public PartialDateTime parseTACStringWithSubstrings(final TACStringState state) {
+        return substringParseTACString(state.tacString);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PartialDateTimeStringState {
+        @Param({ "--02T03:04:Z", "--T03:04:", "--02T03::+02:00" })
+        public String partialDateTimeString;
+    }
+
+    @State(Scope.Benchmark)
+    public static class TACStringState {
+        @Param({ "020304Z", "0304", "0203" })
+        public String tacString;
+    }
+}
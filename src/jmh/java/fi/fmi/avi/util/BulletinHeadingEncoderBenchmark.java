@@ -0,0 +1,89 @@
+package fi.fmi.avi.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.model.MessageFormat;
+import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
+import fi.fmi.avi.model.bulletin.BulletinHeading;
+
+/**
+ * Compares encoding abbreviated headings into reused {@link StringBuilder} and {@link ByteBuffer} targets to creating a new string, and to the
+ * {@link String#format(String, Object...)} based implementation the encoder replaced.
+ * Run with the gc profiler (the default in the jmh Maven profile) to also get the allocation rate per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulletinHeadingEncoderBenchmark {
+
+    @Param({ "FTFI33 EFPP 250200", "WSFI31 EFHK 231008 CCA" })
+    public String abbreviatedHeading;
+
+    private BulletinHeading heading;
+    private StringBuilder builder;
+    private ByteBuffer buffer;
+
+    private static String formatEncode(final BulletinHeading input) {
+        final PartialOrCompleteTimeInstant issueTime = input.getIssueTime();
+        final StringBuilder sb = new StringBuilder();
+        sb.append("" + input.getDataTypeDesignatorT1ForTAC().code() + input.getDataTypeDesignatorT2().code() + input.getGeographicalDesignator()
+                + String.format("%02d", input.getBulletinNumber()));
+        sb.append(' ');
+        sb.append(input.getLocationIndicator());
+        sb.append(' ');
+        sb.append(String.format("%02d", issueTime.getDay().getAsInt()))//
+                .append(String.format("%02d", issueTime.getHour().getAsInt()))//
+                .append(String.format("%02d", issueTime.getMinute().getAsInt()));
+        if (!input.getType().getPrefix().isEmpty()) {
+            sb.append(' ');
+            sb.append(input.getType().getPrefix()).append(BulletinHeadingEncoder.encodeAugmentationNumber(input.getBulletinAugmentationNumber().orElse(1)));
+        }
+        return sb.toString();
+    }
+
+    @Setup
+    public void setUp() {
+        heading = BulletinHeadingDecoder.decode(abbreviatedHeading, ConversionHints.EMPTY);
+        builder = new StringBuilder(32);
+        buffer = ByteBuffer.allocate(32);
+    }
+
+    @Benchmark
+    public String encode() {
+        return BulletinHeadingEncoder.encode(heading, MessageFormat.TEXT, ConversionHints.EMPTY);
+    }
+
+    @Benchmark
+    public String encodeWithStringFormat() {
+        return formatEncode(heading);
+    }
+
+    @Benchmark
+    public StringBuilder appendToStringBuilder() {
+        builder.setLength(0);
+        return BulletinHeadingEncoder.appendTo(builder, heading, MessageFormat.TEXT, ConversionHints.EMPTY);
+    }
+
+    @Benchmark
+    public ByteBuffer appendToByteBuffer() {
+        buffer.clear();
+        return BulletinHeadingEncoder.appendTo(buffer, heading, MessageFormat.TEXT, ConversionHints.EMPTY);
+    }
+}
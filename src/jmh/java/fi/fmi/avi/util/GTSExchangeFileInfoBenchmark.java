@@ -0,0 +1,75 @@
+package fi.fmi.avi.util;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing and creating GTS exchange file names of each P-flag. The {@code matchRegularExpression} benchmark only matches a file name
+ * against the regular expression the parser replaced, as a baseline for the parser.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GTSExchangeFileInfoBenchmark {
+    private static final Pattern P_FLAG_A_PATTERN = Pattern.compile("^A(?<meta>M)?_" + "(?<T1T2>[A-Z]{2})(?<A1A2>[A-Z]{2})(?<ii>[0-9]{2})(?<CCCC>[A-Z]{4})"
+            + "(?<issueDay>[0-9]{2})(?<issueHour>[0-9]{2})(?<issueMinute>[0-9]{2})(?<BBB>(CC|RR|AA)[A-Z])?" + "_C_[A-Z]{4}_"
+            + "(?<yyyy>[0-9]{4}|----)(?<MM>[0-9]{2}|--)(?<dd>[0-9]{2}|--)(?<hh>[0-9]{2}|--)(?<mm>[0-9]{2}|--)(?<ss>[0-9]{2}|--)"
+            + "(_(?<freeForm>[a-zA-Z0-9_-]*))?.(?<type>[a-z]{2,3})(.(?<compression>[a-zA_Z0-9]{1,3}))?$");
+    private static final Set<GTSExchangeFileInfo.TimeStampField> ALL_TIME_FIELDS = EnumSet.allOf(GTSExchangeFileInfo.TimeStampField.class);
+
+    @Param({ "A_LTFI31EFKL231000RRB_C_EFKL_20190123100000.xml", //
+            "AM_FTFI12ABCD091000CCA_C_ABCD_201901091005--_foobar12345_-.met.gz", //
+            "T_SAFI31_C_EFHK_20190123100000.txt", //
+            "W_fi-fmi,TAF,EFHK+10_C_EFHK_20190109100500.xml", //
+            "Z_local-product_C_EFHK_2019010910----.bin.zip" })
+    public String fileName;
+
+    private GTSExchangeFileInfo info;
+    private StringBuilder builder;
+
+    @Setup
+    public void setUp() {
+        info = GTSExchangeFileInfo.Builder.from(fileName).build();
+        builder = new StringBuilder(64);
+    }
+
+    @Benchmark
+    public GTSExchangeFileInfo parse() {
+        return GTSExchangeFileInfo.Builder.from(fileName).build();
+    }
+
+    @Benchmark
+    public boolean matchRegularExpression() {
+        final Matcher matcher = P_FLAG_A_PATTERN.matcher(fileName);
+        return matcher.matches();
+    }
+
+    @Benchmark
+    public String toFileName() {
+        return info.toGTSExchangeFileName();
+    }
+
+    @Benchmark
+    public StringBuilder appendFileName() {
+        builder.setLength(0);
+        return info.appendGTSExchangeFileName(builder, ALL_TIME_FIELDS);
+    }
+}
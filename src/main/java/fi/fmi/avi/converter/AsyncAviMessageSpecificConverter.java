@@ -0,0 +1,30 @@
+package fi.fmi.avi.converter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * An asynchronous converter capable only processing a specific type of input message to a particular
+ * output.
+ *
+ * @param <S>
+ *           input message type
+ * @param <T>
+ *           output message type
+ *
+ * @see ConversionChainBuilder#buildAsync(ConversionSpecification, java.util.concurrent.Executor)
+ */
+@FunctionalInterface
+public interface AsyncAviMessageSpecificConverter<S, T> {
+
+    /**
+     * Starts the conversion of a single message.
+     *
+     * @param input
+     *         input message
+     * @param hints
+     *         parsing hints
+     *
+     * @return future completed with the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    CompletableFuture<ConversionResult<T>> convertMessageAsync(S input, ConversionHints hints);
+}
@@ -1,8 +1,16 @@
 package fi.fmi.avi.converter;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * AviMessageConverter converts an aviation weather message from one type to another.
@@ -16,11 +24,20 @@ import java.util.Set;
  *  }
  * </pre>
  *
+ * <p>
+ * The converter is safe for concurrent use. Converters are looked up first by the identity of the given specification, which is the common
+ * case when using the pre-configured specification constants, and then by specification equality.
+ * </p>
+ *
  * @author Ilkka Rinne / Spatineo Oy 2017
  */
 public class AviMessageConverter {
 
-    private final Map<ConversionSpecification<?, ?>, AviMessageSpecificConverter<?, ?>> converters = new HashMap<>();
+    private final Map<ConversionSpecification<?, ?>, AviMessageSpecificConverter<?, ?>> converters = new ConcurrentHashMap<>();
+    /**
+     * Immutable identity-keyed snapshot of {@link #converters}, replaced on each modification.
+     */
+    private volatile Map<ConversionSpecification<?, ?>, AviMessageSpecificConverter<?, ?>> convertersByIdentity = Collections.emptyMap();
 
     /**
      * Converts the given message according to the <code>spec</code>.
@@ -65,14 +82,133 @@ public class AviMessageConverter {
      *
      * @return the result of the conversion
      */
-    @SuppressWarnings("unchecked")
     public <S, T> ConversionResult<T> convertMessage(final S input, final ConversionSpecification<S, T> spec, final ConversionHints hints) {
-        for (final ConversionSpecification<?, ?> toMatch : converters.keySet()) {
-            if (toMatch.equals(spec)) {
-                return ((AviMessageSpecificConverter<S, T>) converters.get(spec)).convertMessage(input, hints);
+        return getRequiredConverter(spec).convertMessage(input, hints);
+    }
+
+    /**
+     * Converts the given message according to the <code>spec</code> using
+     * the provided conversion hints in a task submitted to the <code>executor</code>.
+     *
+     * @param input
+     *         the input message
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param executor
+     *         the executor to run the conversion in
+     * @param <S>
+     *         the type of the input message
+     * @param <T>
+     *         the type of the output message
+     *
+     * @return future completed with the result of the conversion
+     *
+     * @throws IllegalArgumentException
+     *         if there is no converter for <code>spec</code>
+     */
+    public <S, T> CompletableFuture<ConversionResult<T>> convertMessageAsync(final S input, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints, final Executor executor) {
+        final AviMessageSpecificConverter<S, T> converter = getRequiredConverter(spec);
+        return CompletableFuture.supplyAsync(() -> converter.convertMessage(input, hints), executor);
+    }
+
+    /**
+     * Converts the given messages according to the <code>spec</code> using
+     * the provided conversion hints. The messages are converted in the calling thread.
+     *
+     * @param inputs
+     *         the input messages
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param <S>
+     *         the type of the input message
+     * @param <T>
+     *         the type of the output message
+     *
+     * @return the results of the conversion, in input order
+     *
+     * @see AviMessageSpecificConverter#convertMessages(List, ConversionHints)
+     */
+    public <S, T> List<ConversionResult<T>> convertMessages(final List<? extends S> inputs, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints) {
+        return getRequiredConverter(spec).convertMessages(inputs, hints);
+    }
+
+    /**
+     * Converts the given messages according to the <code>spec</code> using
+     * the provided conversion hints. The messages are converted concurrently in tasks submitted to the
+     * <code>executor</code>, and this method blocks until all of them are done.
+     *
+     * @param inputs
+     *         the input messages
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param executor
+     *         the executor to run the conversions in
+     * @param <S>
+     *         the type of the input message
+     * @param <T>
+     *         the type of the output message
+     *
+     * @return the results of the conversion, in input order
+     */
+    public <S, T> List<ConversionResult<T>> convertMessages(final List<? extends S> inputs, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints, final Executor executor) {
+        final AviMessageSpecificConverter<S, T> converter = getRequiredConverter(spec);
+        final List<CompletableFuture<ConversionResult<T>>> futures = new ArrayList<>(inputs.size());
+        for (final S input : inputs) {
+            futures.add(CompletableFuture.supplyAsync(() -> converter.convertMessage(input, hints), executor));
+        }
+        final List<ConversionResult<T>> results = new ArrayList<>(futures.size());
+        try {
+            for (final CompletableFuture<ConversionResult<T>> future : futures) {
+                results.add(future.join());
+            }
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
+            throw e;
+        }
+        return results;
+    }
+
+    /**
+     * Converts the given stream of messages according to the <code>spec</code> using
+     * the provided conversion hints. The messages are converted lazily as the returned stream is consumed, in parallel if
+     * the input stream is parallel.
+     *
+     * @param inputs
+     *         the input messages
+     * @param spec
+     *         {@link ConversionSpecification} to use
+     * @param hints
+     *         to guide the conversion process
+     * @param <S>
+     *         the type of the input message
+     * @param <T>
+     *         the type of the output message
+     *
+     * @return the results of the conversion, in the encounter order of the input stream
+     */
+    public <S, T> Stream<ConversionResult<T>> convertMessages(final Stream<? extends S> inputs, final ConversionSpecification<S, T> spec,
+            final ConversionHints hints) {
+        final AviMessageSpecificConverter<S, T> converter = getRequiredConverter(spec);
+        return inputs.map(input -> converter.convertMessage(input, hints));
+    }
+
+    private <S, T> AviMessageSpecificConverter<S, T> getRequiredConverter(final ConversionSpecification<S, T> spec) {
+        final AviMessageSpecificConverter<S, T> converter = getConverter(spec);
+        if (converter == null) {
+            throw new IllegalArgumentException("No converter for conversion specification " + spec + ", check configuration");
         }
-        throw new IllegalArgumentException("No converter for conversion specification " + spec + ", check configuration");
+        return converter;
     }
 
     /**
@@ -87,8 +223,10 @@ public class AviMessageConverter {
      * @param <T>
      *         target object class
      */
-    public <S, T> void setMessageSpecificConverter(final ConversionSpecification<S, T> spec, final AviMessageSpecificConverter<S, T> converter) {
+    public synchronized <S, T> void setMessageSpecificConverter(final ConversionSpecification<S, T> spec,
+            final AviMessageSpecificConverter<S, T> converter) {
         this.converters.put(spec, converter);
+        this.convertersByIdentity = Collections.unmodifiableMap(new IdentityHashMap<>(this.converters));
     }
 
     /**
@@ -100,10 +238,30 @@ public class AviMessageConverter {
      * @return true if supported
      */
     public boolean isSpecificationSupported(final ConversionSpecification<?, ?> spec) {
-        return this.converters.containsKey(spec);
+        return getConverter(spec) != null;
     }
 
+    /**
+     * Returns the converter registered for the given specification.
+     *
+     * @param spec
+     *         to query
+     * @param <U>
+     *         source object class
+     * @param <Z>
+     *         target object class
+     *
+     * @return the converter, or null if the specification is not supported
+     */
+    @SuppressWarnings("unchecked")
     public <U, Z> AviMessageSpecificConverter<U, Z> getConverter(final ConversionSpecification<U, Z> spec) {
+        if (spec == null) {
+            return null;
+        }
+        final AviMessageSpecificConverter<?, ?> converter = this.convertersByIdentity.get(spec);
+        if (converter != null) {
+            return (AviMessageSpecificConverter<U, Z>) converter;
+        }
         return (AviMessageSpecificConverter<U, Z>) this.converters.get(spec);
     }
 
@@ -111,10 +269,10 @@ public class AviMessageConverter {
      * Returns all the {@link ConversionSpecification}s supported by this
      * AviMessageConverter implementation.
      *
-     * @return set of supported specifications
+     * @return unmodifiable view of the supported specifications
      */
     public Set<ConversionSpecification<?, ?>> getSupportedSpecifications() {
-        return this.converters.keySet();
+        return Collections.unmodifiableSet(this.converters.keySet());
     }
 
 }
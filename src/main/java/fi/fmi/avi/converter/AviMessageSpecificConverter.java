@@ -1,5 +1,8 @@
 package fi.fmi.avi.converter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A converter capable only processing a specific type of input message to a particular
  * output.
@@ -25,4 +28,25 @@ public interface AviMessageSpecificConverter<S, T> {
      * @return the {@link ConversionResult} with the converter message and the possible conversion issues
      */
     ConversionResult<T> convertMessage(S input, ConversionHints hints);
+
+    /**
+     * Converts a batch of messages using the same hints.
+     *
+     * The default implementation converts the messages one by one using {@link #convertMessage(Object, ConversionHints)}. Implementations may
+     * override this to share per-batch setup between the messages.
+     *
+     * @param inputs
+     *         input messages
+     * @param hints
+     *         parsing hints
+     *
+     * @return the {@link ConversionResult}s of each input message, in input order
+     */
+    default List<ConversionResult<T>> convertMessages(final List<? extends S> inputs, final ConversionHints hints) {
+        final List<ConversionResult<T>> results = new ArrayList<>(inputs.size());
+        for (final S input : inputs) {
+            results.add(convertMessage(input, hints));
+        }
+        return results;
+    }
 }
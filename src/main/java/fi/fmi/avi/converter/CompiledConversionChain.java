@@ -0,0 +1,155 @@
+package fi.fmi.avi.converter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * An immutable conversion chain built and validated by {@link ConversionChainBuilder}.
+ *
+ * The chain runs its steps with a single issue accumulator, and creates only one {@link ConversionResult} of its own per converted message.
+ * Mutator steps are applied directly without wrapping their output in a {@code ConversionResult}. The input of a step is type checked at run time
+ * only if the declared output class of the previous step does not already guarantee it.
+ *
+ * @param <S>
+ *         input message type of the chain
+ * @param <T>
+ *         output message type of the chain
+ */
+final class CompiledConversionChain<S, T> implements AviMessageSpecificConverter<S, T> {
+
+    private final Step[] steps;
+    private final ConversionResult.Status requiredStatus;
+
+    CompiledConversionChain(final List<Step> steps, final ConversionResult.Status requiredStatus) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("Conversion chain must have at least one step");
+        }
+        this.steps = steps.toArray(new Step[0]);
+        this.requiredStatus = requiredStatus;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ConversionResult<T> convertMessage(final S input, final ConversionHints hints) {
+        final ConversionResult<T> retval = new ConversionResult<>();
+        final IssueList issues = new IssueList();
+        Object msg = input;
+        for (int i = 0; i < steps.length && msg != null; i++) {
+            msg = steps[i].apply(msg, hints, issues, i == steps.length - 1 ? null : requiredStatus);
+        }
+        retval.addIssue(issues);
+        retval.setConvertedMessage((T) msg);
+        return retval;
+    }
+
+    /**
+     * Converts a message running each step of the chain as a separate task in the <code>executor</code>.
+     *
+     * @param input
+     *         input message
+     * @param hints
+     *         parsing hints
+     * @param executor
+     *         the executor to run the steps in
+     *
+     * @return future completed with the result of the conversion
+     */
+    CompletableFuture<ConversionResult<T>> convertMessageAsync(final S input, final ConversionHints hints, final Executor executor) {
+        return continueAsync(0, input, new IssueList(), hints, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletableFuture<ConversionResult<T>> continueAsync(final int step, final Object msg, final IssueList issues, final ConversionHints hints,
+            final Executor executor) {
+        if (step >= steps.length || msg == null) {
+            final ConversionResult<T> retval = new ConversionResult<>();
+            retval.addIssue(issues);
+            retval.setConvertedMessage((T) msg);
+            return CompletableFuture.completedFuture(retval);
+        }
+        final ConversionResult.Status stepRequiredStatus = step == steps.length - 1 ? null : requiredStatus;
+        return CompletableFuture.supplyAsync(() -> steps[step].apply(msg, hints, issues, stepRequiredStatus), executor)
+                .thenCompose(next -> continueAsync(step + 1, next, issues, hints, executor));
+    }
+
+    /**
+     * A single step of a chain.
+     */
+    interface Step {
+
+        /**
+         * Applies the step.
+         *
+         * @param input
+         *         output of the previous step
+         * @param hints
+         *         parsing hints
+         * @param issues
+         *         the issue accumulator of the chain
+         * @param requiredStatus
+         *         the status this step must reach for the chain to continue, or null if this is the final step
+         *
+         * @return the input of the next step, or null if the chain must stop
+         */
+        Object apply(Object input, ConversionHints hints, IssueList issues, ConversionResult.Status requiredStatus);
+    }
+
+    static final class ConverterStep implements Step {
+        private final AviMessageSpecificConverter<Object, ?> converter;
+        private final ConversionSpecification<?, ?> spec;
+        private final boolean checkInput;
+
+        @SuppressWarnings("unchecked")
+        ConverterStep(final AviMessageSpecificConverter<?, ?> converter, final ConversionSpecification<?, ?> spec, final boolean checkInput) {
+            this.converter = (AviMessageSpecificConverter<Object, ?>) converter;
+            this.spec = spec;
+            this.checkInput = checkInput;
+        }
+
+        @Override
+        public Object apply(final Object input, final ConversionHints hints, final IssueList issues, final ConversionResult.Status requiredStatus) {
+            if (checkInput && !spec.getInputClass().isInstance(input)) {
+                issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER,
+                        "Cannot use intermediate result of " + "type " + input.getClass().getCanonicalName() + " as input for the conversion step " + spec);
+                return null;
+            }
+            final ConversionResult<?> result = converter.convertMessage(input, hints);
+            issues.addAll(result.getConversionIssues());
+            if (requiredStatus != null && ConversionResult.Status.isMoreCritical(result.getStatus(), requiredStatus)) {
+                return null;
+            }
+            return result.getConvertedMessage().orElse(null);
+        }
+    }
+
+    static final class MutatorStep implements Step {
+        private final Function<Object, ?> mutator;
+        private final Class<?> inputClass;
+        private final boolean checkInput;
+
+        @SuppressWarnings("unchecked")
+        MutatorStep(final Function<?, ?> mutator, final Class<?> inputClass, final boolean checkInput) {
+            this.mutator = (Function<Object, ?>) mutator;
+            this.inputClass = inputClass;
+            this.checkInput = checkInput;
+        }
+
+        @Override
+        public Object apply(final Object input, final ConversionHints hints, final IssueList issues, final ConversionResult.Status requiredStatus) {
+            if (checkInput && !inputClass.isInstance(input)) {
+                issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER,
+                        "Cannot use intermediate result of " + "type " + input.getClass().getCanonicalName() + " as input for the mutator of "
+                                + inputClass.getSimpleName());
+                return null;
+            }
+            try {
+                return mutator.apply(input);
+            } catch (final Exception e) {
+                issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Exception in applying mutator function", e);
+                return null;
+            }
+        }
+    }
+}
@@ -1,14 +1,16 @@
 package fi.fmi.avi.converter;
 
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 public class ConversionChainBuilder<S> {
     private final AviMessageConverter converter;
-    private final List<AviMessageSpecificConverter> converters = new ArrayList<>();
-    private final List<ConversionSpecification> specifications = new ArrayList<>();
+    private final List<CompiledConversionChain.Step> steps = new ArrayList<>();
     private final ConversionResult.Status requiredStatus;
+    private Class<?> previousOutputClass;
 
     public ConversionChainBuilder(final AviMessageConverter converter, final ConversionSpecification<S, ?> initialStep,
             final ConversionResult.Status requiredStatus) {
@@ -21,66 +23,79 @@ public class ConversionChainBuilder<S> {
         this(converter, initialStep, ConversionResult.Status.SUCCESS);
     }
 
+    /**
+     * Returns true if a value of the <code>outputClass</code> of a step needs to be checked at run time before passing it to a step accepting
+     * <code>inputClass</code>.
+     *
+     * @throws IllegalArgumentException
+     *         if the output can never be accepted as the input
+     */
+    private static boolean requiresInputCheck(final Class<?> outputClass, final Class<?> inputClass, final Object step) {
+        if (outputClass == null || inputClass == null || inputClass.isAssignableFrom(outputClass)) {
+            return false;
+        }
+        if (!outputClass.isAssignableFrom(inputClass) && (Modifier.isFinal(outputClass.getModifiers()) || Modifier.isFinal(inputClass.getModifiers())
+                || !outputClass.isInterface() && !inputClass.isInterface())) {
+            throw new IllegalArgumentException(
+                    "Output of type " + outputClass.getCanonicalName() + " of the previous step cannot be used as input for the step " + step);
+        }
+        return true;
+    }
+
     public ConversionChainBuilder<S> withConversionStep(final ConversionSpecification<?, ?> step) {
-        if (this.converter.isSpecificationSupported(step)) {
-            this.specifications.add(step);
-            this.converters.add(this.converter.getConverter(step));
-        } else {
+        final AviMessageSpecificConverter<?, ?> stepConverter = this.converter.getConverter(step);
+        if (stepConverter == null) {
             throw new IllegalArgumentException("Conversion " + step + " not supported, please check converter configuration");
         }
+        final boolean checkInput = !this.steps.isEmpty() && requiresInputCheck(this.previousOutputClass, step.getInputClass(), step);
+        this.steps.add(new CompiledConversionChain.ConverterStep(stepConverter, step, checkInput));
+        this.previousOutputClass = step.getOutputClass();
         return this;
     }
 
     public <U, T> ConversionChainBuilder<S> withMutator(final Function<U, T> mutator, final Class<U> inputClz, final Class<T> outputClz) {
-        this.converters.add((AviMessageSpecificConverter<U, T>) (input, hints) -> {
-            final ConversionResult<T> result = new ConversionResult<>();
-            try {
-                result.setConvertedMessage(mutator.apply(input));
-            } catch (final Exception e) {
-                result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Exception in applying mutator function", e));
-            }
-            return result;
-        });
-        this.specifications.add(new ConversionSpecification<>(inputClz, outputClz));
+        final boolean checkInput = requiresInputCheck(this.previousOutputClass, inputClz, "mutator of " + inputClz.getSimpleName());
+        this.steps.add(new CompiledConversionChain.MutatorStep(mutator, inputClz, checkInput));
+        this.previousOutputClass = outputClz;
         return this;
     }
 
+    /**
+     * Builds a conversion chain ending with <code>finalStep</code>.
+     *
+     * The compatibility of the consecutive steps is validated here, and the returned chain is not affected by further modifications of this builder.
+     * The issues of all the executed steps are collected into the result of the chain.
+     *
+     * @param finalStep
+     *         the last conversion step of the chain
+     * @param <T>
+     *         the output type of the chain
+     *
+     * @return the conversion chain
+     */
     public <T> AviMessageSpecificConverter<S, T> build(final ConversionSpecification<?, T> finalStep) {
         this.withConversionStep(finalStep);
-        return (input, hints) -> {
-            final ConversionResult<T> retval = new ConversionResult<>();
-            final AviMessageSpecificConverter initial = converters.get(0);
-            ConversionResult result = initial.convertMessage(input, hints);
-            for (int i = 1; i < converters.size(); i++) {
-                retval.addIssue(result.getConversionIssues());
-                if (ConversionResult.Status.isMoreCritical(result.getStatus(), requiredStatus)) {
-                    result.setConvertedMessage(null);
-                    break;
-                }
-                if (!result.getConvertedMessage().isPresent()) {
-                    break;
-                }
-                final Object msg = result.getConvertedMessage().get();
-                result = convertSingleMessage(msg, specifications.get(i), converters.get(i), hints);
-
-            }
-            if (result.getConvertedMessage().isPresent()) {
-                retval.setConvertedMessage((T) result.getConvertedMessage().get());
-            }
-            return retval;
-        };
+        return new CompiledConversionChain<>(this.steps, this.requiredStatus);
     }
 
-    private ConversionResult<?> convertSingleMessage(final Object msg, final ConversionSpecification spec, final AviMessageSpecificConverter converter,
-            final ConversionHints hints) {
-        ConversionResult<?> retval = new ConversionResult<>();
-        if (!spec.getInputClass().isAssignableFrom(msg.getClass())) {
-            retval.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER,
-                    "Cannot use intermediate result of " + "type " + msg.getClass().getCanonicalName() + " as input for the conversion step " + spec));
-            retval.setConvertedMessage(null);
-        } else {
-            retval = converter.convertMessage(msg, hints);
-        }
-        return retval;
+    /**
+     * Builds an asynchronous conversion chain ending with <code>finalStep</code>.
+     *
+     * Each step of the chain is run as a separate task in the <code>executor</code>, so no thread is blocked waiting for
+     * the following steps, and steps of different messages may interleave.
+     *
+     * @param finalStep
+     *         the last conversion step of the chain
+     * @param executor
+     *         the executor to run the conversion steps in
+     * @param <T>
+     *         the output type of the chain
+     *
+     * @return the asynchronous conversion chain
+     */
+    public <T> AsyncAviMessageSpecificConverter<S, T> buildAsync(final ConversionSpecification<?, T> finalStep, final Executor executor) {
+        this.withConversionStep(finalStep);
+        final CompiledConversionChain<S, T> chain = new CompiledConversionChain<>(this.steps, this.requiredStatus);
+        return (input, hints) -> chain.convertMessageAsync(input, hints, executor);
     }
 }
@@ -272,6 +272,37 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
      */
     public static final Object VALUE_WHITESPACE_SERIALIZATION_MODE_PASSTHROUGH = "WHITESPACE_SERIALIZATION_PASSTHROUGH";
 
+    /**
+     * Controls the layout of serialized JSON documents.
+     */
+    public static final Key KEY_JSON_OUTPUT_FORMAT;
+
+    /**
+     * Indent the JSON output for human readability. This is the default behaviour.
+     */
+    public static final Object VALUE_JSON_OUTPUT_FORMAT_PRETTY = "JSON_OUTPUT_FORMAT_PRETTY";
+
+    /**
+     * Write the JSON output without any indentation or line breaks.
+     */
+    public static final Object VALUE_JSON_OUTPUT_FORMAT_COMPACT = "JSON_OUTPUT_FORMAT_COMPACT";
+
+    /**
+     * Controls the representation of partial and complete times in JSON documents.
+     */
+    public static final Key KEY_JSON_TIME_ENCODING;
+
+    /**
+     * Represent partial and complete times as text, e.g. {@code "--27T11:37Z"} and {@code "2017-07-27T11:37:00Z"}. This is the default behaviour.
+     */
+    public static final Object VALUE_JSON_TIME_ENCODING_TEXT = "JSON_TIME_ENCODING_TEXT";
+
+    /**
+     * Represent partial times as packed field values with an optional zone id, and complete times as epoch seconds and zone offset seconds.
+     * When parsing, both the compact and the text representations are accepted.
+     */
+    public static final Object VALUE_JSON_TIME_ENCODING_COMPACT = "JSON_TIME_ENCODING_COMPACT";
+
     /**
      * A convenience ParsingHints including only the {@link ConversionHints#KEY_MESSAGE_TYPE} with value {@link MessageType#METAR}.
      */
@@ -369,6 +400,12 @@ public final class ConversionHints implements Map<Object, Object>, Cloneable {
         KEY_WHITESPACE_SERIALIZATION_MODE = new KeyImpl(14, "Controls message white space serialization in TAC bulletins",
                 VALUE_WHITESPACE_SERIALIZATION_MODE_TRIM, VALUE_WHITESPACE_SERIALIZATION_MODE_PASSTHROUGH);
 
+        KEY_JSON_OUTPUT_FORMAT = new KeyImpl(18, "Controls the layout of serialized JSON documents", VALUE_JSON_OUTPUT_FORMAT_PRETTY,
+                VALUE_JSON_OUTPUT_FORMAT_COMPACT);
+
+        KEY_JSON_TIME_ENCODING = new KeyImpl(19, "Controls the representation of partial and complete times in JSON documents",
+                VALUE_JSON_TIME_ENCODING_TEXT, VALUE_JSON_TIME_ENCODING_COMPACT);
+
         METAR = new ConversionHints(KEY_MESSAGE_TYPE, MessageType.METAR);
         TAF = new ConversionHints(KEY_MESSAGE_TYPE, MessageType.TAF);
         SPECI = new ConversionHints(KEY_MESSAGE_TYPE, MessageType.SPECI);
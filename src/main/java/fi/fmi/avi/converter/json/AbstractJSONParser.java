@@ -1,8 +1,14 @@
 package fi.fmi.avi.converter.json;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.converter.ConversionIssue;
@@ -14,10 +20,36 @@ import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
  */
 public abstract class AbstractJSONParser {
 
+    private ObjectMapperCache objectMapperCache = ObjectMapperCache.getDefault();
+
+    /**
+     * Returns the object mapper cache used by this parser.
+     *
+     * @return the object mapper cache
+     */
+    public ObjectMapperCache getObjectMapperCache() {
+        return objectMapperCache;
+    }
+
+    /**
+     * Sets the object mapper cache used by this parser. By default the shared {@link ObjectMapperCache#getDefault()} is used.
+     *
+     * @param objectMapperCache
+     *         the object mapper cache to use
+     */
+    public void setObjectMapperCache(final ObjectMapperCache objectMapperCache) {
+        this.objectMapperCache = requireNonNull(objectMapperCache, "objectMapperCache");
+    }
+
     /**
      * Runs the conversion from JSON to a specific kind of AviationWeatherMessage.
      * Uses Jackson internally to parse the JSON (supports Jackson modules Jdk8 and JavaTime).
      *
+     * <p>
+     * Times written in compact form are accepted if the hint {@link ConversionHints#KEY_JSON_TIME_ENCODING} is set to
+     * {@link ConversionHints#VALUE_JSON_TIME_ENCODING_COMPACT}.
+     * </p>
+     *
      * @param input
      *         JSON as a String
      * @param clz
@@ -33,12 +65,85 @@ public abstract class AbstractJSONParser {
      */
     protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final String input, final Class<T> clz,
             final Class<? extends T> implClz, final ConversionHints hints) {
+        return doConvertMessage(implClz, hints, reader -> reader.readValue(input));
+    }
+
+    /**
+     * Runs the conversion from UTF-8 encoded JSON bytes to a specific kind of AviationWeatherMessage.
+     * The bytes are parsed directly without decoding them into a String first.
+     *
+     * @param input
+     *         JSON as UTF-8 encoded bytes
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     * @param hints
+     *         conversion hints to guide the process
+     * @param <T>
+     *         type of the parsed message
+     *
+     * @return result of the conversion
+     */
+    protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final byte[] input, final Class<T> clz,
+            final Class<? extends T> implClz, final ConversionHints hints) {
+        return doConvertMessage(implClz, hints, reader -> reader.readValue(input));
+    }
+
+    /**
+     * Runs the conversion from a JSON byte stream to a specific kind of AviationWeatherMessage.
+     * The stream is read until the end of the JSON document, but it is not closed.
+     *
+     * @param input
+     *         JSON as a byte stream
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     * @param hints
+     *         conversion hints to guide the process
+     * @param <T>
+     *         type of the parsed message
+     *
+     * @return result of the conversion
+     */
+    protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final InputStream input, final Class<T> clz,
+            final Class<? extends T> implClz, final ConversionHints hints) {
+        return doConvertMessage(implClz, hints, reader -> reader.without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(input));
+    }
+
+    /**
+     * Runs the conversion from a buffer of UTF-8 encoded JSON bytes to a specific kind of AviationWeatherMessage.
+     * The bytes between the position and the limit of the buffer are parsed. The position of the buffer is not changed.
+     *
+     * @param input
+     *         JSON as UTF-8 encoded bytes
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     * @param hints
+     *         conversion hints to guide the process
+     * @param <T>
+     *         type of the parsed message
+     *
+     * @return result of the conversion
+     */
+    protected <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final ByteBuffer input, final Class<T> clz,
+            final Class<? extends T> implClz, final ConversionHints hints) {
+        return doConvertMessage(implClz, hints, reader -> {
+            if (input.hasArray()) {
+                return reader.readValue(input.array(), input.arrayOffset() + input.position(), input.remaining());
+            }
+            return reader.readValue(new ByteBufferBackedInputStream(input.duplicate()));
+        });
+    }
+
+    private <T extends AviationWeatherMessageOrCollection> ConversionResult<T> doConvertMessage(final Class<? extends T> implClz,
+            final ConversionHints hints, final ValueReader<T> valueReader) {
         final ConversionResult<T> result = new ConversionResult<>();
-        final ObjectMapper om = new ObjectMapper();
-        om.registerModule(new Jdk8Module());
-        om.registerModule(new JavaTimeModule());
         try {
-            final T o = om.readValue(input, implClz);
+            final T o = valueReader.read(objectMapperCache.forHints(hints).getReader(implClz));
             result.setConvertedMessage(o);
             result.setStatus(ConversionResult.Status.SUCCESS);
         } catch (final Exception e) {
@@ -47,4 +152,9 @@ public abstract class AbstractJSONParser {
         }
         return result;
     }
+
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read(ObjectReader reader) throws IOException;
+    }
 }
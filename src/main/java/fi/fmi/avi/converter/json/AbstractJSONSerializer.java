@@ -1,16 +1,18 @@
 package fi.fmi.avi.converter.json;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.Writer;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.converter.ConversionIssue;
 import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.converter.IssueList;
 import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
 
 /**
@@ -18,10 +20,37 @@ import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
  */
 public abstract class AbstractJSONSerializer {
 
+    private ObjectMapperCache objectMapperCache = ObjectMapperCache.getDefault();
+
+    /**
+     * Returns the object mapper cache used by this serializer.
+     *
+     * @return the object mapper cache
+     */
+    public ObjectMapperCache getObjectMapperCache() {
+        return objectMapperCache;
+    }
+
+    /**
+     * Sets the object mapper cache used by this serializer. By default the shared {@link ObjectMapperCache#getDefault()} is used.
+     *
+     * @param objectMapperCache
+     *         the object mapper cache to use
+     */
+    public void setObjectMapperCache(final ObjectMapperCache objectMapperCache) {
+        this.objectMapperCache = requireNonNull(objectMapperCache, "objectMapperCache");
+    }
+
     /**
      * Runs the conversion from AviationWeatherMessage to JSON.
      * Uses Jackson internally to write the JSON (supports Jackson modules Jdk8 and JavaTime).
      *
+     * <p>
+     * The output is pretty printed unless the hint {@link ConversionHints#KEY_JSON_OUTPUT_FORMAT} is set to
+     * {@link ConversionHints#VALUE_JSON_OUTPUT_FORMAT_COMPACT}. Times are written as text unless the hint
+     * {@link ConversionHints#KEY_JSON_TIME_ENCODING} is set to {@link ConversionHints#VALUE_JSON_TIME_ENCODING_COMPACT}.
+     * </p>
+     *
      * @param input
      *         the message POJO to convert
      * @param hints
@@ -31,14 +60,32 @@ public abstract class AbstractJSONSerializer {
      */
     protected ConversionResult<String> doConvertMessage(final AviationWeatherMessageOrCollection input, final ConversionHints hints) {
         final ConversionResult<String> result = new ConversionResult<>();
-        final ObjectMapper om = new ObjectMapper();
-        om.registerModule(new Jdk8Module());
-        om.registerModule(new JavaTimeModule());
-        final ObjectWriter writer = om.writerWithDefaultPrettyPrinter();
-        final StringWriter sw = new StringWriter();
         try {
-            writer.writeValue(sw, input);
-            result.setConvertedMessage(sw.toString());
+            result.setConvertedMessage(getWriter(input, hints).writeValueAsString(input));
+            result.setStatus(ConversionResult.Status.SUCCESS);
+        } catch (final IOException e) {
+            result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error in serializing to JSON", e));
+            result.setStatus(ConversionResult.Status.FAIL);
+        }
+        return result;
+    }
+
+    /**
+     * Runs the conversion from AviationWeatherMessage to UTF-8 encoded JSON bytes, without materializing the JSON as a String.
+     *
+     * @param input
+     *         the message POJO to convert
+     * @param hints
+     *         hints to guide the conversion.
+     *
+     * @return the result of the conversion
+     *
+     * @see #doConvertMessage(AviationWeatherMessageOrCollection, ConversionHints)
+     */
+    protected ConversionResult<byte[]> doConvertMessageToBytes(final AviationWeatherMessageOrCollection input, final ConversionHints hints) {
+        final ConversionResult<byte[]> result = new ConversionResult<>();
+        try {
+            result.setConvertedMessage(getWriter(input, hints).writeValueAsBytes(input));
             result.setStatus(ConversionResult.Status.SUCCESS);
         } catch (final IOException e) {
             result.addIssue(new ConversionIssue(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error in serializing to JSON", e));
@@ -46,4 +93,70 @@ public abstract class AbstractJSONSerializer {
         }
         return result;
     }
+
+    /**
+     * Serializes the given message as UTF-8 encoded JSON directly into the provided stream.
+     * The stream is flushed, but not closed.
+     *
+     * @param input
+     *         the message POJO to convert
+     * @param out
+     *         the stream to write to
+     * @param hints
+     *         hints to guide the conversion.
+     *
+     * @return the issues encountered; empty if the message was written successfully
+     */
+    public IssueList writeMessage(final AviationWeatherMessageOrCollection input, final OutputStream out, final ConversionHints hints) {
+        requireNonNull(out, "out");
+        final IssueList issues = new IssueList();
+        try {
+            getWriter(input, hints).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, input);
+        } catch (final IOException e) {
+            issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error in serializing to JSON", e);
+        }
+        return issues;
+    }
+
+    /**
+     * Serializes the given message as JSON directly into the provided writer.
+     * The writer is flushed, but not closed.
+     *
+     * @param input
+     *         the message POJO to convert
+     * @param out
+     *         the writer to write to
+     * @param hints
+     *         hints to guide the conversion.
+     *
+     * @return the issues encountered; empty if the message was written successfully
+     */
+    public IssueList writeMessage(final AviationWeatherMessageOrCollection input, final Writer out, final ConversionHints hints) {
+        requireNonNull(out, "out");
+        final IssueList issues = new IssueList();
+        try {
+            getWriter(input, hints).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, input);
+        } catch (final IOException e) {
+            issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error in serializing to JSON", e);
+        }
+        return issues;
+    }
+
+    /**
+     * Returns the cached writer for the runtime type of {@code input} and the output format and time encoding requested in {@code hints}.
+     *
+     * @param input
+     *         the message POJO to write
+     * @param hints
+     *         hints to guide the conversion, may be {@code null}
+     *
+     * @return the writer to use
+     */
+    protected ObjectWriter getWriter(final AviationWeatherMessageOrCollection input, final ConversionHints hints) {
+        return objectMapperCache.forHints(hints).getWriter(input == null ? Object.class : input.getClass(), isPrettyPrint(hints));
+    }
+
+    private static boolean isPrettyPrint(final ConversionHints hints) {
+        return hints == null || !ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT.equals(hints.get(ConversionHints.KEY_JSON_OUTPUT_FORMAT));
+    }
 }
@@ -0,0 +1,110 @@
+package fi.fmi.avi.converter.json;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.model.PartialDateTime;
+
+/**
+ * Jackson module writing partial and complete times in a compact form without string formatting, as requested by
+ * {@link ConversionHints#VALUE_JSON_TIME_ENCODING_COMPACT}.
+ *
+ * <p>
+ * {@link PartialDateTime} values are written using {@link PartialDateTime.CompactJsonSerializer}. {@link ZonedDateTime} values are written as an
+ * array of epoch seconds and zone offset seconds, followed by nano-of-second if not zero. Any {@code @JsonFormat} pattern of a {@code ZonedDateTime}
+ * property is ignored. Both compact and text representations are accepted when reading.
+ * </p>
+ *
+ * <p>
+ * This module must be registered after the Jackson JavaTime module.
+ * </p>
+ */
+public final class CompactTimeModule extends SimpleModule {
+    private static final long serialVersionUID = 3470569003718484431L;
+
+    public CompactTimeModule() {
+        super(CompactTimeModule.class.getSimpleName());
+        addSerializer(ZonedDateTime.class, new ZonedDateTimeSerializer());
+        addDeserializer(ZonedDateTime.class, new ZonedDateTimeDeserializer());
+        setMixInAnnotation(PartialDateTime.class, PartialDateTimeMixIn.class);
+    }
+
+    @JsonSerialize(using = PartialDateTime.CompactJsonSerializer.class)
+    @JsonDeserialize(using = PartialDateTime.CompactJsonDeserializer.class)
+    private abstract static class PartialDateTimeMixIn {
+    }
+
+    static final class ZonedDateTimeSerializer extends StdSerializer<ZonedDateTime> {
+        private static final long serialVersionUID = 5932585126411389914L;
+
+        ZonedDateTimeSerializer() {
+            super(ZonedDateTime.class);
+        }
+
+        @Override
+        public void serialize(final ZonedDateTime value, final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider)
+                throws IOException {
+            jsonGenerator.writeStartArray();
+            jsonGenerator.writeNumber(value.toEpochSecond());
+            jsonGenerator.writeNumber(value.getOffset().getTotalSeconds());
+            if (value.getNano() != 0) {
+                jsonGenerator.writeNumber(value.getNano());
+            }
+            jsonGenerator.writeEndArray();
+        }
+    }
+
+    static final class ZonedDateTimeDeserializer extends StdDeserializer<ZonedDateTime> {
+        private static final long serialVersionUID = -4210418545063212460L;
+
+        ZonedDateTimeDeserializer() {
+            super(ZonedDateTime.class);
+        }
+
+        @Override
+        public ZonedDateTime deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+            if (jsonParser.getCurrentToken() != JsonToken.START_ARRAY) {
+                return InstantDeserializer.ZONED_DATE_TIME.deserialize(jsonParser, deserializationContext);
+            }
+            final long epochSecond = nextLong(jsonParser, deserializationContext);
+            final int offsetSeconds = (int) nextLong(jsonParser, deserializationContext);
+            int nano = 0;
+            JsonToken token = jsonParser.nextToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                nano = jsonParser.getIntValue();
+                token = jsonParser.nextToken();
+            }
+            if (token != JsonToken.END_ARRAY) {
+                deserializationContext.reportWrongTokenException(this, jsonParser, JsonToken.END_ARRAY, "Invalid compact date-time");
+            }
+            try {
+                return ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nano), ZoneOffset.ofTotalSeconds(offsetSeconds));
+            } catch (final DateTimeException e) {
+                throw deserializationContext.weirdNumberException(epochSecond, ZonedDateTime.class, e.getMessage());
+            }
+        }
+
+        private long nextLong(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+            if (jsonParser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                deserializationContext.reportWrongTokenException(this, jsonParser, JsonToken.VALUE_NUMBER_INT, "Invalid compact date-time");
+            }
+            return jsonParser.getLongValue();
+        }
+    }
+}
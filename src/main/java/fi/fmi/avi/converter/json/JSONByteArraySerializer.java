@@ -0,0 +1,32 @@
+package fi.fmi.avi.converter.json;
+
+import fi.fmi.avi.converter.AviMessageSpecificConverter;
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+
+/**
+ * A serializer writing any kind of AviationWeatherMessage or bulletin as UTF-8 encoded JSON bytes.
+ * The output is identical to the corresponding String serializer, but it is written without creating an intermediate String.
+ *
+ * @param <T>
+ *         type of the serialized message
+ */
+public class JSONByteArraySerializer<T extends AviationWeatherMessageOrCollection> extends AbstractJSONSerializer
+        implements AviMessageSpecificConverter<T, byte[]> {
+
+    /**
+     * Converts a message object into UTF-8 encoded JSON.
+     *
+     * @param input
+     *         input message
+     * @param hints
+     *         parsing hints
+     *
+     * @return the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    @Override
+    public ConversionResult<byte[]> convertMessage(final T input, final ConversionHints hints) {
+        return doConvertMessageToBytes(input, hints);
+    }
+}
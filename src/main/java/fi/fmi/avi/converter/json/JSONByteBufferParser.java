@@ -0,0 +1,47 @@
+package fi.fmi.avi.converter.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+
+import fi.fmi.avi.converter.AviMessageSpecificConverter;
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+
+/**
+ * A parser for any kind of AviationWeatherMessage or bulletin from UTF-8 encoded JSON bytes in a ByteBuffer. The position of the buffer is not changed.
+ *
+ * @param <T>
+ *         type of the parsed message
+ */
+public class JSONByteBufferParser<T extends AviationWeatherMessageOrCollection> extends AbstractJSONParser implements AviMessageSpecificConverter<ByteBuffer, T> {
+
+    private final Class<T> clz;
+    private final Class<? extends T> implClz;
+
+    /**
+     * Creates a parser for the given message type.
+     *
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     */
+    public JSONByteBufferParser(final Class<T> clz, final Class<? extends T> implClz) {
+        this.clz = requireNonNull(clz, "clz");
+        this.implClz = requireNonNull(implClz, "implClz");
+    }
+
+    /**
+     * Converts a JSON message into a message object.
+     *
+     * @param input JSON as UTF-8 encoded bytes
+     * @param hints parsing hints
+     * @return the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    @Override
+    public ConversionResult<T> convertMessage(final ByteBuffer input, final ConversionHints hints) {
+        return doConvertMessage(input, clz, implClz, hints);
+    }
+}
@@ -0,0 +1,47 @@
+package fi.fmi.avi.converter.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+
+import fi.fmi.avi.converter.AviMessageSpecificConverter;
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+
+/**
+ * A parser for any kind of AviationWeatherMessage or bulletin from a JSON byte stream. The stream is not closed.
+ *
+ * @param <T>
+ *         type of the parsed message
+ */
+public class JSONInputStreamParser<T extends AviationWeatherMessageOrCollection> extends AbstractJSONParser implements AviMessageSpecificConverter<InputStream, T> {
+
+    private final Class<T> clz;
+    private final Class<? extends T> implClz;
+
+    /**
+     * Creates a parser for the given message type.
+     *
+     * @param clz
+     *         class of intended type of the parsed message
+     * @param implClz
+     *         the class containing the Jackson parsing annotations
+     */
+    public JSONInputStreamParser(final Class<T> clz, final Class<? extends T> implClz) {
+        this.clz = requireNonNull(clz, "clz");
+        this.implClz = requireNonNull(implClz, "implClz");
+    }
+
+    /**
+     * Converts a JSON message into a message object.
+     *
+     * @param input JSON byte stream
+     * @param hints parsing hints
+     * @return the {@link ConversionResult} with the converter message and the possible conversion issues
+     */
+    @Override
+    public ConversionResult<T> convertMessage(final InputStream input, final ConversionHints hints) {
+        return doConvertMessage(input, clz, implClz, hints);
+    }
+}
@@ -0,0 +1,164 @@
+package fi.fmi.avi.converter.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import fi.fmi.avi.converter.ConversionHints;
+
+/**
+ * Thread-safe holder of a pre-configured Jackson {@link ObjectMapper} and the {@link ObjectReader}s and {@link ObjectWriter}s derived from it.
+ *
+ * <p>
+ * Creating an {@code ObjectMapper} is expensive, and each new instance starts with empty (de)serializer caches. The JSON parsers and serializers in
+ * this package therefore share one instance of this class, and the readers and writers for each implementation class (e.g. {@code TAFImpl}) are
+ * created once on first use and reused thereafter.
+ * </p>
+ *
+ * <p>
+ * The wrapped {@code ObjectMapper} must not be reconfigured after it has been given to this class.
+ * </p>
+ */
+public final class ObjectMapperCache {
+
+    private static final ObjectMapperCache DEFAULT = new ObjectMapperCache(createDefaultObjectMapper());
+
+    private final ObjectMapper objectMapper;
+    private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> prettyWriters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, ObjectWriter> compactWriters = new ConcurrentHashMap<>();
+    private final boolean compactTimes;
+    @Nullable
+    private volatile ObjectMapperCache compactTimeCache;
+
+    /**
+     * Creates a cache around the provided {@code objectMapper}.
+     *
+     * @param objectMapper
+     *         fully configured object mapper
+     */
+    public ObjectMapperCache(final ObjectMapper objectMapper) {
+        this(objectMapper, false);
+    }
+
+    private ObjectMapperCache(final ObjectMapper objectMapper, final boolean compactTimes) {
+        this.objectMapper = requireNonNull(objectMapper, "objectMapper");
+        this.compactTimes = compactTimes;
+    }
+
+    /**
+     * Returns the shared default instance using an object mapper created by {@link #createDefaultObjectMapper()}.
+     *
+     * @return the shared default instance
+     */
+    public static ObjectMapperCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Creates a new object mapper configured as required by the JSON conversions (Jackson modules Jdk8 and JavaTime registered).
+     *
+     * @return a new object mapper
+     */
+    public static ObjectMapper createDefaultObjectMapper() {
+        final ObjectMapper om = new ObjectMapper();
+        om.registerModule(new Jdk8Module());
+        om.registerModule(new JavaTimeModule());
+        return om;
+    }
+
+    /**
+     * Returns the wrapped object mapper.
+     *
+     * @return the object mapper
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Returns a cache whose object mapper is a copy of the wrapped object mapper with {@link CompactTimeModule} registered. The cache is created on
+     * the first call and the same instance is returned on subsequent calls. If this cache already writes times in compact form, this cache is
+     * returned.
+     *
+     * @return cache writing partial and complete times in compact form
+     */
+    public ObjectMapperCache getCompactTimeCache() {
+        if (compactTimes) {
+            return this;
+        }
+        ObjectMapperCache cache = compactTimeCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = compactTimeCache;
+                if (cache == null) {
+                    cache = new ObjectMapperCache(objectMapper.copy().registerModule(new CompactTimeModule()), true);
+                    compactTimeCache = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Returns the cache to use for a conversion with provided hints. This is the {@link #getCompactTimeCache() compact time cache} if the hint
+     * {@link ConversionHints#KEY_JSON_TIME_ENCODING} is set to {@link ConversionHints#VALUE_JSON_TIME_ENCODING_COMPACT}, and this cache otherwise.
+     *
+     * @param hints
+     *         conversion hints or {@code null}
+     *
+     * @return cache for a conversion with {@code hints}
+     */
+    public ObjectMapperCache forHints(@Nullable final ConversionHints hints) {
+        if (hints != null && ConversionHints.VALUE_JSON_TIME_ENCODING_COMPACT.equals(hints.get(ConversionHints.KEY_JSON_TIME_ENCODING))) {
+            return getCompactTimeCache();
+        }
+        return this;
+    }
+
+    /**
+     * Returns a reader for the given value type. The reader is created on the first call and the same instance is returned on subsequent calls.
+     *
+     * @param valueType
+     *         the type to read
+     *
+     * @return reader for {@code valueType}
+     */
+    public ObjectReader getReader(final Class<?> valueType) {
+        requireNonNull(valueType, "valueType");
+        return readers.computeIfAbsent(valueType, objectMapper::readerFor);
+    }
+
+    /**
+     * Returns a writer for the given value type. The writer is created on the first call and the same instance is returned on subsequent calls
+     * with the same arguments.
+     *
+     * <p>
+     * The {@code valueType} should be the runtime class of the value to write, as the serializer is resolved for exactly that type.
+     * </p>
+     *
+     * @param valueType
+     *         the type to write
+     * @param prettyPrint
+     *         {@code true} for indented output, {@code false} for compact output
+     *
+     * @return writer for {@code valueType}
+     */
+    public ObjectWriter getWriter(final Class<?> valueType, final boolean prettyPrint) {
+        requireNonNull(valueType, "valueType");
+        if (prettyPrint) {
+            return prettyWriters.computeIfAbsent(valueType, type -> objectMapper.writerFor(type).withDefaultPrettyPrinter());
+        } else {
+            return compactWriters.computeIfAbsent(valueType, objectMapper::writerFor);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package fi.fmi.avi.converter.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionIssue;
+import fi.fmi.avi.converter.IssueList;
+import fi.fmi.avi.model.AviationWeatherMessage;
+import fi.fmi.avi.model.GenericAviationWeatherMessage;
+import fi.fmi.avi.model.bulletin.BulletinHeading;
+import fi.fmi.avi.model.bulletin.immutable.BulletinHeadingImpl;
+import fi.fmi.avi.model.bulletin.immutable.GenericMeteorologicalBulletinImpl;
+import fi.fmi.avi.model.immutable.GenericAviationWeatherMessageImpl;
+import fi.fmi.avi.model.sigmet.SIGMET;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETBulletinImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETImpl;
+import fi.fmi.avi.model.taf.TAF;
+import fi.fmi.avi.model.taf.immutable.TAFBulletinImpl;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
+
+/**
+ * Parses a JSON bulletin incrementally, handing each contained message to a {@link Handler} as soon as it has been decoded.
+ *
+ * <p>
+ * Unlike {@link TAFBulletinJSONParser}, {@link SIGMETBulletinJSONParser} and {@link GenericMeteorologicalBulletinJSONParser}, this parser never
+ * holds more than one message of the bulletin in memory. The JSON document structure is the same as for the corresponding bulletin parsers.
+ * The heading is validated with the same rules as when building the corresponding bulletin object.
+ * </p>
+ *
+ * <p>
+ * The bulletin properties are reported to the handler in the order they appear in the document. Documents written by the JSON serializers
+ * of this library have the heading before the messages.
+ * </p>
+ *
+ * @param <T>
+ *         type of the messages contained in the bulletin
+ */
+public class StreamingBulletinJSONParser<T extends AviationWeatherMessage> extends AbstractJSONParser {
+
+    private final Class<? extends T> messageImplClz;
+    private final Consumer<BulletinHeading> headingValidator;
+
+    /**
+     * Creates a streaming parser for bulletins with messages of the given implementation class.
+     *
+     * @param messageImplClz
+     *         the message class containing the Jackson parsing annotations
+     * @param headingValidator
+     *         validator of the bulletin heading, throwing an {@link IllegalArgumentException} if the heading is not acceptable
+     */
+    public StreamingBulletinJSONParser(final Class<? extends T> messageImplClz, final Consumer<BulletinHeading> headingValidator) {
+        this.messageImplClz = requireNonNull(messageImplClz, "messageImplClz");
+        this.headingValidator = requireNonNull(headingValidator, "headingValidator");
+    }
+
+    /**
+     * Creates a streaming parser for TAF bulletins.
+     *
+     * @return a new parser
+     */
+    public static StreamingBulletinJSONParser<TAF> forTAFBulletins() {
+        return new StreamingBulletinJSONParser<>(TAFImpl.class, heading -> TAFBulletinImpl.builder().setHeading(heading));
+    }
+
+    /**
+     * Creates a streaming parser for SIGMET bulletins.
+     *
+     * @return a new parser
+     */
+    public static StreamingBulletinJSONParser<SIGMET> forSIGMETBulletins() {
+        return new StreamingBulletinJSONParser<>(SIGMETImpl.class, heading -> SIGMETBulletinImpl.builder().setHeading(heading));
+    }
+
+    /**
+     * Creates a streaming parser for generic meteorological bulletins.
+     *
+     * @return a new parser
+     */
+    public static StreamingBulletinJSONParser<GenericAviationWeatherMessage> forGenericBulletins() {
+        return new StreamingBulletinJSONParser<>(GenericAviationWeatherMessageImpl.class,
+                heading -> GenericMeteorologicalBulletinImpl.builder().setHeading(heading));
+    }
+
+    /**
+     * Parses the JSON bulletin from the given stream. The stream is not closed.
+     *
+     * @param input
+     *         JSON bulletin as UTF-8 encoded byte stream
+     * @param handler
+     *         receiver of the parsed bulletin content
+     * @param hints
+     *         conversion hints to guide the process
+     *
+     * @return the issues encountered; empty if the whole bulletin was parsed successfully
+     */
+    public IssueList parse(final InputStream input, final Handler<? super T> handler, final ConversionHints hints) {
+        requireNonNull(input, "input");
+        requireNonNull(handler, "handler");
+        final ObjectMapperCache cache = getObjectMapperCache().forHints(hints);
+        final JsonFactory factory = cache.getObjectMapper().getFactory();
+        final IssueList issues = new IssueList();
+        try (JsonParser parser = factory.createParser(input)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            parse(parser, cache, handler, issues);
+        } catch (final IOException e) {
+            issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error parsing JSON", e);
+        }
+        return issues;
+    }
+
+    /**
+     * Parses the JSON bulletin from the given String.
+     *
+     * @param input
+     *         JSON bulletin as a String
+     * @param handler
+     *         receiver of the parsed bulletin content
+     * @param hints
+     *         conversion hints to guide the process
+     *
+     * @return the issues encountered; empty if the whole bulletin was parsed successfully
+     */
+    public IssueList parse(final String input, final Handler<? super T> handler, final ConversionHints hints) {
+        requireNonNull(input, "input");
+        requireNonNull(handler, "handler");
+        final ObjectMapperCache cache = getObjectMapperCache().forHints(hints);
+        final JsonFactory factory = cache.getObjectMapper().getFactory();
+        final IssueList issues = new IssueList();
+        try (JsonParser parser = factory.createParser(input)) {
+            parse(parser, cache, handler, issues);
+        } catch (final IOException e) {
+            issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.OTHER, "Error parsing JSON", e);
+        }
+        return issues;
+    }
+
+    private void parse(final JsonParser parser, final ObjectMapperCache cache, final Handler<? super T> handler, final IssueList issues)
+            throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.SYNTAX, "Expected a JSON object for the bulletin");
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.getCurrentName();
+            final JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (fieldName) {
+                case "heading":
+                    final BulletinHeading heading = cache.getReader(BulletinHeadingImpl.class).readValue(parser);
+                    try {
+                        headingValidator.accept(heading);
+                    } catch (final IllegalArgumentException e) {
+                        issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.LOGICAL, "Invalid bulletin heading", e);
+                        return;
+                    }
+                    handler.onHeading(heading);
+                    break;
+                case "messages":
+                    if (valueToken != JsonToken.START_ARRAY) {
+                        issues.add(ConversionIssue.Severity.ERROR, ConversionIssue.Type.SYNTAX, "Expected a JSON array for the bulletin messages");
+                        return;
+                    }
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        final T message = cache.getReader(messageImplClz).readValue(parser);
+                        handler.onMessage(message);
+                    }
+                    break;
+                case "timeStamp":
+                    handler.onTimeStamp(cache.getReader(ZonedDateTime.class).readValue(parser));
+                    break;
+                case "timeStampFields":
+                    final ChronoField[] fields = cache.getReader(ChronoField[].class).readValue(parser);
+                    handler.onTimeStampFields(fields.length == 0 ? Collections.emptySet() : EnumSet.copyOf(Arrays.asList(fields)));
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Receiver of the bulletin content decoded by {@link StreamingBulletinJSONParser}.
+     *
+     * @param <T>
+     *         type of the messages contained in the bulletin
+     */
+    @FunctionalInterface
+    public interface Handler<T extends AviationWeatherMessage> {
+
+        /**
+         * Called once the bulletin heading has been decoded and validated.
+         *
+         * @param heading
+         *         the bulletin heading
+         */
+        default void onHeading(final BulletinHeading heading) {
+        }
+
+        /**
+         * Called for each message of the bulletin, in document order.
+         *
+         * @param message
+         *         the decoded message
+         */
+        void onMessage(T message);
+
+        /**
+         * Called once the bulletin time stamp has been decoded.
+         *
+         * @param timeStamp
+         *         the bulletin time stamp
+         */
+        default void onTimeStamp(final ZonedDateTime timeStamp) {
+        }
+
+        /**
+         * Called once the significant fields of the bulletin time stamp have been decoded.
+         *
+         * @param timeStampFields
+         *         the significant time stamp fields
+         */
+        default void onTimeStampFields(final Set<ChronoField> timeStampFields) {
+        }
+    }
+}
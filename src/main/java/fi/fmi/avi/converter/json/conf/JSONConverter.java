@@ -1,5 +1,8 @@
 package fi.fmi.avi.converter.json.conf;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,26 +12,41 @@ import fi.fmi.avi.converter.json.AIRMETJSONParser;
 import fi.fmi.avi.converter.json.AIRMETJSONSerializer;
 import fi.fmi.avi.converter.json.GenericMeteorologicalBulletinJSONParser;
 import fi.fmi.avi.converter.json.GenericMeteorologicalBulletinJSONSerializer;
+import fi.fmi.avi.converter.json.JSONByteArrayParser;
+import fi.fmi.avi.converter.json.JSONByteArraySerializer;
+import fi.fmi.avi.converter.json.JSONByteBufferParser;
+import fi.fmi.avi.converter.json.JSONInputStreamParser;
 import fi.fmi.avi.converter.json.METARJSONParser;
 import fi.fmi.avi.converter.json.METARJSONSerializer;
+import fi.fmi.avi.converter.json.ObjectMapperCache;
 import fi.fmi.avi.converter.json.SIGMETBulletinJSONParser;
 import fi.fmi.avi.converter.json.SIGMETBulletinJSONSerializer;
 import fi.fmi.avi.converter.json.SIGMETJSONParser;
 import fi.fmi.avi.converter.json.SIGMETJSONSerializer;
 import fi.fmi.avi.converter.json.SpaceWeatherAdvisoryJSONParser;
 import fi.fmi.avi.converter.json.SpaceWeatherAdvisoryJSONSerializer;
+import fi.fmi.avi.converter.json.StreamingBulletinJSONParser;
 import fi.fmi.avi.converter.json.TAFBulletinJSONParser;
 import fi.fmi.avi.converter.json.TAFBulletinJSONSerializer;
 import fi.fmi.avi.converter.json.TAFJSONParser;
 import fi.fmi.avi.converter.json.TAFJSONSerializer;
+import fi.fmi.avi.model.GenericAviationWeatherMessage;
 import fi.fmi.avi.model.bulletin.GenericMeteorologicalBulletin;
+import fi.fmi.avi.model.bulletin.immutable.GenericMeteorologicalBulletinImpl;
 import fi.fmi.avi.model.metar.METAR;
+import fi.fmi.avi.model.metar.immutable.METARImpl;
 import fi.fmi.avi.model.sigmet.AIRMET;
 import fi.fmi.avi.model.sigmet.SIGMET;
 import fi.fmi.avi.model.sigmet.SIGMETBulletin;
+import fi.fmi.avi.model.sigmet.immutable.AIRMETImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETBulletinImpl;
+import fi.fmi.avi.model.sigmet.immutable.SIGMETImpl;
 import fi.fmi.avi.model.swx.SpaceWeatherAdvisory;
+import fi.fmi.avi.model.swx.immutable.SpaceWeatherAdvisoryImpl;
 import fi.fmi.avi.model.taf.TAF;
 import fi.fmi.avi.model.taf.TAFBulletin;
+import fi.fmi.avi.model.taf.immutable.TAFBulletinImpl;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
 
 /**
  * Spring configuration for Java POJO and JSON conversion.
@@ -87,6 +105,54 @@ public class JSONConverter {
             ConversionSpecification<>(
             GenericMeteorologicalBulletin.class, String.class, null, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON");
 
+    /**
+     * Pre-configured spec for {@link TAF} to fmi-avi-messageconverter JSON TAF document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<TAF, byte[]> TAF_POJO_TO_JSON_BYTES = new ConversionSpecification<>(TAF.class, byte[].class,
+            null, "TAF, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for {@link METAR} to fmi-avi-messageconverter JSON METAR document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<METAR, byte[]> METAR_POJO_TO_JSON_BYTES = new ConversionSpecification<>(METAR.class, byte[].class,
+            null, "METAR, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for {@link SIGMET} to fmi-avi-messageconverter JSON SIGMET document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<SIGMET, byte[]> SIGMET_POJO_TO_JSON_BYTES = new ConversionSpecification<>(SIGMET.class, byte[].class,
+            null, "SIGMET, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for {@link SpaceWeatherAdvisory} to fmi-avi-messageconverter JSON SWX document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<SpaceWeatherAdvisory, byte[]> SWX_POJO_TO_JSON_BYTES = new ConversionSpecification<>(SpaceWeatherAdvisory.class, byte[].class,
+            null, "SWX, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for {@link AIRMET} to fmi-avi-messageconverter JSON AIRMET document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<AIRMET, byte[]> AIRMET_POJO_TO_JSON_BYTES = new ConversionSpecification<>(AIRMET.class, byte[].class,
+            null, "AIRMET, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for {@link TAFBulletin} to fmi-avi-messageconverter JSON TAFBulletin document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<TAFBulletin, byte[]> TAF_BULLETIN_POJO_TO_JSON_BYTES = new ConversionSpecification<>(TAFBulletin.class, byte[].class,
+            null, "TAFBulletin, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for {@link SIGMETBulletin} to fmi-avi-messageconverter JSON SIGMETBulletin document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<SIGMETBulletin, byte[]> SIGMET_BULLETIN_POJO_TO_JSON_BYTES = new ConversionSpecification<>(SIGMETBulletin.class, byte[].class,
+            null, "SIGMETBulletin, fmi-avi-messageconverter JSON");
+
+    /**
+     * Pre-configured spec for {@link GenericMeteorologicalBulletin} to fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document as UTF-8 encoded bytes.
+     */
+    public static final ConversionSpecification<GenericMeteorologicalBulletin, byte[]> GENERIC_METEOROLOGICAL_BULLETIN_POJO_TO_JSON_BYTES = new ConversionSpecification<>(GenericMeteorologicalBulletin.class, byte[].class,
+            null, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON");
+
     /**
      * Pre-configured spec for fmi-avi-messageconverter JSON TAF document String to {@link TAF}.
      */
@@ -136,83 +202,516 @@ public class JSONConverter {
     public static final ConversionSpecification<String, GenericMeteorologicalBulletin> JSON_STRING_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(String.class,
             GenericMeteorologicalBulletin.class, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON", null);
 
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAF document as UTF-8 encoded bytes to {@link TAF}.
+     */
+    public static final ConversionSpecification<byte[], TAF> JSON_BYTES_TO_TAF_POJO = new ConversionSpecification<>(byte[].class,
+            TAF.class, "TAF, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document as UTF-8 encoded bytes to {@link SpaceWeatherAdvisory}.
+     */
+    public static final ConversionSpecification<byte[], SpaceWeatherAdvisory> JSON_BYTES_TO_SWX_POJO = new ConversionSpecification<>(byte[].class,
+            SpaceWeatherAdvisory.class, "SWX, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON METAR document as UTF-8 encoded bytes to {@link METAR}.
+     */
+    public static final ConversionSpecification<byte[], METAR> JSON_BYTES_TO_METAR_POJO = new ConversionSpecification<>(byte[].class,
+            METAR.class, "METAR, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMET document as UTF-8 encoded bytes to {@link SIGMET}.
+     */
+    public static final ConversionSpecification<byte[], SIGMET> JSON_BYTES_TO_SIGMET_POJO = new ConversionSpecification<>(byte[].class,
+            SIGMET.class, "SIGMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAFBulletin document as UTF-8 encoded bytes to {@link TAFBulletin}.
+     */
+    public static final ConversionSpecification<byte[], TAFBulletin> JSON_BYTES_TO_TAF_BULLETIN_POJO = new ConversionSpecification<>(byte[].class,
+            TAFBulletin.class, "TAFBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMETBulletin document as UTF-8 encoded bytes to {@link SIGMETBulletin}.
+     */
+    public static final ConversionSpecification<byte[], SIGMETBulletin> JSON_BYTES_TO_SIGMET_BULLETIN_POJO = new ConversionSpecification<>(byte[].class,
+            SIGMETBulletin.class, "SIGMETBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON AIRMET document as UTF-8 encoded bytes to {@link AIRMET}.
+     */
+    public static final ConversionSpecification<byte[], AIRMET> JSON_BYTES_TO_AIRMET_POJO = new ConversionSpecification<>(byte[].class,
+            AIRMET.class, "AIRMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document as UTF-8 encoded bytes to {@link GenericMeteorologicalBulletin}.
+     */
+    public static final ConversionSpecification<byte[], GenericMeteorologicalBulletin> JSON_BYTES_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(byte[].class,
+            GenericMeteorologicalBulletin.class, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAF document as UTF-8 encoded InputStream to {@link TAF}.
+     */
+    public static final ConversionSpecification<InputStream, TAF> JSON_STREAM_TO_TAF_POJO = new ConversionSpecification<>(InputStream.class,
+            TAF.class, "TAF, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document as UTF-8 encoded InputStream to {@link SpaceWeatherAdvisory}.
+     */
+    public static final ConversionSpecification<InputStream, SpaceWeatherAdvisory> JSON_STREAM_TO_SWX_POJO = new ConversionSpecification<>(InputStream.class,
+            SpaceWeatherAdvisory.class, "SWX, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON METAR document as UTF-8 encoded InputStream to {@link METAR}.
+     */
+    public static final ConversionSpecification<InputStream, METAR> JSON_STREAM_TO_METAR_POJO = new ConversionSpecification<>(InputStream.class,
+            METAR.class, "METAR, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMET document as UTF-8 encoded InputStream to {@link SIGMET}.
+     */
+    public static final ConversionSpecification<InputStream, SIGMET> JSON_STREAM_TO_SIGMET_POJO = new ConversionSpecification<>(InputStream.class,
+            SIGMET.class, "SIGMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAFBulletin document as UTF-8 encoded InputStream to {@link TAFBulletin}.
+     */
+    public static final ConversionSpecification<InputStream, TAFBulletin> JSON_STREAM_TO_TAF_BULLETIN_POJO = new ConversionSpecification<>(InputStream.class,
+            TAFBulletin.class, "TAFBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMETBulletin document as UTF-8 encoded InputStream to {@link SIGMETBulletin}.
+     */
+    public static final ConversionSpecification<InputStream, SIGMETBulletin> JSON_STREAM_TO_SIGMET_BULLETIN_POJO = new ConversionSpecification<>(InputStream.class,
+            SIGMETBulletin.class, "SIGMETBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON AIRMET document as UTF-8 encoded InputStream to {@link AIRMET}.
+     */
+    public static final ConversionSpecification<InputStream, AIRMET> JSON_STREAM_TO_AIRMET_POJO = new ConversionSpecification<>(InputStream.class,
+            AIRMET.class, "AIRMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document as UTF-8 encoded InputStream to {@link GenericMeteorologicalBulletin}.
+     */
+    public static final ConversionSpecification<InputStream, GenericMeteorologicalBulletin> JSON_STREAM_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(InputStream.class,
+            GenericMeteorologicalBulletin.class, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAF document as UTF-8 encoded ByteBuffer to {@link TAF}.
+     */
+    public static final ConversionSpecification<ByteBuffer, TAF> JSON_BYTE_BUFFER_TO_TAF_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            TAF.class, "TAF, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SWX document as UTF-8 encoded ByteBuffer to {@link SpaceWeatherAdvisory}.
+     */
+    public static final ConversionSpecification<ByteBuffer, SpaceWeatherAdvisory> JSON_BYTE_BUFFER_TO_SWX_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            SpaceWeatherAdvisory.class, "SWX, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON METAR document as UTF-8 encoded ByteBuffer to {@link METAR}.
+     */
+    public static final ConversionSpecification<ByteBuffer, METAR> JSON_BYTE_BUFFER_TO_METAR_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            METAR.class, "METAR, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMET document as UTF-8 encoded ByteBuffer to {@link SIGMET}.
+     */
+    public static final ConversionSpecification<ByteBuffer, SIGMET> JSON_BYTE_BUFFER_TO_SIGMET_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            SIGMET.class, "SIGMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON TAFBulletin document as UTF-8 encoded ByteBuffer to {@link TAFBulletin}.
+     */
+    public static final ConversionSpecification<ByteBuffer, TAFBulletin> JSON_BYTE_BUFFER_TO_TAF_BULLETIN_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            TAFBulletin.class, "TAFBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON SIGMETBulletin document as UTF-8 encoded ByteBuffer to {@link SIGMETBulletin}.
+     */
+    public static final ConversionSpecification<ByteBuffer, SIGMETBulletin> JSON_BYTE_BUFFER_TO_SIGMET_BULLETIN_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            SIGMETBulletin.class, "SIGMETBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON AIRMET document as UTF-8 encoded ByteBuffer to {@link AIRMET}.
+     */
+    public static final ConversionSpecification<ByteBuffer, AIRMET> JSON_BYTE_BUFFER_TO_AIRMET_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            AIRMET.class, "AIRMET, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * Pre-configured spec for fmi-avi-messageconverter JSON GenericMeteorologicalBulletin document as UTF-8 encoded ByteBuffer to {@link GenericMeteorologicalBulletin}.
+     */
+    public static final ConversionSpecification<ByteBuffer, GenericMeteorologicalBulletin> JSON_BYTE_BUFFER_TO_GENERIC_BULLETIN_POJO = new ConversionSpecification<>(ByteBuffer.class,
+            GenericMeteorologicalBulletin.class, "GenericMeteorologicalBulletin, fmi-avi-messageconverter JSON", null);
+
+    /**
+     * The shared Jackson object mapper and reader/writer cache used by the JSON parsers and serializers.
+     *
+     * @return the object mapper cache
+     */
+    @Bean
+    public ObjectMapperCache jsonObjectMapperCache() {
+        return ObjectMapperCache.getDefault();
+    }
+
     @Bean
     public AviMessageSpecificConverter<METAR, String> metarJSONSerializer() {
-        return new METARJSONSerializer();
+        final METARJSONSerializer serializer = new METARJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
     }
 
     @Bean
     public AviMessageSpecificConverter<TAF, String> tafJSONSerializer() {
-        return new TAFJSONSerializer();
+        final TAFJSONSerializer serializer = new TAFJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
     }
 
     @Bean
     public AviMessageSpecificConverter<SIGMET, String> sigmetJSONSerializer() {
-        return new SIGMETJSONSerializer();
+        final SIGMETJSONSerializer serializer = new SIGMETJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
     }
 
     @Bean
     public AviMessageSpecificConverter<SpaceWeatherAdvisory, String> swxJSONSerializer() {
-        return new SpaceWeatherAdvisoryJSONSerializer();
+        final SpaceWeatherAdvisoryJSONSerializer serializer = new SpaceWeatherAdvisoryJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
     }
 
     @Bean
     public AviMessageSpecificConverter<SIGMETBulletin, String> sigmetBulletinJSONSerializer() {
-        return new SIGMETBulletinJSONSerializer();
+        final SIGMETBulletinJSONSerializer serializer = new SIGMETBulletinJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
     }
 
     @Bean
     public AviMessageSpecificConverter<GenericMeteorologicalBulletin, String> genericBulletinJSONSerializer() {
-        return new GenericMeteorologicalBulletinJSONSerializer();
+        final GenericMeteorologicalBulletinJSONSerializer serializer = new GenericMeteorologicalBulletinJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
     }
 
     @Bean
     public AviMessageSpecificConverter<TAFBulletin, String> tafBulletinJSONSerializer() {
-        return new TAFBulletinJSONSerializer();
+        final TAFBulletinJSONSerializer serializer = new TAFBulletinJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
     }
 
     @Bean
     public AviMessageSpecificConverter<String, TAF> tafJSONParser() {
-        return new TAFJSONParser();
+        final TAFJSONParser parser = new TAFJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
     @Bean
     public AviMessageSpecificConverter<String, METAR> metarJSONParser() {
-        return new METARJSONParser();
+        final METARJSONParser parser = new METARJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
     @Bean
     public AviMessageSpecificConverter<String, SIGMET> sigmetJSONParser() {
-        return new SIGMETJSONParser();
+        final SIGMETJSONParser parser = new SIGMETJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
     @Bean
     public AviMessageSpecificConverter<String, SpaceWeatherAdvisory> swxJSONParser() {
-        return new SpaceWeatherAdvisoryJSONParser();
+        final SpaceWeatherAdvisoryJSONParser parser = new SpaceWeatherAdvisoryJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
     @Bean
-    public AviMessageSpecificConverter<String, AIRMET> airmetJSONParser() {return new AIRMETJSONParser();}
+    public AviMessageSpecificConverter<String, AIRMET> airmetJSONParser() {
+        final AIRMETJSONParser parser = new AIRMETJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
 
     @Bean
     public AviMessageSpecificConverter<String, TAFBulletin> tafBulletinJSONParser() {
-        return new TAFBulletinJSONParser();
+        final TAFBulletinJSONParser parser = new TAFBulletinJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
     @Bean
     public AviMessageSpecificConverter<String, SIGMETBulletin> sigmetBulletinJSONParser() {
-        return new SIGMETBulletinJSONParser();
+        final SIGMETBulletinJSONParser parser = new SIGMETBulletinJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
     @Bean
     public AviMessageSpecificConverter<String, GenericMeteorologicalBulletin> genericBulletinJSONParser() {
-        return new GenericMeteorologicalBulletinJSONParser();
+        final GenericMeteorologicalBulletinJSONParser parser = new GenericMeteorologicalBulletinJSONParser();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
 
     @Bean(name = "airmetJSONSerializer")
     public AviMessageSpecificConverter<AIRMET, String> airmetJSONSerializer() {
-        return new AIRMETJSONSerializer();
+        final AIRMETJSONSerializer serializer = new AIRMETJSONSerializer();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<TAF, byte[]> tafJSONBytesSerializer() {
+        final JSONByteArraySerializer<TAF> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<METAR, byte[]> metarJSONBytesSerializer() {
+        final JSONByteArraySerializer<METAR> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<SIGMET, byte[]> sigmetJSONBytesSerializer() {
+        final JSONByteArraySerializer<SIGMET> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<SpaceWeatherAdvisory, byte[]> swxJSONBytesSerializer() {
+        final JSONByteArraySerializer<SpaceWeatherAdvisory> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<AIRMET, byte[]> airmetJSONBytesSerializer() {
+        final JSONByteArraySerializer<AIRMET> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<TAFBulletin, byte[]> tafBulletinJSONBytesSerializer() {
+        final JSONByteArraySerializer<TAFBulletin> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<SIGMETBulletin, byte[]> sigmetBulletinJSONBytesSerializer() {
+        final JSONByteArraySerializer<SIGMETBulletin> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<GenericMeteorologicalBulletin, byte[]> genericBulletinJSONBytesSerializer() {
+        final JSONByteArraySerializer<GenericMeteorologicalBulletin> serializer = new JSONByteArraySerializer<>();
+        serializer.setObjectMapperCache(jsonObjectMapperCache());
+        return serializer;
+    }
+
+    @Bean
+    public StreamingBulletinJSONParser<TAF> tafBulletinJSONStreamingParser() {
+        final StreamingBulletinJSONParser<TAF> parser = StreamingBulletinJSONParser.forTAFBulletins();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public StreamingBulletinJSONParser<SIGMET> sigmetBulletinJSONStreamingParser() {
+        final StreamingBulletinJSONParser<SIGMET> parser = StreamingBulletinJSONParser.forSIGMETBulletins();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public StreamingBulletinJSONParser<GenericAviationWeatherMessage> genericBulletinJSONStreamingParser() {
+        final StreamingBulletinJSONParser<GenericAviationWeatherMessage> parser = StreamingBulletinJSONParser.forGenericBulletins();
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], TAF> tafJSONBytesParser() {
+        final JSONByteArrayParser<TAF> parser = new JSONByteArrayParser<>(TAF.class, TAFImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], SpaceWeatherAdvisory> swxJSONBytesParser() {
+        final JSONByteArrayParser<SpaceWeatherAdvisory> parser = new JSONByteArrayParser<>(SpaceWeatherAdvisory.class, SpaceWeatherAdvisoryImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], METAR> metarJSONBytesParser() {
+        final JSONByteArrayParser<METAR> parser = new JSONByteArrayParser<>(METAR.class, METARImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], SIGMET> sigmetJSONBytesParser() {
+        final JSONByteArrayParser<SIGMET> parser = new JSONByteArrayParser<>(SIGMET.class, SIGMETImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], TAFBulletin> tafBulletinJSONBytesParser() {
+        final JSONByteArrayParser<TAFBulletin> parser = new JSONByteArrayParser<>(TAFBulletin.class, TAFBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], SIGMETBulletin> sigmetBulletinJSONBytesParser() {
+        final JSONByteArrayParser<SIGMETBulletin> parser = new JSONByteArrayParser<>(SIGMETBulletin.class, SIGMETBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], AIRMET> airmetJSONBytesParser() {
+        final JSONByteArrayParser<AIRMET> parser = new JSONByteArrayParser<>(AIRMET.class, AIRMETImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<byte[], GenericMeteorologicalBulletin> genericBulletinJSONBytesParser() {
+        final JSONByteArrayParser<GenericMeteorologicalBulletin> parser = new JSONByteArrayParser<>(GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, TAF> tafJSONStreamParser() {
+        final JSONInputStreamParser<TAF> parser = new JSONInputStreamParser<>(TAF.class, TAFImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, SpaceWeatherAdvisory> swxJSONStreamParser() {
+        final JSONInputStreamParser<SpaceWeatherAdvisory> parser = new JSONInputStreamParser<>(SpaceWeatherAdvisory.class, SpaceWeatherAdvisoryImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, METAR> metarJSONStreamParser() {
+        final JSONInputStreamParser<METAR> parser = new JSONInputStreamParser<>(METAR.class, METARImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, SIGMET> sigmetJSONStreamParser() {
+        final JSONInputStreamParser<SIGMET> parser = new JSONInputStreamParser<>(SIGMET.class, SIGMETImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, TAFBulletin> tafBulletinJSONStreamParser() {
+        final JSONInputStreamParser<TAFBulletin> parser = new JSONInputStreamParser<>(TAFBulletin.class, TAFBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, SIGMETBulletin> sigmetBulletinJSONStreamParser() {
+        final JSONInputStreamParser<SIGMETBulletin> parser = new JSONInputStreamParser<>(SIGMETBulletin.class, SIGMETBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, AIRMET> airmetJSONStreamParser() {
+        final JSONInputStreamParser<AIRMET> parser = new JSONInputStreamParser<>(AIRMET.class, AIRMETImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<InputStream, GenericMeteorologicalBulletin> genericBulletinJSONStreamParser() {
+        final JSONInputStreamParser<GenericMeteorologicalBulletin> parser = new JSONInputStreamParser<>(GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, TAF> tafJSONByteBufferParser() {
+        final JSONByteBufferParser<TAF> parser = new JSONByteBufferParser<>(TAF.class, TAFImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, SpaceWeatherAdvisory> swxJSONByteBufferParser() {
+        final JSONByteBufferParser<SpaceWeatherAdvisory> parser = new JSONByteBufferParser<>(SpaceWeatherAdvisory.class, SpaceWeatherAdvisoryImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, METAR> metarJSONByteBufferParser() {
+        final JSONByteBufferParser<METAR> parser = new JSONByteBufferParser<>(METAR.class, METARImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, SIGMET> sigmetJSONByteBufferParser() {
+        final JSONByteBufferParser<SIGMET> parser = new JSONByteBufferParser<>(SIGMET.class, SIGMETImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, TAFBulletin> tafBulletinJSONByteBufferParser() {
+        final JSONByteBufferParser<TAFBulletin> parser = new JSONByteBufferParser<>(TAFBulletin.class, TAFBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, SIGMETBulletin> sigmetBulletinJSONByteBufferParser() {
+        final JSONByteBufferParser<SIGMETBulletin> parser = new JSONByteBufferParser<>(SIGMETBulletin.class, SIGMETBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, AIRMET> airmetJSONByteBufferParser() {
+        final JSONByteBufferParser<AIRMET> parser = new JSONByteBufferParser<>(AIRMET.class, AIRMETImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
+    }
+
+    @Bean
+    public AviMessageSpecificConverter<ByteBuffer, GenericMeteorologicalBulletin> genericBulletinJSONByteBufferParser() {
+        final JSONByteBufferParser<GenericMeteorologicalBulletin> parser = new JSONByteBufferParser<>(GenericMeteorologicalBulletin.class, GenericMeteorologicalBulletinImpl.class);
+        parser.setObjectMapperCache(jsonObjectMapperCache());
+        return parser;
     }
 
 }
@@ -2,18 +2,28 @@ package fi.fmi.avi.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
+import java.time.temporal.TemporalField;
 import java.time.temporal.TemporalQueries;
 import java.time.temporal.TemporalUnit;
 import java.util.EnumSet;
@@ -24,30 +34,39 @@ import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.util.StdConverter;
 
 /**
  * Representation of a partial date-time.
  *
  * <p id="continuous-fields">
- * A PartialDateTime may consists of any <em>continuous</em> combination of {@link PartialField#DAY day}, {@link PartialField#HOUR hour} and
- * {@link PartialField#MINUTE minute} with and without time zone. A continuous combination is a combination containing all fields between most and least
- * significant field. E.g. combinations of just day, day and hour or all day, hour and minute. But combination of day and minute is not allowed as it is
- * missing hour in between.
+ * A PartialDateTime may consists of any <em>continuous</em> combination of {@link PartialField#YEAR year}, {@link PartialField#MONTH month},
+ * {@link PartialField#DAY day}, {@link PartialField#HOUR hour}, {@link PartialField#MINUTE minute} and {@link PartialField#SECOND second} with and
+ * without time zone. A continuous combination is a combination containing all fields between most and least significant field. E.g. combinations of just
+ * day, day and hour or all day, hour and minute. But combination of day and minute is not allowed as it is missing hour in between.
  * </p>
  *
  * <p>
- * Field values are not validated against valid calendar values, but may be anything between 0-99. Validation shall be done outside this class, e.g. when
- * completing a PartialDateTime into a {@link ZonedDateTime}.
+ * Field values are not validated against valid calendar values, but may be anything between 0-99, or 0-9999 for year. Validation shall be done outside
+ * this class, e.g. when completing a PartialDateTime into a {@link ZonedDateTime}. All field values are packed into a single {@code long}.
+ * </p>
+ *
+ * <p>
+ * Instances of common values, i.e. day 1-31, hour 0-24 and minute 0-59 without zone or in UTC, are cached and shared between all factory
+ * methods. Applications should not rely on the identity of instances, but use {@link #equals(Object)} for comparison.
  * </p>
  *
  * <p>
@@ -69,26 +88,86 @@ public final class PartialDateTime implements Serializable {
     static final int MIDNIGHT_MINUTE = 0;
 
     private static final long serialVersionUID = -1367240702836282527L;
+    /**
+     * Serialized form compatible with versions supporting only day, hour and minute fields. Field {@code fieldValues} holds the day, hour and
+     * minute in the legacy {@code int} form, and {@code extendedFieldValues} holds all fields. Streams written by earlier versions lack
+     * {@code extendedFieldValues}.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = { //
+            new ObjectStreamField("fieldValues", int.class), //
+            new ObjectStreamField("zone", ZoneId.class), //
+            new ObjectStreamField("extendedFieldValues", long.class) };
+    /**
+     * Fields of the legacy {@code int} form, in order of their 7-bit slots.
+     */
+    private static final PartialField[] LEGACY_FIELDS = { PartialField.DAY, PartialField.HOUR, PartialField.MINUTE };
+    /**
+     * Fields of the {@link CompactJsonSerializer compact JSON form}, in order of their slots starting from the least significant bits. This
+     * order is part of the published compact form, and must not change with the in-memory layout.
+     */
+    private static final PartialField[] COMPACT_JSON_FIELDS = { PartialField.DAY, PartialField.HOUR, PartialField.MINUTE, PartialField.SECOND,
+            PartialField.MONTH, PartialField.YEAR };
 
+    /**
+     * Size of a two-digit field value in bits.
+     */
     private static final int FIELD_SIZE_IN_BITS = 7;
     private static final int FIELD_MASK = ~(-1 << FIELD_SIZE_IN_BITS);
-    private static final int EMPTY_FIELD_VALUE = FIELD_MASK;
-    private static final Pattern PARTIAL_TIME_STRING_PATTERN = Pattern.compile(
-            "^--(?<DAY>[0-9]{1,2})?T(?<HOUR>[0-9]{1,2})?:(?<MINUTE>[0-9]{1,2})?:?(?<ZONE>.*)?$");
     /**
-     * All fields are initially {@link #EMPTY_FIELD_VALUE}.
+     * All fields are initially empty, having all bits of the field set.
+     */
+    private static final long INITIAL_FIELD_VALUES = initialFieldValues();
+    /**
+     * Fields recognized by the lenient {@link #parseTACString(String, PartialField)}, in order.
+     */
+    private static final PartialField[] TAC_STRING_FIELDS = { PartialField.DAY, PartialField.HOUR, PartialField.MINUTE };
+    /**
+     * Precision of an empty partial date-time on completion. All fields down to {@link PartialField#DEFAULT_PRECISION} are taken from reference time.
      */
-    private static final int INITIAL_FIELD_VALUES = ~(-1 << PartialField.VALUES.length * FIELD_SIZE_IN_BITS);
+    private static final int EMPTY_PARTIAL_PRECISION_ORDINAL = PartialField.DEFAULT_PRECISION.ordinal() + 1;
 
     @Nullable
     private final ZoneId zone;
-    private final int fieldValues;
+    private final long fieldValues;
+    /**
+     * Lazily computed {@link #toTACString()}.
+     */
+    @Nullable
+    private transient String tacString;
+    /**
+     * Lazily computed {@link #toString()}.
+     */
+    @Nullable
+    private transient String string;
+    /**
+     * Field values read by {@link #readObject(ObjectInputStream)}, resolved to an instance by {@link #readResolve()}.
+     */
+    private transient long deserializedFieldValues;
+    @Nullable
+    private transient ZoneId deserializedZone;
 
-    private PartialDateTime(final int fieldValues, @Nullable final ZoneId zone) {
-        this.fieldValues = checkHasContinuousFieldRange(fieldValues);
+    private PartialDateTime(final long fieldValues, @Nullable final ZoneId zone) {
+        this.fieldValues = fieldValues;
         this.zone = zone;
     }
 
+    /**
+     * Returns an instance of given field values and zone, from the {@link InstanceCache} if the values are cached.
+     */
+    private static PartialDateTime create(final long fieldValues, @Nullable final ZoneId zone) {
+        checkHasContinuousFieldRange(fieldValues);
+        final int cacheIndex = InstanceCache.indexOf(fieldValues, zone);
+        return cacheIndex < 0 ? new PartialDateTime(fieldValues, zone) : InstanceCache.get(cacheIndex, fieldValues);
+    }
+
+    private static long initialFieldValues() {
+        long fieldValues = 0L;
+        for (final PartialField field : PartialField.VALUES) {
+            fieldValues = field.withRawFieldValue(fieldValues, field.getEmptyRawFieldValue());
+        }
+        return fieldValues;
+    }
+
     /**
      * Obtain an instance of optional values.
      *
@@ -107,7 +186,7 @@ public final class PartialDateTime implements Serializable {
      *         if a field value is outside valid range or <a href="#continuous-fields">uncontinuous</a> field values are given
      */
     public static PartialDateTime of(final int day, final int hour, final int minute, @Nullable final ZoneId zone) {
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         if (day >= 0) {
             fieldValues = PartialField.DAY.withRawFieldValue(fieldValues, PartialField.DAY.checkValueWithinValidRange(day));
         }
@@ -117,7 +196,46 @@ public final class PartialDateTime implements Serializable {
         if (minute >= 0) {
             fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
         }
-        return new PartialDateTime(fieldValues, zone);
+        return create(fieldValues, zone);
+    }
+
+    /**
+     * Obtain an instance of optional values including year, month and second.
+     *
+     * @param year
+     *         year or {@code -1} if absent
+     * @param month
+     *         month or {@code -1} if absent
+     * @param day
+     *         day or {@code -1} if absent
+     * @param hour
+     *         hour or {@code -1} if absent
+     * @param minute
+     *         minute or {@code -1} if absent
+     * @param second
+     *         second or {@code -1} if absent
+     * @param zone
+     *         zone or {@code null} if absent
+     *
+     * @return instance with given fields
+     *
+     * @throws DateTimeException
+     *         if a field value is outside valid range or <a href="#continuous-fields">uncontinuous</a> field values are given
+     */
+    public static PartialDateTime of(final int year, final int month, final int day, final int hour, final int minute, final int second,
+            @Nullable final ZoneId zone) {
+        long fieldValues = INITIAL_FIELD_VALUES;
+        fieldValues = withOptionalFieldValue(fieldValues, PartialField.YEAR, year);
+        fieldValues = withOptionalFieldValue(fieldValues, PartialField.MONTH, month);
+        fieldValues = withOptionalFieldValue(fieldValues, PartialField.DAY, day);
+        fieldValues = withOptionalFieldValue(fieldValues, PartialField.HOUR, hour);
+        fieldValues = withOptionalFieldValue(fieldValues, PartialField.MINUTE, minute);
+        fieldValues = withOptionalFieldValue(fieldValues, PartialField.SECOND, second);
+        return create(fieldValues, zone);
+    }
+
+    private static long withOptionalFieldValue(final long fieldValues, final PartialField field, final int value) {
+        return value >= 0 ? field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(value)) : fieldValues;
     }
 
     /**
@@ -139,11 +257,11 @@ public final class PartialDateTime implements Serializable {
      */
     public static PartialDateTime ofDayHourMinuteZone(final int day, final int hour, final int minute, final ZoneId zone) {
         requireNonNull(zone, "zone");
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.DAY.withRawFieldValue(fieldValues, PartialField.DAY.checkValueWithinValidRange(day));
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
         fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
-        return new PartialDateTime(fieldValues, zone);
+        return create(fieldValues, zone);
     }
 
     /**
@@ -196,11 +314,11 @@ public final class PartialDateTime implements Serializable {
      *         if a field value is outside valid range
      */
     public static PartialDateTime ofDayHourMinute(final int day, final int hour, final int minute) {
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.DAY.withRawFieldValue(fieldValues, PartialField.DAY.checkValueWithinValidRange(day));
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
         fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
-        return new PartialDateTime(fieldValues, null);
+        return create(fieldValues, null);
     }
 
     /**
@@ -234,10 +352,10 @@ public final class PartialDateTime implements Serializable {
      *         if a field value is outside valid range
      */
     public static PartialDateTime ofDayHour(final int day, final int hour) {
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.DAY.withRawFieldValue(fieldValues, PartialField.DAY.checkValueWithinValidRange(day));
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
-        return new PartialDateTime(fieldValues, null);
+        return create(fieldValues, null);
     }
 
     /**
@@ -270,10 +388,10 @@ public final class PartialDateTime implements Serializable {
      *         if a field value is outside valid range
      */
     public static PartialDateTime ofHourMinute(final int hour, final int minute) {
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
         fieldValues = PartialField.MINUTE.withRawFieldValue(fieldValues, PartialField.MINUTE.checkValueWithinValidRange(minute));
-        return new PartialDateTime(fieldValues, null);
+        return create(fieldValues, null);
     }
 
     /**
@@ -304,9 +422,9 @@ public final class PartialDateTime implements Serializable {
      *         if a hour is outside valid range
      */
     public static PartialDateTime ofHour(final int hour) {
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         fieldValues = PartialField.HOUR.withRawFieldValue(fieldValues, PartialField.HOUR.checkValueWithinValidRange(hour));
-        return new PartialDateTime(fieldValues, null);
+        return create(fieldValues, null);
     }
 
     /**
@@ -341,7 +459,7 @@ public final class PartialDateTime implements Serializable {
     public static PartialDateTime of(final PartialField field, final int value) {
         requireNonNull(field, "field");
         field.checkValueWithinValidRange(value);
-        return new PartialDateTime(field.withRawFieldValue(INITIAL_FIELD_VALUES, value), null);
+        return create(field.withRawFieldValue(INITIAL_FIELD_VALUES, value), null);
     }
 
     /**
@@ -360,7 +478,7 @@ public final class PartialDateTime implements Serializable {
     public static PartialDateTime of(final Set<PartialField> fields, final int... values) {
         requireNonNull(fields, "fields");
         requireNonNull(values, "values");
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         final Iterator<PartialField> fieldIterator = fields.iterator();
         int i = 0;
         while (fieldIterator.hasNext()) {
@@ -372,7 +490,7 @@ public final class PartialDateTime implements Serializable {
         if (values.length > i) {
             throw new DateTimeException(String.format("Too many values: %d; expected %d", values.length, i));
         }
-        return new PartialDateTime(fieldValues, null);
+        return create(fieldValues, null);
     }
 
     /**
@@ -400,13 +518,13 @@ public final class PartialDateTime implements Serializable {
         }
 
         final boolean applyMidnight24h = midnightHour == MIDNIGHT_24_HOUR && isMidnight(dateTime);
-        int fieldValues = INITIAL_FIELD_VALUES;
+        long fieldValues = INITIAL_FIELD_VALUES;
         for (final PartialField field : fields) {
-            fieldValues = field.withRawFieldValue(fieldValues, field.get(dateTime, applyMidnight24h));
+            fieldValues = field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(field.get(dateTime, applyMidnight24h)));
         }
         @Nullable
         final ZoneId zone = useZone ? dateTime.getZone() : null;
-        return new PartialDateTime(fieldValues, zone);
+        return create(fieldValues, zone);
     }
 
     /**
@@ -423,31 +541,69 @@ public final class PartialDateTime implements Serializable {
      */
     public static PartialDateTime parse(final String partialDateTimeString) {
         requireNonNull(partialDateTimeString, "partialDateTimeString");
-        final Matcher matcher = PARTIAL_TIME_STRING_PATTERN.matcher(partialDateTimeString);
-        if (!matcher.matches()) {
-            throw new DateTimeParseException("Invalid partialDateTimeString '" + partialDateTimeString + "'", partialDateTimeString, 0);
+        return parse(partialDateTimeString, 0, partialDateTimeString.length());
+    }
+
+    /**
+     * Obtain an instance from a region of a character sequence.
+     * See {@link #toString()} for description of string format.
+     *
+     * <p>
+     * The region is scanned without creating intermediate objects, unless it contains a zone other than {@code Z}.
+     * </p>
+     *
+     * @param text
+     *         character sequence containing the string to parse
+     * @param offset
+     *         index of the first character to parse
+     * @param length
+     *         number of characters to parse
+     *
+     * @return instance from string
+     *
+     * @throws DateTimeParseException
+     *         if string cannot be parsed
+     * @throws IndexOutOfBoundsException
+     *         if the region is not within {@code text}
+     */
+    public static PartialDateTime parse(final CharSequence text, final int offset, final int length) {
+        requireNonNull(text, "text");
+        checkRegion(text, offset, length);
+        final int end = offset + length;
+        int index = offset;
+
+        long fieldValues = INITIAL_FIELD_VALUES;
+        for (final PartialField field : PartialField.VALUES) {
+            if (field != PartialField.YEAR) {
+                final char separator = getStringSeparatorBefore(field);
+                if (index >= end || text.charAt(index) != separator) {
+                    if (field == PartialField.SECOND) {
+                        // separator of second is optional when second is absent
+                        break;
+                    }
+                    throw invalidPartialDateTimeString(text, offset, end, null);
+                }
+                index += 1;
+            }
+            final int digitsEnd = Math.min(index + field.getDigits(), end);
+            if (index < digitsEnd && isAsciiDigit(text.charAt(index))) {
+                int value = 0;
+                while (index < digitsEnd && isAsciiDigit(text.charAt(index))) {
+                    value = value * 10 + text.charAt(index) - '0';
+                    index += 1;
+                }
+                fieldValues = field.withRawFieldValue(fieldValues, value);
+            }
         }
 
-        int fieldValues = INITIAL_FIELD_VALUES;
         @Nullable
         final ZoneId zone;
-
         try {
-            for (final PartialField field : PartialField.VALUES) {
-                @Nullable
-                final String fieldValueString = matcher.group(field.name());
-                if (fieldValueString != null) {
-                    fieldValues = field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(Integer.parseInt(fieldValueString)));
-                }
-            }
-            zone = Optional.ofNullable(matcher.group("ZONE"))//
-                    .filter(offsetId -> !offsetId.isEmpty())//
-                    .map(PartialDateTime::parseZone)//
-                    .orElse(null);
+            zone = parseZone(text, index, end);
         } catch (final RuntimeException exception) {
-            throw new DateTimeParseException("Invalid partialDateTimeString '" + partialDateTimeString + "'", partialDateTimeString, 0, exception);
+            throw invalidPartialDateTimeString(text, offset, end, exception);
         }
-        return new PartialDateTime(fieldValues, zone);
+        return create(fieldValues, zone);
     }
 
     /**
@@ -457,6 +613,8 @@ public final class PartialDateTime implements Serializable {
      * This method attempts to parse field values available in TAC string and optional time zone in the end. The {@code precision} parameter is used as a
      * hint for least significant field. E.g. {@code "0102", HOUR} results in day 01 and hour 02, while {@code "0102", MINUTE} results in hour 01 and day 02.
      * But as {@code precision} is only a hint, {@code "010203, HOUR} results in day 01, hour 02 and minute 03.
+     * Only day, hour and minute are recognized by this method; a {@code precision} of year or month is treated as day, and second as minute.
+     * Use {@link #parseTACStringStrict(String, Set, boolean)} to parse other fields.
      * </p>
      *
      * @param tacString
@@ -472,52 +630,81 @@ public final class PartialDateTime implements Serializable {
     public static PartialDateTime parseTACString(final String tacString, final PartialField precision) {
         requireNonNull(tacString, "tacString");
         requireNonNull(precision, "precision");
+        return parseTACString(tacString, 0, tacString.length(), precision);
+    }
 
-        int fieldValues = INITIAL_FIELD_VALUES;
-        @Nullable
-        final ZoneId zone;
-
-        int tacStringIndex = 0;
-        try {
-            final int[] parsedFieldValues = new int[PartialField.VALUES.length];
-            int parsedFieldValuesIndex = 0;
-            while (tacStringIndex < tacString.length() //
-                    && Character.isDigit(tacString.charAt(tacStringIndex)) //
-                    && Character.isDigit(tacString.charAt(tacStringIndex + 1))) {
-                try {
-                    parsedFieldValues[parsedFieldValuesIndex] = Integer.parseInt(tacString.substring(tacStringIndex, tacStringIndex + 2));
-                } catch (final IndexOutOfBoundsException exception) {
-                    throw new DateTimeParseException("Too many fields", tacString, tacStringIndex, exception);
-                }
-                tacStringIndex += 2;
-                parsedFieldValuesIndex += 1;
+    /**
+     * Obtain an instance from a TAC string in a region of a character sequence.
+     * The semantics are the same as in {@link #parseTACString(String, PartialField)}, but the region is scanned without creating intermediate objects,
+     * unless it contains a zone other than {@code Z}. Error indices of thrown exceptions are relative to {@code offset}.
+     *
+     * @param text
+     *         character sequence containing the TAC string to parse
+     * @param offset
+     *         index of the first character to parse
+     * @param length
+     *         number of characters to parse
+     * @param precision
+     *         least significant field hint
+     *
+     * @return instance from TAC string
+     *
+     * @throws DateTimeParseException
+     *         if string cannot be parsed
+     * @throws IndexOutOfBoundsException
+     *         if the region is not within {@code text}
+     */
+    public static PartialDateTime parseTACString(final CharSequence text, final int offset, final int length, final PartialField precision) {
+        requireNonNull(text, "text");
+        requireNonNull(precision, "precision");
+        checkRegion(text, offset, length);
+        final int end = offset + length;
+
+        int index = offset;
+        int parsedFieldValues = 0;
+        int parsedFieldsSize = 0;
+        while (index < end && Character.isDigit(text.charAt(index))) {
+            if (index + 1 >= end) {
+                throw invalidTACString(text, offset, end, index, null);
             }
-            final int parsedFieldsSize = parsedFieldValuesIndex;
-
-            final String zoneId = tacString.substring(tacStringIndex);
-            zone = !zoneId.isEmpty() ? parseZone(zoneId) : null;
-
-            if (parsedFieldsSize > 0) {
-                final PartialField firstField = PartialField.VALUES[Math.max(precision.ordinal() - (parsedFieldsSize - 1), 0)];
-                final PartialField lastField = PartialField.VALUES[Math.max(precision.ordinal(), parsedFieldsSize - 1)];
-                final PartialField[] fields = EnumSet.range(firstField, lastField).toArray(new PartialField[0]);
-                for (int i = 0; i < fields.length; i++) {
-                    tacStringIndex = i * 2;
-                    final PartialField field = fields[i];
-                    fieldValues = field.withRawFieldValue(fieldValues, field.checkValueWithinValidRange(parsedFieldValues[i]));
-                }
+            final int tens = Character.digit(text.charAt(index), 10);
+            final int ones = Character.digit(text.charAt(index + 1), 10);
+            if (ones < 0) {
+                break;
+            }
+            if (parsedFieldsSize >= TAC_STRING_FIELDS.length) {
+                throw invalidTACString(text, offset, end, index, new DateTimeParseException("Too many fields", text.subSequence(offset, end), index - offset));
             }
+            parsedFieldValues |= (tens * 10 + ones) << (parsedFieldsSize * FIELD_SIZE_IN_BITS);
+            index += 2;
+            parsedFieldsSize += 1;
+        }
 
-            return new PartialDateTime(fieldValues, zone);
+        @Nullable
+        final ZoneId zone;
+        try {
+            zone = parseZone(text, index, end);
         } catch (final RuntimeException exception) {
-            throw new DateTimeParseException("Invalid tacString: '" + tacString + "'", tacString, tacStringIndex, exception);
+            throw invalidTACString(text, offset, end, index, exception);
         }
+
+        long fieldValues = INITIAL_FIELD_VALUES;
+        if (parsedFieldsSize > 0) {
+            final int precisionIndex = Math.min(Math.max(precision.ordinal() - TAC_STRING_FIELDS[0].ordinal(), 0), TAC_STRING_FIELDS.length - 1);
+            final int firstFieldIndex = Math.max(precisionIndex - (parsedFieldsSize - 1), 0);
+            for (int i = 0; i < parsedFieldsSize; i++) {
+                final PartialField field = TAC_STRING_FIELDS[firstFieldIndex + i];
+                fieldValues = field.withRawFieldValue(fieldValues, (parsedFieldValues >> (i * FIELD_SIZE_IN_BITS)) & FIELD_MASK);
+            }
+        }
+        return create(fieldValues, zone);
     }
 
     /**
      * Obtain an instance from TAC string using strict parsing.
      * The given string is expected to contain exactly given fields ({@code hasFields}) and zone depending on {@code hasZone}.
-     * Parse fails if given TAC string fails to satisfy given requirements.
+     * Parse fails if given TAC string fails to satisfy given requirements. Year is expected to have four digits, and any other field two digits, e.g.
+     * {@code "20190109100530Z"} when all fields and zone are expected.
      *
      * @param tacString
      *         TAC string to parse
@@ -536,42 +723,140 @@ public final class PartialDateTime implements Serializable {
     public static PartialDateTime parseTACStringStrict(final String tacString, final Set<PartialField> hasFields, final boolean hasZone) {
         requireNonNull(tacString, "tacString");
         requireNonNull(hasFields, "hasFields");
+        return parseTACStringStrict(tacString, 0, tacString.length(), hasFields, hasZone);
+    }
 
-        int fieldValues = INITIAL_FIELD_VALUES;
-        @Nullable
-        final ZoneId zone;
+    /**
+     * Obtain an instance from a TAC string in a region of a character sequence using strict parsing.
+     * The semantics are the same as in {@link #parseTACStringStrict(String, Set, boolean)}, but the region is scanned without creating intermediate
+     * objects, unless it contains a zone other than {@code Z}. Error indices of thrown exceptions are relative to {@code offset}.
+     *
+     * @param text
+     *         character sequence containing the TAC string to parse
+     * @param offset
+     *         index of the first character to parse
+     * @param length
+     *         number of characters to parse
+     * @param hasFields
+     *         exact fields to parse
+     * @param hasZone
+     *         {@code true} if TAC string is expected to contain zone, {@code false} otherwise
+     *
+     * @return instance from TAC string
+     *
+     * @throws DateTimeParseException
+     *         if string cannot be parsed
+     * @throws DateTimeException
+     *         if {@code hasFields} is <a href="#continuous-fields">uncontinuous</a>
+     * @throws IndexOutOfBoundsException
+     *         if the region is not within {@code text}
+     */
+    public static PartialDateTime parseTACStringStrict(final CharSequence text, final int offset, final int length, final Set<PartialField> hasFields,
+            final boolean hasZone) {
+        requireNonNull(text, "text");
+        requireNonNull(hasFields, "hasFields");
+        checkRegion(text, offset, length);
+        final int end = offset + length;
 
-        int index = 0;
-        try {
-            if (!hasContinuousEnums(hasFields)) {
-                throw new DateTimeException("Uncontinuous fields: " + hasFields);
+        int index = offset;
+        if (!hasContinuousEnums(hasFields)) {
+            throw invalidTACString(text, offset, end, index, new DateTimeException("Uncontinuous fields: " + hasFields));
+        }
+        long fieldValues = INITIAL_FIELD_VALUES;
+        for (final PartialField field : PartialField.VALUES) {
+            if (hasFields.contains(field)) {
+                final int value = parseTACFieldValue(text, index, end, field.getDigits());
+                if (!field.isValueWithinValidRange(value)) {
+                    throw invalidTACString(text, offset, end, index, null);
+                }
+                fieldValues = field.withRawFieldValue(fieldValues, value);
+                index += field.getDigits();
             }
+        }
 
-            for (final PartialField field : PartialField.VALUES) {
-                if (hasFields.contains(field)) {
-                    fieldValues = field.withRawFieldValue(fieldValues,
-                            field.checkValueWithinValidRange(Integer.parseInt(tacString.substring(index, index + 2))));
-                    index += 2;
-                } else {
-                    fieldValues = field.withRawFieldValue(fieldValues, EMPTY_FIELD_VALUE);
-                }
+        @Nullable
+        final ZoneId zone;
+        if (hasZone && index < end) {
+            try {
+                zone = parseZone(text, index, end);
+            } catch (final RuntimeException exception) {
+                throw invalidTACString(text, offset, end, index, exception);
             }
-            final String zoneId = tacString.substring(index);
-            if (hasZone && !zoneId.isEmpty()) {
-                zone = parseZone(zoneId);
-            } else if (hasZone) {
-                throw new DateTimeParseException(tacString + " is missing zone", tacString, index);
-            } else if (!zoneId.isEmpty()) {
-                throw new DateTimeParseException(tacString + " has unexpected zone: " + zoneId, tacString, index);
-            } else {
-                zone = null;
+        } else if (hasZone) {
+            throw new DateTimeParseException(text.subSequence(offset, end) + " is missing zone", text.subSequence(offset, end), index - offset);
+        } else if (index < end) {
+            throw new DateTimeParseException(text.subSequence(offset, end) + " has unexpected zone: " + text.subSequence(index, end),
+                    text.subSequence(offset, end), index - offset);
+        } else {
+            zone = null;
+        }
+        return create(fieldValues, zone);
+    }
+
+    private static void checkRegion(final CharSequence text, final int offset, final int length) {
+        if (offset < 0 || length < 0 || offset > text.length() - length) {
+            throw new IndexOutOfBoundsException(String.format("Region [%d, %d) is not within [0, %d)", offset, offset + length, text.length()));
+        }
+    }
+
+    private static char getStringSeparatorBefore(final PartialField field) {
+        switch (field) {
+            case MONTH:
+            case DAY:
+                return '-';
+            case HOUR:
+                return 'T';
+            default:
+                return ':';
+        }
+    }
+
+    private static boolean isAsciiDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static int parseTACFieldValue(final CharSequence text, final int start, final int end, final int digits) {
+        if (start + digits > end) {
+            return -1;
+        } else if (digits == 2) {
+            return parseTwoCharInt(text.charAt(start), text.charAt(start + 1));
+        }
+        int value = 0;
+        for (int index = start; index < start + digits; index++) {
+            final char ch = text.charAt(index);
+            if (!isAsciiDigit(ch)) {
+                return -1;
             }
-        } catch (final DateTimeParseException exception) {
-            throw exception;
-        } catch (final RuntimeException exception) {
-            throw new DateTimeParseException("Invalid tacString: '" + tacString + "'", tacString, index, exception);
+            value = value * 10 + ch - '0';
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value of a two-character integer string as {@link Integer#parseInt(String)} would parse it, or {@code -1} if it is not a
+     * number or is negative.
+     */
+    private static int parseTwoCharInt(final char first, final char second) {
+        final int ones = Character.digit(second, 10);
+        if (ones < 0) {
+            return -1;
+        } else if (first == '+') {
+            return ones;
+        } else if (first == '-') {
+            return ones == 0 ? 0 : -1;
         }
-        return new PartialDateTime(fieldValues, zone);
+        final int tens = Character.digit(first, 10);
+        return tens < 0 ? -1 : tens * 10 + ones;
+    }
+
+    @Nullable
+    private static ZoneId parseZone(final CharSequence text, final int start, final int end) {
+        if (start >= end) {
+            return null;
+        } else if (end - start == 1 && text.charAt(start) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        return parseZone(text.subSequence(start, end).toString());
     }
 
     private static ZoneId parseZone(final String zoneId) {
@@ -582,6 +867,18 @@ public final class PartialDateTime implements Serializable {
         }
     }
 
+    private static DateTimeParseException invalidPartialDateTimeString(final CharSequence text, final int offset, final int end,
+            @Nullable final Throwable cause) {
+        final CharSequence parsedString = text.subSequence(offset, end);
+        return new DateTimeParseException("Invalid partialDateTimeString '" + parsedString + "'", parsedString, 0, cause);
+    }
+
+    private static DateTimeParseException invalidTACString(final CharSequence text, final int offset, final int end, final int index,
+            @Nullable final Throwable cause) {
+        final CharSequence parsedString = text.subSequence(offset, end);
+        return new DateTimeParseException("Invalid tacString: '" + parsedString + "'", parsedString, index - offset, cause);
+    }
+
     static <E extends Enum<E>> boolean hasContinuousEnums(final Iterable<E> enums) {
         int previous = -1;
         for (final E entry : enums) {
@@ -594,21 +891,26 @@ public final class PartialDateTime implements Serializable {
         return true;
     }
 
-    private static int checkHasContinuousFieldRange(final int fieldValues) {
-        final Set<PartialField> fields = getPresentFields(fieldValues);
-        if (!hasContinuousEnums(fields)) {
-            throw new DateTimeException("Uncontinuous fields: " + fields);
+    private static long checkHasContinuousFieldRange(final long fieldValues) {
+        int previousOrdinal = -1;
+        for (final PartialField field : PartialField.VALUES) {
+            if (hasField(fieldValues, field)) {
+                if (previousOrdinal >= 0 && field.ordinal() - 1 != previousOrdinal) {
+                    throw new DateTimeException("Uncontinuous fields: " + getPresentFields(fieldValues));
+                }
+                previousOrdinal = field.ordinal();
+            }
         }
         return fieldValues;
     }
 
-    private static Set<PartialField> getPresentFields(final int fieldValues) {
+    private static Set<PartialField> getPresentFields(final long fieldValues) {
         final EnumSet<PartialField> fields = EnumSet.allOf(PartialField.class);
         fields.removeIf(field -> !hasField(fieldValues, field));
         return fields;
     }
 
-    private static boolean hasField(final int fieldValues, final PartialField field) {
+    private static boolean hasField(final long fieldValues, final PartialField field) {
         return field.isValueWithinValidRange(field.getRawFieldValue(fieldValues));
     }
 
@@ -639,10 +941,6 @@ public final class PartialDateTime implements Serializable {
         }
     }
 
-    private static IntStream intStreamRangeClosedDecreasing(final int startInclusive, final int endInclusive) {
-        return IntStream.rangeClosed(-startInclusive, -endInclusive).map(n -> -n);
-    }
-
     /**
      * Returns a set of fields this PartialDateTime contains.
      *
@@ -666,6 +964,23 @@ public final class PartialDateTime implements Serializable {
         return field.isValueWithinValidRange(value) ? OptionalInt.of(value) : OptionalInt.empty();
     }
 
+    /**
+     * Gets the value of specified field from this partial date-time, or provided {@code valueIfAbsent} if the field is unset.
+     * Unlike {@link #get(PartialField)}, this method does not create new objects.
+     *
+     * @param field
+     *         the field to get
+     * @param valueIfAbsent
+     *         value to return if the field is unset
+     *
+     * @return value for the field, or {@code valueIfAbsent} if field is unset
+     */
+    public int getOr(final PartialField field, final int valueIfAbsent) {
+        requireNonNull(field, "field");
+        final int value = field.getRawFieldValue(fieldValues);
+        return field.isValueWithinValidRange(value) ? value : valueIfAbsent;
+    }
+
     /**
      * Queries, whether this partial date-time has a value for specified field or not.
      *
@@ -693,8 +1008,8 @@ public final class PartialDateTime implements Serializable {
      */
     public PartialDateTime with(final PartialField field, final int value) {
         requireNonNull(field, "field");
-        final int newFieldValues = field.withRawFieldValue(this.fieldValues, field.checkValueWithinValidRange(value));
-        return newFieldValues == fieldValues ? this : new PartialDateTime(newFieldValues, zone);
+        final long newFieldValues = field.withRawFieldValue(this.fieldValues, field.checkValueWithinValidRange(value));
+        return newFieldValues == fieldValues ? this : create(newFieldValues, zone);
     }
 
     /**
@@ -710,8 +1025,44 @@ public final class PartialDateTime implements Serializable {
      */
     public PartialDateTime without(final PartialField field) {
         requireNonNull(field, "field");
-        final int newFieldValues = field.withRawFieldValue(this.fieldValues, EMPTY_FIELD_VALUE);
-        return newFieldValues == fieldValues ? this : new PartialDateTime(newFieldValues, zone);
+        final long newFieldValues = field.withRawFieldValue(this.fieldValues, field.getEmptyRawFieldValue());
+        return newFieldValues == fieldValues ? this : create(newFieldValues, zone);
+    }
+
+    /**
+     * Gets the second field if present.
+     *
+     * @return second
+     */
+    public OptionalInt getSecond() {
+        return get(PartialField.SECOND);
+    }
+
+    /**
+     * Returns a copy of this {@code PartialDateTime} with the second altered.
+     *
+     * @param second
+     *         the second to set
+     *
+     * @return a {@code PartialDateTime} based on this partial date-time with the requested second
+     *
+     * @throws DateTimeException
+     *         if second value is invalid or if fields of result would be <a href="#continuous-fields">uncontinuous</a>
+     */
+    public PartialDateTime withSecond(final int second) {
+        return with(PartialField.SECOND, second);
+    }
+
+    /**
+     * Returns a copy of this {@code PartialDateTime} with the second field being unset.
+     *
+     * @return a {@code PartialDateTime} based on this object with second field unset
+     *
+     * @throws DateTimeException
+     *         if fields of result would be <a href="#continuous-fields">uncontinuous</a>
+     */
+    public PartialDateTime withoutSecond() {
+        return without(PartialField.SECOND);
     }
 
     /**
@@ -822,6 +1173,78 @@ public final class PartialDateTime implements Serializable {
         return without(PartialField.DAY);
     }
 
+    /**
+     * Gets the month field if present.
+     *
+     * @return month
+     */
+    public OptionalInt getMonth() {
+        return get(PartialField.MONTH);
+    }
+
+    /**
+     * Returns a copy of this {@code PartialDateTime} with the month altered.
+     *
+     * @param month
+     *         the month to set
+     *
+     * @return a {@code PartialDateTime} based on this partial date-time with the requested month
+     *
+     * @throws DateTimeException
+     *         if month value is invalid or if fields of result would be <a href="#continuous-fields">uncontinuous</a>
+     */
+    public PartialDateTime withMonth(final int month) {
+        return with(PartialField.MONTH, month);
+    }
+
+    /**
+     * Returns a copy of this {@code PartialDateTime} with the month field being unset.
+     *
+     * @return a {@code PartialDateTime} based on this object with month field unset
+     *
+     * @throws DateTimeException
+     *         if fields of result would be <a href="#continuous-fields">uncontinuous</a>
+     */
+    public PartialDateTime withoutMonth() {
+        return without(PartialField.MONTH);
+    }
+
+    /**
+     * Gets the year field if present.
+     *
+     * @return year
+     */
+    public OptionalInt getYear() {
+        return get(PartialField.YEAR);
+    }
+
+    /**
+     * Returns a copy of this {@code PartialDateTime} with the year altered.
+     *
+     * @param year
+     *         the year to set
+     *
+     * @return a {@code PartialDateTime} based on this partial date-time with the requested year
+     *
+     * @throws DateTimeException
+     *         if year value is invalid or if fields of result would be <a href="#continuous-fields">uncontinuous</a>
+     */
+    public PartialDateTime withYear(final int year) {
+        return with(PartialField.YEAR, year);
+    }
+
+    /**
+     * Returns a copy of this {@code PartialDateTime} with the year field being unset.
+     *
+     * @return a {@code PartialDateTime} based on this object with year field unset
+     *
+     * @throws DateTimeException
+     *         if fields of result would be <a href="#continuous-fields">uncontinuous</a>
+     */
+    public PartialDateTime withoutYear() {
+        return without(PartialField.YEAR);
+    }
+
     /**
      * Gets the zone if present.
      *
@@ -840,7 +1263,7 @@ public final class PartialDateTime implements Serializable {
      * @return a {@code PartialDateTime} based on this partial date-time with the requested zone
      */
     public PartialDateTime withZone(final ZoneId zone) {
-        return new PartialDateTime(fieldValues, requireNonNull(zone, "zone"));
+        return create(fieldValues, requireNonNull(zone, "zone"));
     }
 
     /**
@@ -849,29 +1272,31 @@ public final class PartialDateTime implements Serializable {
      * @return a {@code PartialDateTime} based on this object with zone field unset
      */
     public PartialDateTime withoutZone() {
-        return new PartialDateTime(fieldValues, null);
+        return create(fieldValues, null);
     }
 
     /**
      * Indicates whether this partial date-time represent midnight.
-     * Midnight is specified as hour being either {@value #MIDNIGHT_0_HOUR} or {@value #MIDNIGHT_24_HOUR} and minute is either {@value #MIDNIGHT_MINUTE} or
-     * unset.
+     * Midnight is specified as hour being either {@value #MIDNIGHT_0_HOUR} or {@value #MIDNIGHT_24_HOUR}, and minute and second are either
+     * {@value #MIDNIGHT_MINUTE} or unset.
      *
      * @return {@code true} if this partial date-time represents midnight, {@code false} otherwise
      */
     public boolean isMidnight() {
         final int rawHour = PartialField.HOUR.getRawFieldValue(fieldValues);
-        final int rawMinute = PartialField.MINUTE.getRawFieldValue(fieldValues);
-        return (rawHour == MIDNIGHT_0_HOUR || rawHour == MIDNIGHT_24_HOUR) //
-                && (rawMinute == MIDNIGHT_MINUTE || !PartialField.MINUTE.isValueWithinValidRange(rawMinute));
+        return (rawHour == MIDNIGHT_0_HOUR || rawHour == MIDNIGHT_24_HOUR) && isMidnightMinuteAndSecond();
     }
 
     private boolean isMidnight(final int midnightHour) {
         assert midnightHour == MIDNIGHT_0_HOUR || midnightHour == MIDNIGHT_24_HOUR : "Unexpected midnight hour: " + midnightHour;
-        final int rawHour = PartialField.HOUR.getRawFieldValue(fieldValues);
+        return PartialField.HOUR.getRawFieldValue(fieldValues) == midnightHour && isMidnightMinuteAndSecond();
+    }
+
+    private boolean isMidnightMinuteAndSecond() {
         final int rawMinute = PartialField.MINUTE.getRawFieldValue(fieldValues);
-        return rawHour == midnightHour //
-                && (rawMinute == MIDNIGHT_MINUTE || !PartialField.MINUTE.isValueWithinValidRange(rawMinute));
+        final int rawSecond = PartialField.SECOND.getRawFieldValue(fieldValues);
+        return (rawMinute == MIDNIGHT_MINUTE || !PartialField.MINUTE.isValueWithinValidRange(rawMinute)) //
+                && (rawSecond == MIDNIGHT_MINUTE || !PartialField.SECOND.isValueWithinValidRange(rawSecond));
     }
 
     /**
@@ -886,7 +1311,7 @@ public final class PartialDateTime implements Serializable {
 
     /**
      * Returns a copy of this {@code PartialDateTime} with hour set to {@value #MIDNIGHT_0_HOUR} if this object represents midnight.
-     * The day field, if exists, is adjusted accordingly in context of {@code reference}.
+     * The day field, if exists, is adjusted accordingly in context of {@code reference}, along with month and year fields if they exist.
      * If this object does not represent midnight or already represents midnight with hour {@value #MIDNIGHT_0_HOUR}, same instance is returned.
      *
      * @param reference
@@ -900,7 +1325,7 @@ public final class PartialDateTime implements Serializable {
 
     /**
      * Returns a copy of this {@code PartialDateTime} with hour set to {@value #MIDNIGHT_24_HOUR} if this object represents midnight.
-     * The day field, if exists, is adjusted accordingly in context of {@code reference}.
+     * The day field, if exists, is adjusted accordingly in context of {@code reference}, along with month and year fields if they exist.
      * If this object does not represent midnight or already represents midnight with hour {@value #MIDNIGHT_24_HOUR}, same instance is returned.
      *
      * @param reference
@@ -916,21 +1341,29 @@ public final class PartialDateTime implements Serializable {
         if (!isMidnight() || isMidnight(midnightHour)) {
             return this;
         }
-        int newFieldValues = fieldValues;
+        long newFieldValues = fieldValues;
         newFieldValues = PartialField.HOUR.withRawFieldValue(newFieldValues, midnightHour);
 
         final int rawDay = PartialField.DAY.getRawFieldValue(fieldValues);
         if (PartialField.DAY.isValueWithinValidRange(rawDay)) {
             final int dayShift = midnightHour == MIDNIGHT_24_HOUR ? -1 : 1;
-            final int shiftedDay = reference.atDay(rawDay).plusDays(dayShift).getDayOfMonth();
-            newFieldValues = PartialField.DAY.withRawFieldValue(newFieldValues, shiftedDay);
+            final LocalDate shiftedDate = LocalDate.of(getYear().orElse(reference.getYear()), getMonth().orElse(reference.getMonthValue()), rawDay)
+                    .plusDays(dayShift);
+            newFieldValues = PartialField.DAY.withRawFieldValue(newFieldValues, shiftedDate.getDayOfMonth());
+            if (has(PartialField.MONTH)) {
+                newFieldValues = PartialField.MONTH.withRawFieldValue(newFieldValues, shiftedDate.getMonthValue());
+            }
+            if (has(PartialField.YEAR)) {
+                newFieldValues = PartialField.YEAR.withRawFieldValue(newFieldValues, PartialField.YEAR.checkValueWithinValidRange(shiftedDate.getYear()));
+            }
         }
 
-        return new PartialDateTime(newFieldValues, zone);
+        return create(newFieldValues, zone);
     }
 
     /**
      * Completes this partial date-time into a {@code ZonedDateTime} by applying specified year and month of aviation message issue time into this partial.
+     * Year and month of this partial date-time, if present, take precedence over {@code issueYearMonth}.
      * If this partial date-time is missing zone, UTC (Z) is used as default.
      *
      * @param issueYearMonth
@@ -951,7 +1384,7 @@ public final class PartialDateTime implements Serializable {
         final int day = getDay().orElseThrow(() -> new DateTimeException(String.format("%s missing field %s", this, PartialField.DAY)));
         final LocalDate issueDate;
         try {
-            issueDate = issueYearMonth.atDay(day);
+            issueDate = YearMonth.of(getYear().orElse(issueYearMonth.getYear()), getMonth().orElse(issueYearMonth.getMonthValue())).atDay(day);
         } catch (final DateTimeException exception) {
             throw new DateTimeException(String.format("Unable to complete %s with %s", this, issueYearMonth), exception);
         }
@@ -963,7 +1396,8 @@ public final class PartialDateTime implements Serializable {
      *
      * <p>
      * If this partial date-time is missing day, then {@code issueDate} day of month is used as day. Otherwise {@code issueDate} day is used as reference and
-     * if it is greater than day of partial, partial day is assumed to represent a day in next month to reference date.
+     * if it is greater than day of partial, partial day is assumed to represent a day in next month to reference date, unless this partial date-time has a
+     * month. Year and month of this partial date-time, if present, take precedence over {@code issueDate}.
      * If this partial date-time is missing zone, UTC (Z) is used as default.
      * </p>
      *
@@ -983,18 +1417,22 @@ public final class PartialDateTime implements Serializable {
     private LocalDateTime toLocalDateTime(final LocalDate issueDate) {
         requireNonNull(issueDate, "issueDate");
 
+        final int year = getYear().orElse(issueDate.getYear());
+        final int month = getMonth().orElse(issueDate.getMonthValue());
         final int day = getDay().orElse(issueDate.getDayOfMonth());
         final int hour = getHour().orElseThrow(() -> new DateTimeException(String.format("%s missing field %s", this, PartialField.HOUR)));
         final int minute = getMinute().orElse(0);
-        final int plusMonths = day < issueDate.getDayOfMonth() ? 1 : 0; // issue day > day of partial, assume next month
+        final int second = getSecond().orElse(0);
+        // issue day > day of partial, assume next month
+        final int plusMonths = !has(PartialField.MONTH) && day < issueDate.getDayOfMonth() ? 1 : 0;
 
         try {
             if (isMidnight24h()) {
-                return LocalDateTime.of(issueDate.getYear(), issueDate.getMonth(), day, 0, 0)//
+                return LocalDateTime.of(year, month, day, 0, 0)//
                         .plusDays(1)//
                         .plusMonths(plusMonths);
             } else {
-                return LocalDateTime.of(issueDate.getYear(), issueDate.getMonth(), day, hour, minute)//
+                return LocalDateTime.of(year, month, day, hour, minute, second)//
                         .plusMonths(plusMonths);
             }
         } catch (final DateTimeException exception) {
@@ -1003,23 +1441,74 @@ public final class PartialDateTime implements Serializable {
     }
 
     private LocalDateTime toLocalDateTime(final LocalDateTime referenceTime) {
+        final int precision = getPrecisionOrdinalOr(EMPTY_PARTIAL_PRECISION_ORDINAL);
+        final int year = getOrComplete(PartialField.YEAR, precision, referenceTime.getYear());
+        final int month = getOrComplete(PartialField.MONTH, precision, referenceTime.getMonthValue());
+        final int day = getOrComplete(PartialField.DAY, precision, referenceTime.getDayOfMonth());
         if (isMidnight24h()) {
-            return LocalDateTime.of(//
-                    referenceTime.getYear(), //
-                    referenceTime.getMonth(), //
-                    getDay().orElse(referenceTime.getDayOfMonth()), //
-                    0, //
-                    0) //
+            return LocalDateTime.of(year, month, day, 0, 0)//
                     .plusDays(1L);
         } else {
-            final int precision = getPrecisionOrdinalOr(PartialField.VALUES.length);
-            return LocalDateTime.of(//
-                    referenceTime.getYear(), //
-                    referenceTime.getMonth(), //
-                    getDay().orElse(precision > PartialField.DAY.ordinal() ? referenceTime.getDayOfMonth() : 1), //
-                    getHour().orElse(precision > PartialField.HOUR.ordinal() ? referenceTime.getHour() : 0), //
-                    getMinute().orElse(precision > PartialField.MINUTE.ordinal() ? referenceTime.getMinute() : 0));
+            return LocalDateTime.of(year, month, day, //
+                    getOrComplete(PartialField.HOUR, precision, referenceTime.getHour()), //
+                    getOrComplete(PartialField.MINUTE, precision, referenceTime.getMinute()), //
+                    getOrComplete(PartialField.SECOND, precision, referenceTime.getSecond()));
+        }
+    }
+
+    /**
+     * Returns value of {@code field}, if present. Otherwise returns {@code referenceValue} if the field is more significant than {@code precision}, or
+     * the minimum value of the field if it is less significant.
+     */
+    private int getOrComplete(final PartialField field, final int precision, final int referenceValue) {
+        final int rawValue = field.getRawFieldValue(fieldValues);
+        if (field.isValueWithinValidRange(rawValue)) {
+            return rawValue;
+        }
+        return precision > field.ordinal() ? referenceValue : field.getMinimumCompletionValue();
+    }
+
+    /**
+     * Equivalent to {@link #toLocalDateTime(LocalDateTime)}, but returns {@code null} instead of throwing an exception when field values are not valid
+     * in the month of {@code referenceTime}. Fields are resolved arithmetically without intermediate objects.
+     */
+    @Nullable
+    private LocalDateTime toLocalDateTimeOrNull(final LocalDateTime referenceTime) {
+        final boolean midnight24h = isMidnight24h();
+        final int precision = getPrecisionOrdinalOr(EMPTY_PARTIAL_PRECISION_ORDINAL);
+
+        final int year = getOrComplete(PartialField.YEAR, precision, referenceTime.getYear());
+        final int month = getOrComplete(PartialField.MONTH, precision, referenceTime.getMonthValue());
+        final int day = getOrComplete(PartialField.DAY, precision, referenceTime.getDayOfMonth());
+        final int hour;
+        final int minute;
+        final int second;
+        if (midnight24h) {
+            hour = 0;
+            minute = 0;
+            second = 0;
+        } else {
+            hour = getOrComplete(PartialField.HOUR, precision, referenceTime.getHour());
+            minute = getOrComplete(PartialField.MINUTE, precision, referenceTime.getMinute());
+            second = getOrComplete(PartialField.SECOND, precision, referenceTime.getSecond());
+        }
+
+        if (month < 1 || month > 12) {
+            return null;
+        }
+        final int lengthOfMonth = Month.of(month).length(Year.isLeap(year));
+        if (day < 1 || day > lengthOfMonth || hour > 23 || minute > 59 || second > 59) {
+            return null;
+        }
+        final LocalDateTime localDateTime = LocalDateTime.of(year, month, day, hour, minute, second);
+        if (midnight24h) {
+            try {
+                return localDateTime.plusDays(1L);
+            } catch (final DateTimeException exception) {
+                return null;
+            }
         }
+        return localDateTime;
     }
 
     private PartialField getPrecisionFieldOr(final PartialField fieldOnEmptyPartial) {
@@ -1240,48 +1729,61 @@ public final class PartialDateTime implements Serializable {
 
     private LocalDateTime toLocalDateTime(final LocalDateTime referenceTime, final ReferenceCondition condition, final boolean strictCondition,
             final LocalDateTime rangeStartInclusive, final LocalDateTime rangeEndExclusive) {
-        final TemporalUnit precision = getPrecisionFieldOr(PartialField.MAX_PRECISION).getTemporalField().getBaseUnit();
+        final TemporalUnit precision = getPrecisionFieldOr(PartialField.DEFAULT_PRECISION).getTemporalField().getBaseUnit();
         final LocalDateTime truncatedRangeStartInclusive = truncateRangeStart(rangeStartInclusive, rangeEndExclusive, precision);
         final LocalDateTime referenceWithinRange = DateTimeRanges.adjustInto(referenceTime, truncatedRangeStartInclusive, rangeEndExclusive, precision);
 
         final NearestToReference nearestToReference = new NearestToReference(referenceWithinRange);
-        return IntStream.concat(IntStream.rangeClosed(0, condition.getRetries()), intStreamRangeClosedDecreasing(-1, -condition.getReverseRetries()))//
-                .mapToObj(retry -> getNearestCandidate(shiftReference(referenceWithinRange, retry * condition.getFallbackDirection()),
-                        condition.getFallbackDirection()))//
-                .filter(candidate -> DateTimeRanges.isWithin(candidate, truncatedRangeStartInclusive, rangeEndExclusive) && represents(candidate))//
-                .peek(nearestToReference)//
-                .filter(candidate -> condition.test(candidate, referenceTime))//
-                .findFirst()//
-                .orElseGet(() -> {
-                    @Nullable
-                    final LocalDateTime fallbackNearResult = nearestToReference.get();
-                    if (fallbackNearResult == null) {
-                        throw new DateTimeException(String.format("Cannot resolve an instant near %s represented by %s.", referenceWithinRange, this));
-                    } else if (condition.isStrictApplicable() && strictCondition && !condition.test(fallbackNearResult, referenceTime)) {
-                        throw new DateTimeException(
-                                String.format("Unable to complete %s: nearest value %s within range %s does not strictly satisfy condition %s %s", this,
-                                        fallbackNearResult, DateTimeRanges.toString(rangeStartInclusive, rangeEndExclusive), condition, referenceTime));
-                    }
-                    return fallbackNearResult;
-                });
+        final int fallbackDirection = condition.getFallbackDirection();
+        final int retries = condition.getRetries();
+        final int lastRetryIndex = retries + condition.getReverseRetries();
+        // retries 0, 1, ..., retries, followed by -1, -2, ..., -reverseRetries
+        for (int retryIndex = 0; retryIndex <= lastRetryIndex; retryIndex++) {
+            final int retry = retryIndex <= retries ? retryIndex : retries - retryIndex;
+            final LocalDateTime candidate = getNearestCandidate(shiftReference(referenceWithinRange, retry * fallbackDirection), fallbackDirection);
+            if (DateTimeRanges.isWithin(candidate, truncatedRangeStartInclusive, rangeEndExclusive) && represents(candidate)) {
+                nearestToReference.accept(candidate);
+                if (condition.test(candidate, referenceTime)) {
+                    return candidate;
+                }
+            }
+        }
+
+        @Nullable
+        final LocalDateTime fallbackNearResult = nearestToReference.get();
+        if (fallbackNearResult == null) {
+            throw new DateTimeException(String.format("Cannot resolve an instant near %s represented by %s.", referenceWithinRange, this));
+        } else if (condition.isStrictApplicable() && strictCondition && !condition.test(fallbackNearResult, referenceTime)) {
+            throw new DateTimeException(
+                    String.format("Unable to complete %s: nearest value %s within range %s does not strictly satisfy condition %s %s", this, fallbackNearResult,
+                            DateTimeRanges.toString(rangeStartInclusive, rangeEndExclusive), condition, referenceTime));
+        }
+        return fallbackNearResult;
     }
 
     private LocalDateTime getNearestCandidate(final LocalDateTime referenceTime, final int fallbackDirection) {
+        @Nullable
+        final LocalDateTime candidate = toLocalDateTimeOrNull(referenceTime);
+        if (candidate != null) {
+            return candidate;
+        }
+        // a partial field is greater than allowed in referenceTime, indicating that referenceTime represents an instant within next unit; try previous
+        @Nullable
+        LocalDateTime fallbackCandidate;
         try {
-            return toLocalDateTime(referenceTime);
-        } catch (final DateTimeException originatingException) {
-            // a partial field is greater than allowed in referenceTime, indicating that referenceTime represents an instant within next unit; try previous
-            try {
-                return toLocalDateTime(shiftReference(referenceTime, fallbackDirection));
-            } catch (final DateTimeException ignored) {
-                throw originatingException;
-            }
+            fallbackCandidate = toLocalDateTimeOrNull(shiftReference(referenceTime, fallbackDirection));
+        } catch (final DateTimeException ignored) {
+            fallbackCandidate = null;
         }
+        // Failing again, let toLocalDateTime(LocalDateTime) throw the originating exception
+        return fallbackCandidate != null ? fallbackCandidate : toLocalDateTime(referenceTime);
     }
 
     private LocalDateTime shiftReference(final LocalDateTime candidate, final int nth) {
         if (nth == 0) {
             return candidate;
+        } else if (has(PartialField.YEAR) || has(PartialField.MONTH)) {
+            return candidate.plusYears(nth);
         } else if (has(PartialField.DAY)) {
             return candidate.plusMonths(nth);
         } else if (has(PartialField.HOUR)) {
@@ -1294,7 +1796,7 @@ public final class PartialDateTime implements Serializable {
     }
 
     private LocalDateTime truncate(final LocalDateTime completedTime) {
-        return completedTime.truncatedTo(getPrecisionFieldOr(PartialField.MAX_PRECISION).getTemporalField().getBaseUnit());
+        return getPrecisionFieldOr(PartialField.DEFAULT_PRECISION).truncate(completedTime);
     }
 
     private LocalDateTime truncateRangeStart(final LocalDateTime rangeStartInclusive, final LocalDateTime rangeEndExclusive, final TemporalUnit precision) {
@@ -1355,24 +1857,50 @@ public final class PartialDateTime implements Serializable {
 
     /**
      * Returns a TAC string representation of this partial date-time.
+     * The TAC string consists of values of present fields, year in four digits and other fields in two digits, followed by optional zone.
      *
      * @return a TAC string representation of this partial date-time
      */
     public String toTACString() {
-        final StringBuilder builder = new StringBuilder();
-        for (final PartialField field : PartialField.VALUES) {
-            tryAppendFieldValue(builder, field);
-        }
-        if (zone != null) {
-            builder.append(zone);
+        String tac = tacString;
+        if (tac == null) {
+            final StringBuilder builder = new StringBuilder(16);
+            for (final PartialField field : PartialField.VALUES) {
+                tryAppendFieldValue(builder, field);
+            }
+            if (zone != null) {
+                builder.append(zone);
+            }
+            tac = builder.toString();
+            tacString = tac;
         }
-        return builder.toString();
+        return tac;
+    }
+
+    /**
+     * Appends the {@link #toTACString() TAC string representation} of this partial date-time to provided {@code appendable}.
+     * The string representation is computed once per instance, and subsequent invocations do not create new objects.
+     *
+     * @param appendable
+     *         target to append to
+     * @param <A>
+     *         type of target
+     *
+     * @return {@code appendable}
+     *
+     * @throws IOException
+     *         if thrown by {@code appendable}
+     */
+    public <A extends Appendable> A appendTACStringTo(final A appendable) throws IOException {
+        requireNonNull(appendable, "appendable");
+        appendable.append(toTACString());
+        return appendable;
     }
 
     /**
      * Returns a string representation of this partial date-time.
-     * The string format is based on ISO 8601 format {@code YYYY-MM-DDTHH:MM<zone>}, where any missing field is simply omitted (represented as an empty string).
-     * The date or time part are never omitted completely.
+     * The string format is based on ISO 8601 format {@code YYYY-MM-DDTHH:MM:SS<zone>}, where any missing field is simply omitted (represented as an empty
+     * string). The date or time part are never omitted completely, but the separator of second is omitted along with a missing second.
      *
      * <p>
      * Examples:
@@ -1386,6 +1914,8 @@ public final class PartialDateTime implements Serializable {
      * <tr><td>ofDay(31)</td><td>--31T:</td></tr>
      * <tr><td>ofMinute(10)</td><td>--T:08</td></tr>
      * <tr><td>of(-1, -1, -1, null)</td><td>--T:</td></tr>
+     * <tr><td>of(2019, 1, 9, 10, 5, 30, ZoneId.of("Z"))</td><td>2019-01-09T10:05:30Z</td></tr>
+     * <tr><td>of(2019, 1, -1, -1, -1, -1, null)</td><td>2019-01-T:</td></tr>
      * </table>
      *
      * <p>
@@ -1397,17 +1927,49 @@ public final class PartialDateTime implements Serializable {
      */
     @Override
     public String toString() {
-        final StringBuilder builder = new StringBuilder()//
-                .append("--");
-        tryAppendFieldValue(builder, PartialField.DAY);
-        builder.append('T');
-        tryAppendFieldValue(builder, PartialField.HOUR);
-        builder.append(':');
-        tryAppendFieldValue(builder, PartialField.MINUTE);
-        if (zone != null) {
-            builder.append(zone);
+        String result = string;
+        if (result == null) {
+            final StringBuilder builder = new StringBuilder(24);
+            tryAppendFieldValue(builder, PartialField.YEAR);
+            builder.append('-');
+            tryAppendFieldValue(builder, PartialField.MONTH);
+            builder.append('-');
+            tryAppendFieldValue(builder, PartialField.DAY);
+            builder.append('T');
+            tryAppendFieldValue(builder, PartialField.HOUR);
+            builder.append(':');
+            tryAppendFieldValue(builder, PartialField.MINUTE);
+            if (has(PartialField.SECOND)) {
+                builder.append(':');
+                tryAppendFieldValue(builder, PartialField.SECOND);
+            }
+            if (zone != null) {
+                builder.append(zone);
+            }
+            result = builder.toString();
+            string = result;
         }
-        return builder.toString();
+        return result;
+    }
+
+    /**
+     * Appends the {@link #toString() string representation} of this partial date-time to provided {@code appendable}.
+     * The string representation is computed once per instance, and subsequent invocations do not create new objects.
+     *
+     * @param appendable
+     *         target to append to
+     * @param <A>
+     *         type of target
+     *
+     * @return {@code appendable}
+     *
+     * @throws IOException
+     *         if thrown by {@code appendable}
+     */
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        requireNonNull(appendable, "appendable");
+        appendable.append(toString());
+        return appendable;
     }
 
     private void tryAppendFieldValue(final StringBuilder builder, final PartialField field) {
@@ -1415,8 +1977,10 @@ public final class PartialDateTime implements Serializable {
         if (!field.isValueWithinValidRange(fieldValue)) {
             return;
         }
-        if (fieldValue < 10) {
-            builder.append('0');
+        for (int limit = 10, digit = 1; digit < field.getDigits(); limit *= 10, digit++) {
+            if (fieldValue < limit) {
+                builder.append('0');
+            }
         }
         builder.append(fieldValue);
     }
@@ -1426,6 +1990,68 @@ public final class PartialDateTime implements Serializable {
         return Objects.hash(fieldValues, zone);
     }
 
+    /**
+     * Packs the given fields of {@code fieldValues} into consecutive slots in the given order, starting from the least significant bits.
+     */
+    private static long packFieldValues(final long fieldValues, final PartialField[] fields) {
+        long packedFieldValues = 0L;
+        int bitIndex = 0;
+        for (final PartialField field : fields) {
+            packedFieldValues |= (long) field.getRawFieldValue(fieldValues) << bitIndex;
+            bitIndex += Integer.bitCount(field.getEmptyRawFieldValue());
+        }
+        return packedFieldValues;
+    }
+
+    /**
+     * Reverses {@link #packFieldValues(long, PartialField[])}. Fields not included in {@code fields} are empty, and bits beyond the slots are
+     * ignored.
+     */
+    private static long unpackFieldValues(final long packedFieldValues, final PartialField[] fields) {
+        long fieldValues = INITIAL_FIELD_VALUES;
+        int bitIndex = 0;
+        for (final PartialField field : fields) {
+            final int emptyRawFieldValue = field.getEmptyRawFieldValue();
+            fieldValues = field.withRawFieldValue(fieldValues, (int) (packedFieldValues >>> bitIndex) & emptyRawFieldValue);
+            bitIndex += Integer.bitCount(emptyRawFieldValue);
+        }
+        return fieldValues;
+    }
+
+    private static int toLegacyFieldValues(final long fieldValues) {
+        return (int) packFieldValues(fieldValues, LEGACY_FIELDS);
+    }
+
+    private static long fromLegacyFieldValues(final int legacyFieldValues) {
+        return unpackFieldValues(Integer.toUnsignedLong(legacyFieldValues), LEGACY_FIELDS);
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("fieldValues", toLegacyFieldValues(fieldValues));
+        fields.put("zone", zone);
+        fields.put("extendedFieldValues", fieldValues);
+        out.writeFields();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        deserializedFieldValues = fields.defaulted("extendedFieldValues")
+                ? fromLegacyFieldValues(fields.get("fieldValues", toLegacyFieldValues(INITIAL_FIELD_VALUES)))
+                : fields.get("extendedFieldValues", INITIAL_FIELD_VALUES);
+        deserializedZone = (ZoneId) fields.get("zone", null);
+    }
+
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            return create(deserializedFieldValues, deserializedZone);
+        } catch (final DateTimeException e) {
+            final InvalidObjectException exception = new InvalidObjectException("Invalid serialized PartialDateTime: " + e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
     /**
      * Checks whether this {@code PartialDateTime} is equal to other {@code PartialDateTime}.
      * Two {@code PartialDateTime} objects are considered equal, when they contain equal fields and zone with equal values.
@@ -1536,10 +2162,38 @@ public final class PartialDateTime implements Serializable {
     }
 
     public enum PartialField {
+        /**
+         * Year.
+         */
+        YEAR(ChronoField.YEAR, 0, 4) {
+            @Override
+            int get(final Temporal temporal, final boolean midnight24h) {
+                return (midnight24h ? temporal.minus(1, ChronoUnit.DAYS) : temporal).get(getTemporalField());
+            }
+
+            @Override
+            LocalDateTime truncate(final LocalDateTime localDateTime) {
+                return localDateTime.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1);
+            }
+        }, //
+        /**
+         * Month of year.
+         */
+        MONTH(ChronoField.MONTH_OF_YEAR, 2, 2) {
+            @Override
+            int get(final Temporal temporal, final boolean midnight24h) {
+                return (midnight24h ? temporal.minus(1, ChronoUnit.DAYS) : temporal).get(getTemporalField());
+            }
+
+            @Override
+            LocalDateTime truncate(final LocalDateTime localDateTime) {
+                return localDateTime.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+            }
+        }, //
         /**
          * Day of month.
          */
-        DAY(ChronoField.DAY_OF_MONTH) {
+        DAY(ChronoField.DAY_OF_MONTH, 3, 2) {
             @Override
             int get(final Temporal temporal, final boolean midnight24h) {
                 return (midnight24h ? temporal.minus(1, ChronoUnit.DAYS) : temporal).get(getTemporalField());
@@ -1548,7 +2202,7 @@ public final class PartialDateTime implements Serializable {
         /**
          * Hour of day.
          */
-        HOUR(ChronoField.HOUR_OF_DAY) {
+        HOUR(ChronoField.HOUR_OF_DAY, 4, 2) {
             @Override
             int get(final Temporal temporal, final boolean midnight24h) {
                 return midnight24h ? MIDNIGHT_24_HOUR : temporal.get(getTemporalField());
@@ -1557,7 +2211,16 @@ public final class PartialDateTime implements Serializable {
         /**
          * Minute of hour.
          */
-        MINUTE(ChronoField.MINUTE_OF_HOUR) {
+        MINUTE(ChronoField.MINUTE_OF_HOUR, 5, 2) {
+            @Override
+            int get(final Temporal temporal, final boolean midnight24h) {
+                return temporal.get(getTemporalField());
+            }
+        }, //
+        /**
+         * Second of minute.
+         */
+        SECOND(ChronoField.SECOND_OF_MINUTE, 6, 2) {
             @Override
             int get(final Temporal temporal, final boolean midnight24h) {
                 return temporal.get(getTemporalField());
@@ -1565,45 +2228,101 @@ public final class PartialDateTime implements Serializable {
         };
 
         static final PartialField[] VALUES = values();
-        static final PartialField MAX_PRECISION = VALUES[VALUES.length - 1];
+        /**
+         * Precision of an empty partial date-time on completion.
+         */
+        static final PartialField DEFAULT_PRECISION = MINUTE;
 
         /**
          * Minimum value of a field (inclusive).
          */
         private static final int MIN_FIELD_VALUE = 0;
-        /**
-         * Maximum value of a field (inclusive).
-         */
-        private static final int MAX_FIELD_VALUE = 99;
 
-        private final int bitIndex;
         private final ChronoField chronoField;
+        private final int digits;
+        private final int maxValue;
+        private final int minimumCompletionValue;
+        private final int bitIndex;
+        private final long bitMask;
 
-        PartialField(final ChronoField chronoField) {
+        /**
+         * Field values are packed into slots of {@value #FIELD_SIZE_IN_BITS} bits, each holding two decimal digits.
+         *
+         * @param chronoField
+         *         corresponding chrono field
+         * @param firstSlot
+         *         index of first slot of this field
+         * @param digits
+         *         number of decimal digits of this field
+         */
+        PartialField(final ChronoField chronoField, final int firstSlot, final int digits) {
             this.chronoField = chronoField;
-            this.bitIndex = FIELD_SIZE_IN_BITS * ordinal();
+            this.digits = digits;
+            int maxValue = 1;
+            for (int i = 0; i < digits; i++) {
+                maxValue *= 10;
+            }
+            this.maxValue = maxValue - 1;
+            this.minimumCompletionValue = (int) Math.max(chronoField.range().getMinimum(), MIN_FIELD_VALUE);
+            this.bitIndex = FIELD_SIZE_IN_BITS * firstSlot;
+            this.bitMask = ~(-1L << (FIELD_SIZE_IN_BITS * digits / 2));
+        }
+
+        /**
+         * Returns the field corresponding to provided {@code temporalField}, if any.
+         *
+         * @param temporalField
+         *         temporal field
+         *
+         * @return the corresponding field or empty if none
+         */
+        public static Optional<PartialField> fromTemporalField(final TemporalField temporalField) {
+            requireNonNull(temporalField, "temporalField");
+            for (final PartialField field : VALUES) {
+                if (field.chronoField.equals(temporalField)) {
+                    return Optional.of(field);
+                }
+            }
+            return Optional.empty();
         }
 
         int checkValueWithinValidRange(final int value) {
             if (!isValueWithinValidRange(value)) {
-                throw new DateTimeException(String.format("Field %s value %d is not within range [%d,%d]", this, value, MIN_FIELD_VALUE, MAX_FIELD_VALUE));
+                throw new DateTimeException(String.format("Field %s value %d is not within range [%d,%d]", this, value, MIN_FIELD_VALUE, maxValue));
             }
             return value;
         }
 
         boolean isValueWithinValidRange(final int value) {
-            return value >= MIN_FIELD_VALUE && value <= MAX_FIELD_VALUE;
+            return value >= MIN_FIELD_VALUE && value <= maxValue;
+        }
+
+        /**
+         * Returns the number of decimal digits of this field in string representations.
+         *
+         * @return number of decimal digits
+         */
+        public int getDigits() {
+            return digits;
+        }
+
+        int getMinimumCompletionValue() {
+            return minimumCompletionValue;
         }
 
-        int getRawFieldValue(final int fieldValues) {
-            return (fieldValues >> bitIndex) & FIELD_MASK;
+        int getEmptyRawFieldValue() {
+            return (int) bitMask;
         }
 
-        int withRawFieldValue(final int fieldValues, final int value) {
-            if (value >> FIELD_SIZE_IN_BITS != 0) {
+        int getRawFieldValue(final long fieldValues) {
+            return (int) ((fieldValues >>> bitIndex) & bitMask);
+        }
+
+        long withRawFieldValue(final long fieldValues, final int value) {
+            if ((value & ~bitMask) != 0) {
                 throw new DateTimeException("Value out of bounds: " + value);
             }
-            return fieldValues & ~(FIELD_MASK << bitIndex) | value << bitIndex;
+            return fieldValues & ~(bitMask << bitIndex) | (long) value << bitIndex;
         }
 
         /**
@@ -1616,6 +2335,10 @@ public final class PartialDateTime implements Serializable {
         }
 
         abstract int get(Temporal temporal, boolean midnight24h);
+
+        LocalDateTime truncate(final LocalDateTime localDateTime) {
+            return localDateTime.truncatedTo(chronoField.getBaseUnit());
+        }
     }
 
     private static final class NearestToReference implements Consumer<LocalDateTime> {
@@ -1700,6 +2423,169 @@ public final class PartialDateTime implements Serializable {
         }
     }
 
+    /**
+     * Canonical instances of common values. The table is filled lazily; instances are safely published through their final fields, so a race
+     * between threads may at worst create a redundant instance. The lazily computed string fields are likewise recomputed on a race.
+     */
+    private static final class InstanceCache {
+        private static final int MAX_DAY = 31;
+        private static final int MAX_HOUR = MIDNIGHT_24_HOUR;
+        private static final int MAX_MINUTE = 59;
+        private static final int DAY_SLOTS = MAX_DAY + 1;
+        private static final int HOUR_SLOTS = MAX_HOUR + 2;
+        private static final int MINUTE_SLOTS = MAX_MINUTE + 2;
+        private static final int ZONE_SLOTS = 2;
+
+        private static final PartialDateTime[] INSTANCES = new PartialDateTime[DAY_SLOTS * HOUR_SLOTS * MINUTE_SLOTS * ZONE_SLOTS];
+
+        private InstanceCache() {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * Returns the cache index of given values, or {@code -1} if the values are not cached.
+         * Slot {@code 0} of each field denotes an absent value. Only values without year, month and second are cached.
+         */
+        static int indexOf(final long fieldValues, @Nullable final ZoneId zone) {
+            final int zoneIndex;
+            if (zone == null) {
+                zoneIndex = 0;
+            } else if (ZoneOffset.UTC.equals(zone)) {
+                zoneIndex = 1;
+            } else {
+                return -1;
+            }
+            if (hasField(fieldValues, PartialField.YEAR) || hasField(fieldValues, PartialField.MONTH) || hasField(fieldValues, PartialField.SECOND)) {
+                return -1;
+            }
+            final int day = PartialField.DAY.getRawFieldValue(fieldValues);
+            final int hour = PartialField.HOUR.getRawFieldValue(fieldValues);
+            final int minute = PartialField.MINUTE.getRawFieldValue(fieldValues);
+            final int dayIndex = day == PartialField.DAY.getEmptyRawFieldValue() ? 0 : day;
+            final int hourIndex = hour == PartialField.HOUR.getEmptyRawFieldValue() ? 0 : hour + 1;
+            final int minuteIndex = minute == PartialField.MINUTE.getEmptyRawFieldValue() ? 0 : minute + 1;
+            if (day == 0 || dayIndex >= DAY_SLOTS || hourIndex >= HOUR_SLOTS || minuteIndex >= MINUTE_SLOTS) {
+                return -1;
+            }
+            return ((dayIndex * HOUR_SLOTS + hourIndex) * MINUTE_SLOTS + minuteIndex) * ZONE_SLOTS + zoneIndex;
+        }
+
+        static PartialDateTime get(final int index, final long fieldValues) {
+            PartialDateTime instance = INSTANCES[index];
+            if (instance == null) {
+                instance = new PartialDateTime(fieldValues, index % ZONE_SLOTS == 0 ? null : ZoneOffset.UTC);
+                INSTANCES[index] = instance;
+            }
+            return instance;
+        }
+    }
+
+    /**
+     * Jackson serializer writing a partial date-time in a compact form without string formatting. A partial date-time without zone is written
+     * as a number holding the packed field values, and a partial date-time with zone as an array of the packed field values and the zone id.
+     *
+     * <p>
+     * The packed field values hold day, hour, minute, second, month and year, in this order, starting from the least significant bits. Year
+     * takes 14 bits and the other fields 7 bits each, and an empty field has all of its bits set. For example {@code --27T11:37Z} is written as
+     * {@code [562949951931803,"Z"]}. This form is independent of the in-memory representation of {@code PartialDateTime}.
+     * </p>
+     */
+    public static final class CompactJsonSerializer extends StdSerializer<PartialDateTime> {
+        private static final long serialVersionUID = -6183207312064517313L;
+
+        public CompactJsonSerializer() {
+            super(PartialDateTime.class);
+        }
+
+        @Override
+        public void serialize(final PartialDateTime value, final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider)
+                throws IOException {
+            if (value.zone == null) {
+                jsonGenerator.writeNumber(packFieldValues(value.fieldValues, COMPACT_JSON_FIELDS));
+            } else {
+                jsonGenerator.writeStartArray();
+                jsonGenerator.writeNumber(packFieldValues(value.fieldValues, COMPACT_JSON_FIELDS));
+                jsonGenerator.writeString(value.zone.getId());
+                jsonGenerator.writeEndArray();
+            }
+        }
+    }
+
+    /**
+     * Jackson deserializer reading a partial date-time written by {@link CompactJsonSerializer}, or a {@link #parse(String) string representation}.
+     */
+    public static final class CompactJsonDeserializer extends StdDeserializer<PartialDateTime> {
+        private static final long serialVersionUID = 2766340530216390307L;
+
+        public CompactJsonDeserializer() {
+            super(PartialDateTime.class);
+        }
+
+        private static PartialDateTime ofPackedFieldValues(final long packedFieldValues, @Nullable final ZoneId zone) {
+            final long fieldValues = unpackFieldValues(packedFieldValues, COMPACT_JSON_FIELDS);
+            if (packFieldValues(fieldValues, COMPACT_JSON_FIELDS) != packedFieldValues) {
+                throw new DateTimeException("Invalid packed field values: " + packedFieldValues);
+            }
+            for (final PartialField field : PartialField.VALUES) {
+                final int value = field.getRawFieldValue(fieldValues);
+                if (value != field.getEmptyRawFieldValue()) {
+                    field.checkValueWithinValidRange(value);
+                }
+            }
+            return create(fieldValues, zone);
+        }
+
+        @Override
+        public PartialDateTime deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+            final JsonToken token = jsonParser.getCurrentToken();
+            if (token == JsonToken.VALUE_STRING) {
+                final String text = jsonParser.getText();
+                try {
+                    return PartialDateTime.parse(text);
+                } catch (final DateTimeException e) {
+                    throw deserializationContext.weirdStringException(text, PartialDateTime.class, e.getMessage());
+                }
+            } else if (token == JsonToken.VALUE_NUMBER_INT) {
+                return deserialize(jsonParser.getLongValue(), null, deserializationContext);
+            } else if (token == JsonToken.START_ARRAY) {
+                if (jsonParser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                    return wrongToken(deserializationContext, JsonToken.VALUE_NUMBER_INT);
+                }
+                final long fieldValues = jsonParser.getLongValue();
+                if (jsonParser.nextToken() != JsonToken.VALUE_STRING) {
+                    return wrongToken(deserializationContext, JsonToken.VALUE_STRING);
+                }
+                final String zoneId = jsonParser.getText();
+                if (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    return wrongToken(deserializationContext, JsonToken.END_ARRAY);
+                }
+                final ZoneId zone;
+                try {
+                    zone = ZoneId.of(zoneId);
+                } catch (final DateTimeException e) {
+                    throw deserializationContext.weirdStringException(zoneId, PartialDateTime.class, e.getMessage());
+                }
+                return deserialize(fieldValues, zone, deserializationContext);
+            } else {
+                return (PartialDateTime) deserializationContext.handleUnexpectedToken(PartialDateTime.class, jsonParser);
+            }
+        }
+
+        private PartialDateTime deserialize(final long fieldValues, @Nullable final ZoneId zone, final DeserializationContext deserializationContext)
+                throws IOException {
+            try {
+                return ofPackedFieldValues(fieldValues, zone);
+            } catch (final DateTimeException e) {
+                throw deserializationContext.weirdNumberException(fieldValues, PartialDateTime.class, e.getMessage());
+            }
+        }
+
+        private PartialDateTime wrongToken(final DeserializationContext deserializationContext, final JsonToken expected) throws IOException {
+            deserializationContext.reportWrongTokenException(this, expected, "Invalid compact partial date-time");
+            return null;
+        }
+    }
+
     static final class FromJsonConverter extends StdConverter<String, PartialDateTime> {
         @Override
         public PartialDateTime convert(final String value) {
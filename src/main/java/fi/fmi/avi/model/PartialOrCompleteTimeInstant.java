@@ -10,6 +10,8 @@ import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.inferred.freebuilder.FreeBuilder;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -31,6 +33,22 @@ public abstract class PartialOrCompleteTimeInstant extends PartialOrCompleteTime
 
     private static final long serialVersionUID = -3820077096763961462L;
 
+    private static final int TIME_FIELD_SIZE_IN_BITS = 7;
+    private static final int TIME_FIELD_MASK = ~(-1 << TIME_FIELD_SIZE_IN_BITS);
+    private static final int EMPTY_TIME_FIELD = TIME_FIELD_MASK;
+    private static final int DAY_BIT_INDEX = 0;
+    private static final int HOUR_BIT_INDEX = DAY_BIT_INDEX + TIME_FIELD_SIZE_IN_BITS;
+    private static final int MINUTE_BIT_INDEX = HOUR_BIT_INDEX + TIME_FIELD_SIZE_IN_BITS;
+    private static final int HAS_PARTIAL_TIME_FLAG = 1 << (MINUTE_BIT_INDEX + TIME_FIELD_SIZE_IN_BITS);
+    private static final int HAS_COMPLETE_TIME_FLAG = HAS_PARTIAL_TIME_FLAG << 1;
+    private static final int INITIALIZED_FLAG = HAS_COMPLETE_TIME_FLAG << 1;
+
+    /**
+     * Lazily computed day, hour and minute values and presence flags of this instance, packed in an int.
+     * Value {@code 0} denotes an uncomputed state.
+     */
+    private transient int timeFields;
+
     public static Builder builder() {
         return new Builder();
     }
@@ -97,6 +115,78 @@ public abstract class PartialOrCompleteTimeInstant extends PartialOrCompleteTime
         return getPartialTime().map(PartialDateTime::isMidnight24h).orElse(false);
     }
 
+    private static int packTimeField(final int fieldValues, final int bitIndex, final int value) {
+        return fieldValues | (value < 0 ? EMPTY_TIME_FIELD : value) << bitIndex;
+    }
+
+    private static OptionalInt toOptionalInt(final int timeField) {
+        return timeField == EMPTY_TIME_FIELD ? OptionalInt.empty() : OptionalInt.of(timeField);
+    }
+
+    private int getTimeFields() {
+        int fields = timeFields;
+        if (fields == 0) {
+            fields = computeTimeFields();
+            timeFields = fields;
+        }
+        return fields;
+    }
+
+    private int computeTimeFields() {
+        int fields = INITIALIZED_FLAG;
+        @Nullable
+        final PartialDateTime partialTime = getPartialTime().orElse(null);
+        @Nullable
+        final ZonedDateTime completeTime = getCompleteTime().orElse(null);
+        if (completeTime != null) {
+            fields |= HAS_COMPLETE_TIME_FLAG;
+        }
+        if (partialTime != null) {
+            fields |= HAS_PARTIAL_TIME_FLAG;
+            fields = packTimeField(fields, DAY_BIT_INDEX, partialTime.getOr(PartialField.DAY, -1));
+            fields = packTimeField(fields, HOUR_BIT_INDEX, partialTime.getOr(PartialField.HOUR, -1));
+            fields = packTimeField(fields, MINUTE_BIT_INDEX, partialTime.getOr(PartialField.MINUTE, -1));
+        } else if (completeTime != null) {
+            fields = packTimeField(fields, DAY_BIT_INDEX, completeTime.getDayOfMonth());
+            fields = packTimeField(fields, HOUR_BIT_INDEX, completeTime.getHour());
+            fields = packTimeField(fields, MINUTE_BIT_INDEX, completeTime.getMinute());
+        } else {
+            fields = packTimeField(fields, DAY_BIT_INDEX, -1);
+            fields = packTimeField(fields, HOUR_BIT_INDEX, -1);
+            fields = packTimeField(fields, MINUTE_BIT_INDEX, -1);
+        }
+        return fields;
+    }
+
+    private int getTimeField(final int bitIndex) {
+        return (getTimeFields() >>> bitIndex) & TIME_FIELD_MASK;
+    }
+
+    private int getTimeFieldOr(final int bitIndex, final int valueIfAbsent) {
+        final int value = getTimeField(bitIndex);
+        return value == EMPTY_TIME_FIELD ? valueIfAbsent : value;
+    }
+
+    /**
+     * Indicates whether this instance has a partial time.
+     * Unlike {@code getPartialTime().isPresent()}, this method does not create new objects.
+     *
+     * @return {@code true} if partial time is present, {@code false} otherwise
+     */
+    public boolean hasPartialTime() {
+        return (getTimeFields() & HAS_PARTIAL_TIME_FLAG) != 0;
+    }
+
+    /**
+     * Indicates whether this instance has a complete time.
+     * Unlike {@code getCompleteTime().isPresent()}, this method does not create new objects.
+     *
+     * @return {@code true} if complete time is present, {@code false} otherwise
+     */
+    public boolean hasCompleteTime() {
+        return (getTimeFields() & HAS_COMPLETE_TIME_FLAG) != 0;
+    }
+
     /**
      * Returns the minute-of-hour of this PartialOrCompleteTimeInstant.
      *
@@ -104,11 +194,22 @@ public abstract class PartialOrCompleteTimeInstant extends PartialOrCompleteTime
      */
     @JsonIgnore
     public OptionalInt getMinute() {
-        return getPartialTime()//
-                .map(PartialDateTime::getMinute)//
-                .orElseGet(() -> getCompleteTime()//
-                        .map(completeTime -> OptionalInt.of(completeTime.getMinute()))//
-                        .orElse(OptionalInt.empty()));
+        return toOptionalInt(getTimeField(MINUTE_BIT_INDEX));
+    }
+
+    /**
+     * Returns the minute-of-hour of this PartialOrCompleteTimeInstant, or provided {@code valueIfAbsent} if not available.
+     * This method does not create new objects.
+     *
+     * @param valueIfAbsent
+     *         value to return if minute is not available
+     *
+     * @return the minute-of-hour, or {@code valueIfAbsent}
+     *
+     * @see #getMinute()
+     */
+    public int getMinuteOr(final int valueIfAbsent) {
+        return getTimeFieldOr(MINUTE_BIT_INDEX, valueIfAbsent);
     }
 
     /**
@@ -120,11 +221,22 @@ public abstract class PartialOrCompleteTimeInstant extends PartialOrCompleteTime
      */
     @JsonIgnore
     public OptionalInt getHour() {
-        return getPartialTime()//
-                .map(PartialDateTime::getHour)//
-                .orElseGet(() -> getCompleteTime()//
-                        .map(completeTime -> OptionalInt.of(completeTime.getHour()))//
-                        .orElse(OptionalInt.empty()));
+        return toOptionalInt(getTimeField(HOUR_BIT_INDEX));
+    }
+
+    /**
+     * Returns the hour-of-day of this PartialOrCompleteTimeInstant, or provided {@code valueIfAbsent} if not available.
+     * This method does not create new objects.
+     *
+     * @param valueIfAbsent
+     *         value to return if hour is not available
+     *
+     * @return the hour-of-day, or {@code valueIfAbsent}
+     *
+     * @see #getHour()
+     */
+    public int getHourOr(final int valueIfAbsent) {
+        return getTimeFieldOr(HOUR_BIT_INDEX, valueIfAbsent);
     }
 
     /**
@@ -136,11 +248,22 @@ public abstract class PartialOrCompleteTimeInstant extends PartialOrCompleteTime
      */
     @JsonIgnore
     public OptionalInt getDay() {
-        return getPartialTime()//
-                .map(PartialDateTime::getDay)//
-                .orElseGet(() -> getCompleteTime()//
-                        .map(completeTime -> OptionalInt.of(completeTime.getDayOfMonth()))//
-                        .orElse(OptionalInt.empty()));
+        return toOptionalInt(getTimeField(DAY_BIT_INDEX));
+    }
+
+    /**
+     * Returns the day-of-month of this PartialOrCompleteTimeInstant, or provided {@code valueIfAbsent} if not available.
+     * This method does not create new objects.
+     *
+     * @param valueIfAbsent
+     *         value to return if day is not available
+     *
+     * @return the day-of-month, or {@code valueIfAbsent}
+     *
+     * @see #getDay()
+     */
+    public int getDayOr(final int valueIfAbsent) {
+        return getTimeFieldOr(DAY_BIT_INDEX, valueIfAbsent);
     }
 
     public abstract Builder toBuilder();
@@ -2,14 +2,15 @@ package fi.fmi.avi.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.YearMonth;
 import java.time.ZonedDateTime;
 import java.util.EnumSet;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 import org.inferred.freebuilder.FreeBuilder;
 
@@ -29,49 +30,123 @@ import fi.fmi.avi.model.PartialDateTime.PartialField;
 @JsonPropertyOrder({ "startTime", "endTime" })
 public abstract class PartialOrCompleteTimePeriod extends PartialOrCompleteTime {
 
-    private static final Pattern DAY_HOUR_HOUR_PATTERN = Pattern.compile("^(?<day>[0-9]{2})(?<startHour>[0-9]{2})(?<endHour>[0-9]{2})$");
-    private static final Pattern DAY_HOUR_DAY_HOUR_PATTERN = Pattern.compile(
-            "^(?<startDay>[0-9]{2})(?<startHour>[0-9]{2})[/-](?<endDay>[0-9]{2})(?<endHour>[0-9]{2})$");
+    /**
+     * Format of {@link #createValidityTimeDHH(String)}, used in error messages.
+     */
+    private static final String DAY_HOUR_HOUR_PATTERN = "^(?<day>[0-9]{2})(?<startHour>[0-9]{2})(?<endHour>[0-9]{2})$";
+    /**
+     * Format of {@link #createValidityTimeDHDH(String)}, used in error messages.
+     */
+    private static final String DAY_HOUR_DAY_HOUR_PATTERN = "^(?<startDay>[0-9]{2})(?<startHour>[0-9]{2})[/-](?<endDay>[0-9]{2})(?<endHour>[0-9]{2})$";
+    private static final int DAY_HOUR_HOUR_LENGTH = 6;
+    private static final int DAY_HOUR_DAY_HOUR_LENGTH = 9;
     private static final long serialVersionUID = 875078230227696812L;
 
+    /**
+     * Lazily computed {@link #toTACString()}.
+     */
+    @Nullable
+    private transient String tacString;
+
     public static Builder builder() {
         return new Builder();
     }
 
     public static PartialOrCompleteTimePeriod createValidityTimeDHDH(final String partialTimePeriod) throws IllegalArgumentException {
-        final Matcher matcher = DAY_HOUR_DAY_HOUR_PATTERN.matcher(partialTimePeriod);
-        if (matcher.matches()) {
-            return PartialOrCompleteTimePeriod.builder()//
-                    .setStartTime(PartialOrCompleteTimeInstant.of(
-                            PartialDateTime.ofDayHour(TimePatternGroup.startDay.intValue(matcher), TimePatternGroup.startHour.intValue(matcher))))//
-                    .setEndTime(PartialOrCompleteTimeInstant.of(
-                            PartialDateTime.ofDayHour(TimePatternGroup.endDay.intValue(matcher), TimePatternGroup.endHour.intValue(matcher))))//
-                    .build();
-        } else {
+        requireNonNull(partialTimePeriod, "partialTimePeriod");
+        @Nullable
+        final PartialOrCompleteTimePeriod period = decodeDayHourDayHour(partialTimePeriod);
+        if (period == null) {
             throw new IllegalArgumentException("time period does not match pattern " + DAY_HOUR_DAY_HOUR_PATTERN);
         }
+        return period;
     }
 
     public static PartialOrCompleteTimePeriod createValidityTimeDHH(final String partialTimePeriod) throws IllegalArgumentException {
-        final Matcher matcher = DAY_HOUR_HOUR_PATTERN.matcher(partialTimePeriod);
-        if (matcher.matches()) {
-            return PartialOrCompleteTimePeriod.builder()//
-                    .setStartTime(PartialOrCompleteTimeInstant.of(
-                            PartialDateTime.ofDayHour(TimePatternGroup.day.intValue(matcher), TimePatternGroup.startHour.intValue(matcher))))//
-                    .setEndTime(PartialOrCompleteTimeInstant.of(
-                            PartialDateTime.ofDayHour(TimePatternGroup.day.intValue(matcher), TimePatternGroup.endHour.intValue(matcher))))//
-                    .build();
-        } else {
+        requireNonNull(partialTimePeriod, "partialTimePeriod");
+        @Nullable
+        final PartialOrCompleteTimePeriod period = decodeDayHourHour(partialTimePeriod);
+        if (period == null) {
             throw new IllegalArgumentException("time period does not match pattern " + DAY_HOUR_HOUR_PATTERN);
         }
+        return period;
     }
 
     public static PartialOrCompleteTimePeriod createValidityTime(final String partialTimePeriod) throws IllegalArgumentException {
-        try {
-            return createValidityTimeDHDH(partialTimePeriod);
-        } catch (final IllegalArgumentException iae) {
-            return createValidityTimeDHH(partialTimePeriod);
+        requireNonNull(partialTimePeriod, "partialTimePeriod");
+        return tryCreateValidityTime(partialTimePeriod)//
+                .orElseThrow(() -> new IllegalArgumentException("time period does not match pattern " + DAY_HOUR_HOUR_PATTERN));
+    }
+
+    /**
+     * Creates a validity time from a TAC period in either {@code DDHH/DDHH} (or {@code DDHH-DDHH}) or {@code DDHHHH} format.
+     * Unlike {@link #createValidityTime(String)}, this method does not throw an exception on an invalid string, and is therefore suitable for
+     * probing whether a token is a validity time.
+     *
+     * @param partialTimePeriod
+     *         TAC period to decode
+     *
+     * @return the validity time, or empty if {@code partialTimePeriod} is not in a supported format
+     */
+    public static Optional<PartialOrCompleteTimePeriod> tryCreateValidityTime(final String partialTimePeriod) {
+        requireNonNull(partialTimePeriod, "partialTimePeriod");
+        if (partialTimePeriod.length() == DAY_HOUR_DAY_HOUR_LENGTH) {
+            return Optional.ofNullable(decodeDayHourDayHour(partialTimePeriod));
+        } else {
+            return Optional.ofNullable(decodeDayHourHour(partialTimePeriod));
+        }
+    }
+
+    @Nullable
+    private static PartialOrCompleteTimePeriod decodeDayHourDayHour(final String partialTimePeriod) {
+        if (partialTimePeriod.length() != DAY_HOUR_DAY_HOUR_LENGTH) {
+            return null;
+        }
+        final char separator = partialTimePeriod.charAt(4);
+        if (separator != '/' && separator != '-') {
+            return null;
         }
+        final int startDay = twoDigitValue(partialTimePeriod, 0);
+        final int startHour = twoDigitValue(partialTimePeriod, 2);
+        final int endDay = twoDigitValue(partialTimePeriod, 5);
+        final int endHour = twoDigitValue(partialTimePeriod, 7);
+        if (startDay < 0 || startHour < 0 || endDay < 0 || endHour < 0) {
+            return null;
+        }
+        return ofDayHours(startDay, startHour, endDay, endHour);
+    }
+
+    @Nullable
+    private static PartialOrCompleteTimePeriod decodeDayHourHour(final String partialTimePeriod) {
+        if (partialTimePeriod.length() != DAY_HOUR_HOUR_LENGTH) {
+            return null;
+        }
+        final int day = twoDigitValue(partialTimePeriod, 0);
+        final int startHour = twoDigitValue(partialTimePeriod, 2);
+        final int endHour = twoDigitValue(partialTimePeriod, 4);
+        if (day < 0 || startHour < 0 || endHour < 0) {
+            return null;
+        }
+        return ofDayHours(day, startHour, day, endHour);
+    }
+
+    /**
+     * Returns the value of two ASCII digits at {@code index}, or {@code -1} if either character is not an ASCII digit.
+     */
+    private static int twoDigitValue(final String string, final int index) {
+        final int tens = string.charAt(index) - '0';
+        final int ones = string.charAt(index + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    private static PartialOrCompleteTimePeriod ofDayHours(final int startDay, final int startHour, final int endDay, final int endHour) {
+        return PartialOrCompleteTimePeriod.builder()//
+                .setStartTime(PartialOrCompleteTimeInstant.of(PartialDateTime.ofDayHour(startDay, startHour)))//
+                .setEndTime(PartialOrCompleteTimeInstant.of(PartialDateTime.ofDayHour(endDay, endHour)))//
+                .build();
     }
 
     public abstract Optional<PartialOrCompleteTimeInstant> getStartTime();
@@ -121,16 +196,49 @@ public abstract class PartialOrCompleteTimePeriod extends PartialOrCompleteTime
         }
     }
 
-    private enum TimePatternGroup {
-        day, startDay, endDay, hour, startHour, endHour, minute;
+    private static void appendPartialTACString(final StringBuilder builder, final Optional<PartialOrCompleteTimeInstant> time) {
+        time.flatMap(PartialOrCompleteTimeInstant::getPartialTime)//
+                .ifPresent(partialTime -> builder.append(partialTime.toTACString()));
+    }
 
-        public int intValue(final Matcher matcher) {
-            return Integer.parseInt(stringValue(matcher));
+    /**
+     * Returns a TAC string representation of the partial start and end times of this period, separated by {@code '/'}, e.g. {@code "2712/2812"}.
+     * A missing start or end time, or one without partial time, is represented as an empty string.
+     * The string representation is computed once per instance.
+     *
+     * @return TAC string representation of this period
+     */
+    public String toTACString() {
+        String tac = tacString;
+        if (tac == null) {
+            final StringBuilder builder = new StringBuilder(9);
+            appendPartialTACString(builder, getStartTime());
+            builder.append('/');
+            appendPartialTACString(builder, getEndTime());
+            tac = builder.toString();
+            tacString = tac;
         }
+        return tac;
+    }
 
-        public String stringValue(final Matcher matcher) {
-            return matcher.group(name());
-        }
+    /**
+     * Appends the {@link #toTACString() TAC string representation} of this period to provided {@code appendable}.
+     * The string representation is computed once per instance, and subsequent invocations do not create new objects.
+     *
+     * @param appendable
+     *         target to append to
+     * @param <A>
+     *         type of target
+     *
+     * @return {@code appendable}
+     *
+     * @throws IOException
+     *         if thrown by {@code appendable}
+     */
+    public <A extends Appendable> A appendTACStringTo(final A appendable) throws IOException {
+        requireNonNull(appendable, "appendable");
+        appendable.append(toTACString());
+        return appendable;
     }
 
     public static class Builder extends PartialOrCompleteTimePeriod_Builder {
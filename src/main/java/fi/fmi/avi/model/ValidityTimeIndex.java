@@ -0,0 +1,370 @@
+package fi.fmi.avi.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Thread-safe index of values, typically messages, by their completed validity period.
+ *
+ * <p>
+ * The index answers which values are valid at a given instant (stabbing query) and which values are valid at any time within a given interval
+ * (overlap query). Values are indexed by the complete start and end times of validity periods, such as {@link fi.fmi.avi.model.taf.TAF#getValidityTime()},
+ * {@link SIGMETAIRMET#getValidityPeriod()} and {@link GenericAviationWeatherMessage#getValidityTime()}. Validity periods are treated as half-open
+ * intervals, including the start time and excluding the end time.
+ * </p>
+ *
+ * <p>
+ * Entries are grouped into duration classes by the power of two of their validity duration in milliseconds, and kept in a concurrent skip list
+ * ordered by start time per duration class, and in one skip list ordered by end time. In each duration class, a query scans the values starting
+ * within the longest validity duration of that class before the end of the queried interval. A scanned value not valid within the interval has
+ * at least half of the longest duration of its class, and has ended within the other half before the start of the interval. A query therefore
+ * takes logarithmic time per duration class plus time proportional to the number of values returned and the number of values of similar
+ * duration that ended shortly before the queried interval. It degrades towards linear time only when many values of similar duration end
+ * just before the queried interval, such as when expired values are not {@link #expire(ZonedDateTime) expired} regularly. Expiring values ended
+ * before a given instant takes logarithmic time plus time proportional to the number of expired values.
+ * </p>
+ *
+ * <p>
+ * Each value has at most one validity period in the index. Values are identified by {@link Object#equals(Object) equality}, and adding a value
+ * already in the index replaces its validity period. Queries are weakly consistent: they reflect the state of the index at some point at or
+ * since the start of the query, and may or may not reflect concurrent modifications.
+ * </p>
+ *
+ * @param <T>
+ *         type of indexed values
+ */
+public final class ValidityTimeIndex<T> {
+
+    private static final Comparator<Entry<?>> START_ORDER = Comparator.<Entry<?>> comparingLong(entry -> entry.start)//
+            .thenComparingLong(entry -> entry.sequence);
+    private static final Comparator<Entry<?>> END_ORDER = Comparator.<Entry<?>> comparingLong(entry -> entry.end)//
+            .thenComparingLong(entry -> entry.sequence);
+
+    private final ConcurrentMap<T, Entry<T>> entries = new ConcurrentHashMap<>();
+    /**
+     * Entries ordered by start time, by {@link #durationClass(long) duration class}. Sets of classes once used are retained.
+     */
+    private final ConcurrentNavigableMap<Integer, NavigableSet<Entry<T>>> byStart = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Entry<T>> byEnd = new ConcurrentSkipListSet<>(END_ORDER);
+    private final AtomicLong sequence = new AtomicLong();
+    /**
+     * Number of entries in the index by validity duration in milliseconds. The last key is the longest duration of entries in the index, and the
+     * greatest key within a duration class is the longest duration of entries in that class.
+     */
+    private final ConcurrentNavigableMap<Long, Integer> durationCounts = new ConcurrentSkipListMap<>();
+
+    private static long toEpochMilli(final ZonedDateTime time) {
+        return time.toInstant().toEpochMilli();
+    }
+
+    /**
+     * Returns the duration class of provided duration, i.e. the number of bits needed to represent it. Durations of class {@code c} are less than
+     * 2<sup>c</sup> and, unless zero, at least 2<sup>c-1</sup>.
+     */
+    private static int durationClass(final long duration) {
+        return Long.SIZE - Long.numberOfLeadingZeros(duration);
+    }
+
+    private static long maxDurationOfClass(final int durationClass) {
+        return durationClass == 0 ? 0 : -1L >>> (Long.SIZE - durationClass);
+    }
+
+    private static <T> Entry<T> probe(final long time, final long sequence) {
+        return new Entry<>(null, time, time, sequence);
+    }
+
+    /**
+     * Adds provided {@code value} with the complete start and end times of provided {@code validityPeriod} to this index. If the value is already
+     * in the index, its validity period is replaced.
+     *
+     * @param value
+     *         value to add
+     * @param validityPeriod
+     *         validity period of value
+     *
+     * @return {@code true} if the value was added, or {@code false} if the validity period does not have complete start and end times
+     *
+     * @throws IllegalArgumentException
+     *         if the end time is before the start time
+     */
+    public boolean add(final T value, final PartialOrCompleteTimePeriod validityPeriod) {
+        requireNonNull(value, "value");
+        requireNonNull(validityPeriod, "validityPeriod");
+        final Optional<ZonedDateTime> start = validityPeriod.getStartTime().flatMap(PartialOrCompleteTimeInstant::getCompleteTime);
+        final Optional<ZonedDateTime> end = validityPeriod.getEndTime().flatMap(PartialOrCompleteTimeInstant::getCompleteTime);
+        if (!start.isPresent() || !end.isPresent()) {
+            return false;
+        }
+        add(value, start.get(), end.get());
+        return true;
+    }
+
+    /**
+     * Adds provided {@code value} with provided validity period to this index. If the value is already in the index, its validity period is
+     * replaced.
+     *
+     * @param value
+     *         value to add
+     * @param start
+     *         start of validity period (inclusive)
+     * @param end
+     *         end of validity period (exclusive)
+     *
+     * @throws IllegalArgumentException
+     *         if {@code end} is before {@code start}
+     */
+    public void add(final T value, final ZonedDateTime start, final ZonedDateTime end) {
+        requireNonNull(value, "value");
+        requireNonNull(start, "start");
+        requireNonNull(end, "end");
+        final long startMillis = toEpochMilli(start);
+        final long endMillis = toEpochMilli(end);
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("Validity end " + end + " is before start " + start);
+        }
+        final Entry<T> entry = new Entry<>(value, startMillis, endMillis, sequence.getAndIncrement());
+        // Count the duration before linking the entry, so that queries finding the entry also scan far enough back to find it.
+        durationCounts.merge(entry.duration(), 1, Integer::sum);
+        entries.compute(value, (key, previous) -> {
+            if (previous != null) {
+                unlink(previous);
+            }
+            byStart.computeIfAbsent(durationClass(entry.duration()), durationClass -> new ConcurrentSkipListSet<>(START_ORDER)).add(entry);
+            byEnd.add(entry);
+            return entry;
+        });
+    }
+
+    /**
+     * Removes provided {@code value} from this index.
+     *
+     * @param value
+     *         value to remove
+     *
+     * @return {@code true} if the value was in the index, {@code false} otherwise
+     */
+    public boolean remove(final T value) {
+        requireNonNull(value, "value");
+        final Entry<T> entry = entries.remove(value);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Removes all values whose validity has ended at or before provided {@code instant}, i.e. values no longer valid at {@code instant}.
+     *
+     * @param instant
+     *         instant to expire values at
+     *
+     * @return number of removed values
+     */
+    public int expire(final ZonedDateTime instant) {
+        requireNonNull(instant, "instant");
+        final long time = toEpochMilli(instant);
+        int expired = 0;
+        for (final Entry<T> entry : byEnd.headSet(probe(time, Long.MAX_VALUE), true)) {
+            if (entries.remove(entry.value, entry)) {
+                expired++;
+                unlink(entry);
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Unlinks provided entry removed from {@link #entries}. Each entry is unlinked once, by the thread that removed it.
+     */
+    private void unlink(final Entry<T> entry) {
+        byStart.get(durationClass(entry.duration())).remove(entry);
+        byEnd.remove(entry);
+        durationCounts.computeIfPresent(entry.duration(), (duration, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Returns the longest validity duration of values in this index.
+     *
+     * @return longest validity duration in milliseconds, or 0 if this index is empty
+     */
+    long getMaxDurationMillis() {
+        final Map.Entry<Long, Integer> longest = durationCounts.lastEntry();
+        return longest == null ? 0 : longest.getKey();
+    }
+
+    /**
+     * Returns the longest validity duration of values in this index within the duration class of provided {@code duration}, bounding the range of
+     * entries of that class scanned by queries.
+     *
+     * @param duration
+     *         validity duration in milliseconds
+     *
+     * @return longest validity duration in milliseconds within the duration class, or -1 if this index has no values in the class
+     */
+    long getMaxDurationMillis(final long duration) {
+        final int durationClass = durationClass(duration);
+        final Long longest = durationCounts.floorKey(maxDurationOfClass(durationClass));
+        return longest == null || durationClass(longest) != durationClass ? -1 : longest;
+    }
+
+    /**
+     * Returns the values valid at provided {@code instant}, ordered by start of validity.
+     *
+     * @param instant
+     *         instant to query
+     *
+     * @return values valid at {@code instant}
+     */
+    public List<T> getValidAt(final ZonedDateTime instant) {
+        requireNonNull(instant, "instant");
+        final List<T> result = new ArrayList<>();
+        forEachValidAt(instant, result::add);
+        return result;
+    }
+
+    /**
+     * Passes the values valid at provided {@code instant} to provided {@code action}, ordered by start of validity.
+     *
+     * @param instant
+     *         instant to query
+     * @param action
+     *         action to perform on each value
+     */
+    public void forEachValidAt(final ZonedDateTime instant, final Consumer<? super T> action) {
+        requireNonNull(instant, "instant");
+        requireNonNull(action, "action");
+        final long time = toEpochMilli(instant);
+        forEachOverlapping(time, time, action);
+    }
+
+    /**
+     * Returns the values valid at any time within provided interval, ordered by start of validity.
+     * A value is included if its validity period overlaps the interval from {@code start} (inclusive) to {@code end} (exclusive). If {@code start}
+     * equals to {@code end}, the result is equal to {@link #getValidAt(ZonedDateTime) values valid at} {@code start}.
+     *
+     * @param start
+     *         start of interval (inclusive)
+     * @param end
+     *         end of interval (exclusive)
+     *
+     * @return values valid within the interval
+     *
+     * @throws IllegalArgumentException
+     *         if {@code end} is before {@code start}
+     */
+    public List<T> getOverlapping(final ZonedDateTime start, final ZonedDateTime end) {
+        requireNonNull(start, "start");
+        requireNonNull(end, "end");
+        final List<T> result = new ArrayList<>();
+        forEachOverlapping(start, end, result::add);
+        return result;
+    }
+
+    /**
+     * Passes the values valid at any time within provided interval to provided {@code action}, ordered by start of validity.
+     *
+     * @param start
+     *         start of interval (inclusive)
+     * @param end
+     *         end of interval (exclusive)
+     * @param action
+     *         action to perform on each value
+     *
+     * @throws IllegalArgumentException
+     *         if {@code end} is before {@code start}
+     * @see #getOverlapping(ZonedDateTime, ZonedDateTime)
+     */
+    public void forEachOverlapping(final ZonedDateTime start, final ZonedDateTime end, final Consumer<? super T> action) {
+        requireNonNull(start, "start");
+        requireNonNull(end, "end");
+        requireNonNull(action, "action");
+        final long startMillis = toEpochMilli(start);
+        final long endMillis = toEpochMilli(end);
+        if (endMillis < startMillis) {
+            throw new IllegalArgumentException("Interval end " + end + " is before start " + start);
+        }
+        forEachOverlapping(startMillis, endMillis, action);
+    }
+
+    private void forEachOverlapping(final long start, final long end, final Consumer<? super T> action) {
+        // A stabbing query includes entries starting at the queried instant.
+        final Entry<T> to = start == end ? probe(end, Long.MAX_VALUE) : probe(end, Long.MIN_VALUE);
+        final List<Entry<T>> overlapping = new ArrayList<>();
+        int matchingClasses = 0;
+        for (final Map.Entry<Integer, NavigableSet<Entry<T>>> durationClass : byStart.entrySet()) {
+            final long maxDuration = getMaxDurationMillis(maxDurationOfClass(durationClass.getKey()));
+            if (maxDuration < 0) {
+                continue;
+            }
+            // Entries of this class starting before start - maxDuration have ended before start.
+            final Entry<T> from = probe(start - maxDuration, Long.MIN_VALUE);
+            final int previousSize = overlapping.size();
+            for (final Entry<T> entry : durationClass.getValue().subSet(from, true, to, false)) {
+                if (entry.end > start) {
+                    overlapping.add(entry);
+                }
+            }
+            if (overlapping.size() > previousSize) {
+                matchingClasses++;
+            }
+        }
+        if (matchingClasses > 1) {
+            // Merges the runs of each class into start order.
+            overlapping.sort(START_ORDER);
+        }
+        for (final Entry<T> entry : overlapping) {
+            action.accept(entry.value);
+        }
+    }
+
+    /**
+     * Returns the number of values in this index.
+     *
+     * @return number of values
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns {@code true} if this index contains no values.
+     *
+     * @return {@code true} if this index contains no values
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final long start;
+        private final long end;
+        private final long sequence;
+
+        Entry(final T value, final long start, final long end, final long sequence) {
+            this.value = value;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+        }
+
+        long duration() {
+            return end - start;
+        }
+    }
+}
@@ -5,11 +5,29 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+/**
+ * Mapping between codes, names and designator constants declared as public static fields of a designator class.
+ *
+ * <p>
+ * Designator codes are ASCII letters, so lookups by code use arrays indexed by the code. Codes outside the ASCII range have no designator.
+ * </p>
+ */
 class AutoReflectionDataTypeDesignatorMapping<T extends DataTypeDesignator> {
+    private static final int CODE_TABLE_SIZE = 128;
+    private static final String EXTENSION_NAME_PREFIX = "EXTENSION_";
+    private static final String[] EXTENSION_NAMES = new String[CODE_TABLE_SIZE];
 
-    private final Map<Character, T> codeToDesignator = new HashMap<>();
-    private final Map<String, T> nameToDesignator = new HashMap<>();
-    private final Map<Character, String> codeToName = new HashMap<>();
+    static {
+        for (int code = 0; code < CODE_TABLE_SIZE; code++) {
+            EXTENSION_NAMES[code] = EXTENSION_NAME_PREFIX + (char) code;
+        }
+    }
+
+    private final Optional<?>[] codeToDesignator = new Optional<?>[CODE_TABLE_SIZE];
+    private final String[] codeToName = new String[CODE_TABLE_SIZE];
+    private final Map<String, Optional<T>> nameToDesignator = new HashMap<>();
 
     AutoReflectionDataTypeDesignatorMapping(final Class<T> clz) {
         final Field[] fields = clz.getFields();
@@ -20,31 +38,50 @@ class AutoReflectionDataTypeDesignatorMapping<T extends DataTypeDesignator> {
                     final T designator = (T) field.get(null);
                     if (designator != null) {
                         final String name = field.getName();
-                        codeToDesignator.put(designator.code(), designator);
-                        nameToDesignator.put(name, designator);
-                        codeToName.put(designator.code(), name);
+                        final Optional<T> optionalDesignator = Optional.of(designator);
+                        final char code = designator.code();
+                        if (code < CODE_TABLE_SIZE) {
+                            codeToDesignator[code] = optionalDesignator;
+                            codeToName[code] = name;
+                        }
+                        nameToDesignator.put(name, optionalDesignator);
                     }
                 } catch (final IllegalAccessException e) {
                     //NO-OP
                 }
             }
         }
+        for (int code = 0; code < CODE_TABLE_SIZE; code++) {
+            if (codeToDesignator[code] == null) {
+                codeToDesignator[code] = Optional.empty();
+            }
+        }
     }
 
-    Optional<T> getOptionalDesignatorByCode(final char code) {
-        return Optional.ofNullable(codeToDesignator.get(code));
+    /**
+     * Returns the name of an extension designator with provided code.
+     *
+     * @param code
+     *         designator code
+     *
+     * @return extension designator name
+     */
+    static String getExtensionName(final char code) {
+        return code < CODE_TABLE_SIZE ? EXTENSION_NAMES[code] : EXTENSION_NAME_PREFIX + code;
     }
 
-    Optional<T> getOptionalDesignatorByName(final String name) {
-        return Optional.ofNullable(nameToDesignator.get(name));
+    @SuppressWarnings("unchecked")
+    Optional<T> getOptionalDesignatorByCode(final char code) {
+        return code < CODE_TABLE_SIZE ? (Optional<T>) codeToDesignator[code] : Optional.empty();
     }
 
-    Optional<String> getOptionalDesignatorName(final char code) {
-        return Optional.ofNullable(getNullableDesignatorName(code));
+    Optional<T> getOptionalDesignatorByName(final String name) {
+        return nameToDesignator.getOrDefault(name, Optional.empty());
     }
 
-    private String getNullableDesignatorName(final char code) {
-        return codeToName.get(code);
+    @Nullable
+    String getNullableDesignatorName(final char code) {
+        return code < CODE_TABLE_SIZE ? codeToName[code] : null;
     }
 
     String getDesignatorName(final char code) {
@@ -38,12 +38,26 @@ public interface BulletinHeading {
 
     @JsonIgnore
     default String getDataDesignatorsForTAC() {
-        return "" + getDataTypeDesignatorsForTAC() + getGeographicalDesignator() + String.format("%02d", getBulletinNumber());
+        final int bulletinNumber = getBulletinNumber();
+        final StringBuilder builder = new StringBuilder(6).append(getDataTypeDesignatorT1ForTAC().code())//
+                .append(getDataTypeDesignatorT2().code())//
+                .append(getGeographicalDesignator());
+        if (bulletinNumber >= 0 && bulletinNumber < 10) {
+            builder.append('0');
+        }
+        return builder.append(bulletinNumber).toString();
     }
 
     @JsonIgnore
     default String getDataDesignatorsForXML() {
-        return "" + getDataTypeDesignatorsForXML() + getGeographicalDesignator() + String.format("%02d", getBulletinNumber());
+        final int bulletinNumber = getBulletinNumber();
+        final StringBuilder builder = new StringBuilder(6).append(getDataTypeDesignatorT1ForXML().code())//
+                .append(getDataTypeDesignatorT2().code())//
+                .append(getGeographicalDesignator());
+        if (bulletinNumber >= 0 && bulletinNumber < 10) {
+            builder.append('0');
+        }
+        return builder.append(bulletinNumber).toString();
     }
 
     /**
@@ -96,7 +96,8 @@ public class DataTypeDesignatorT1 implements DataTypeDesignator, Serializable {
     }
 
     public static DataTypeDesignatorT1 fromCode(final char code) {
-        return MAPPING.getOptionalDesignatorByCode(code).orElseGet(() -> new DataTypeDesignatorT1(code));
+        final Optional<DataTypeDesignatorT1> designator = MAPPING.getOptionalDesignatorByCode(code);
+        return designator.isPresent() ? designator.get() : new DataTypeDesignatorT1(code);
     }
 
     public static Optional<DataTypeDesignatorT1> fromName(final String name) {
@@ -122,7 +123,8 @@ public class DataTypeDesignatorT1 implements DataTypeDesignator, Serializable {
 
     @Override
     public String name() {
-        return MAPPING.getOptionalDesignatorName(this.code).orElseGet(() -> "EXTENSION_" + code());
+        final String name = MAPPING.getNullableDesignatorName(this.code);
+        return name != null ? name : AutoReflectionDataTypeDesignatorMapping.getExtensionName(this.code);
     }
 
     public String toString() {
@@ -72,7 +72,7 @@ public class DataTypeDesignatorT2 implements DataTypeDesignator, Serializable {
 
     @Override
     public String name() {
-        return "EXTENSION_" + code();
+        return AutoReflectionDataTypeDesignatorMapping.getExtensionName(code());
     }
 
     public String toString() {
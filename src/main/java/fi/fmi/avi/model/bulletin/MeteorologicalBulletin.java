@@ -2,12 +2,17 @@ package fi.fmi.avi.model.bulletin;
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import fi.fmi.avi.model.AviationWeatherMessage;
 import fi.fmi.avi.model.AviationWeatherMessageOrCollection;
+import fi.fmi.avi.model.PartialDateTime;
+import fi.fmi.avi.model.PartialDateTime.PartialField;
 
 public interface MeteorologicalBulletin<T extends AviationWeatherMessage> extends AviationWeatherMessageOrCollection {
 
@@ -19,4 +24,24 @@ public interface MeteorologicalBulletin<T extends AviationWeatherMessage> extend
 
     Set<ChronoField> getTimeStampFields();
 
+    /**
+     * Returns the time stamp of this bulletin as a partial date-time holding the fields of {@link #getTimeStampFields()}.
+     * Time stamp fields having no corresponding {@link PartialField} are ignored.
+     *
+     * @return the time stamp as a partial date-time, or empty if this bulletin has no time stamp
+     *
+     * @throws java.time.DateTimeException
+     *         if time stamp fields do not form a continuous range of partial date-time fields
+     */
+    @JsonIgnore
+    default Optional<PartialDateTime> getPartialTimeStamp() {
+        return getTimeStamp().map(timeStamp -> {
+            final EnumSet<PartialField> fields = EnumSet.noneOf(PartialField.class);
+            for (final ChronoField timeStampField : getTimeStampFields()) {
+                PartialField.fromTemporalField(timeStampField).ifPresent(fields::add);
+            }
+            return PartialDateTime.of(timeStamp, fields, true, PartialDateTime.MIDNIGHT_0_HOUR);
+        });
+    }
+
 }
@@ -1,8 +1,19 @@
 package fi.fmi.avi.model.taf.immutable;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.Serializable;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import org.inferred.freebuilder.FreeBuilder;
 
@@ -11,6 +22,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
+import fi.fmi.avi.model.PartialDateTime;
+import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
 import fi.fmi.avi.model.bulletin.BulletinHeading;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT1;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT2;
@@ -119,6 +132,69 @@ public abstract class TAFBulletinImpl implements TAFBulletin, Serializable {
             return super.setHeading(heading);
         }
 
+        /**
+         * Completes the heading issue time near {@code reference}, and all times of the contained TAFs in context of the completed heading issue time.
+         * Equivalent to completing each TAF with {@link TAFImpl.Builder#withAllTimesComplete(ZonedDateTime)} using the completed heading issue time as
+         * reference, but each distinct partial issue time is completed only once for the whole bulletin.
+         *
+         * @param reference
+         *         reference time for the heading issue time
+         *
+         * @return builder
+         *
+         * @throws java.time.DateTimeException
+         *         if a time cannot be completed
+         */
+        public Builder withAllTimesComplete(final ZonedDateTime reference) {
+            return withAllTimesComplete(reference, Runnable::run);
+        }
+
+        /**
+         * Completes the heading issue time near {@code reference}, and all times of the contained TAFs in context of the completed heading issue time,
+         * completing each TAF as a separate task in the provided {@code executor}. This method waits for all tasks to finish.
+         *
+         * @param reference
+         *         reference time for the heading issue time
+         * @param executor
+         *         executor to complete the TAFs in
+         *
+         * @return builder
+         *
+         * @throws java.time.DateTimeException
+         *         if a time cannot be completed
+         * @see #withAllTimesComplete(ZonedDateTime)
+         */
+        public Builder withAllTimesComplete(final ZonedDateTime reference, final Executor executor) {
+            requireNonNull(reference, "reference");
+            requireNonNull(executor, "executor");
+            final PartialOrCompleteTimeInstant headingIssueTime = getHeading().getIssueTime().toBuilder().completePartialNear(reference).build();
+            final ZonedDateTime messageReference = headingIssueTime.getCompleteTime().orElse(reference);
+            setHeading(BulletinHeadingImpl.Builder.from(getHeading()).setIssueTime(headingIssueTime).build());
+
+            final Map<PartialDateTime, ZonedDateTime> completedIssueTimes = new ConcurrentHashMap<>();
+            headingIssueTime.getPartialTime().ifPresent(partial -> completedIssueTimes.put(partial, messageReference));
+            final Function<PartialDateTime, ZonedDateTime> issueTimeCompletion = partial -> completedIssueTimes.computeIfAbsent(partial,
+                    key -> key.toZonedDateTimeNear(messageReference));
+
+            final List<CompletableFuture<TAF>> futures = new ArrayList<>(getMessages().size());
+            for (final TAF message : getMessages()) {
+                futures.add(CompletableFuture.supplyAsync(
+                        () -> TAFImpl.Builder.from(message).withAllTimesComplete(messageReference, issueTimeCompletion).build(), executor));
+            }
+            final List<TAF> completedMessages = new ArrayList<>(futures.size());
+            try {
+                for (final CompletableFuture<TAF> future : futures) {
+                    completedMessages.add(future.join());
+                }
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            return clearMessages().addAllMessages(completedMessages);
+        }
+
         @Override
         @JsonDeserialize(contentAs = TAFImpl.class)
         @JsonProperty("messages")
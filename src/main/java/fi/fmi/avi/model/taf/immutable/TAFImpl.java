@@ -251,7 +251,22 @@ public abstract class TAFImpl implements TAF, Serializable {
 
         public Builder withAllTimesComplete(final ZonedDateTime reference) {
             requireNonNull(reference, "reference");
-            withCompleteIssueTimeNear(reference);
+            return withAllTimesComplete(reference, partial -> partial.toZonedDateTimeNear(reference));
+        }
+
+        /**
+         * Completes the issue time using the provided {@code issueTimeCompletion}, and the forecast times in context of the completed issue time, or
+         * {@code reference} if issue time is not present. Used for completing TAFs of a bulletin with a completion shared by all TAFs.
+         *
+         * @param reference
+         *         reference time for forecast times if issue time is not present
+         * @param issueTimeCompletion
+         *         completion of a partial issue time, equivalent to {@code partial.toZonedDateTimeNear(reference)}
+         *
+         * @return builder
+         */
+        Builder withAllTimesComplete(final ZonedDateTime reference, final Function<PartialDateTime, ZonedDateTime> issueTimeCompletion) {
+            mapIssueTime(input -> input.toBuilder().completePartial(issueTimeCompletion).build());
             return withCompleteForecastTimes(getIssueTime()//
                     .flatMap(PartialOrCompleteTimeInstant::getCompleteTime)//
                     .orElse(reference));
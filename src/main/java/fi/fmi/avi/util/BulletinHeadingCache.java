@@ -0,0 +1,343 @@
+package fi.fmi.avi.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.model.bulletin.BulletinHeading;
+
+/**
+ * Bounded cache of decoded abbreviated headings, returning a shared immutable {@link BulletinHeading} instance for recurring headings.
+ *
+ * <p>
+ * Headings are keyed by the abbreviated heading text exactly as given, e.g. {@code "FTFI33 EFPP 250200"}, and decoded by
+ * {@link BulletinHeadingDecoder} using the conversion hints given on construction. Invalid headings are not cached. Lookups hash and compare the
+ * given characters in place, so that a cache hit does not allocate even when the heading is a region of a larger {@link CharSequence}. The key
+ * is copied into a {@code String} only when a decoded heading is added to the cache.
+ * </p>
+ *
+ * <p>
+ * The cache is safe for concurrent use. Entries are distributed into independently locked segments, each evicting its least recently used
+ * entry when full. Caches of less than 128 entries have a single segment, and thus evict in strict least recently used order.
+ * </p>
+ */
+public final class BulletinHeadingCache {
+    private static final int MIN_SEGMENT_SIZE = 64;
+    private static final int MAX_SEGMENTS = 16;
+    /**
+     * Number of hash bits used for selecting the segment, and thus not used for selecting the bucket within a segment.
+     */
+    private static final int SEGMENT_HASH_BITS = Integer.numberOfTrailingZeros(MAX_SEGMENTS);
+
+    @Nullable
+    private final ConversionHints hints;
+    private final Segment[] segments;
+    private final int segmentMask;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Creates a cache of at most {@code maximumSize} headings decoded without conversion hints.
+     *
+     * @param maximumSize
+     *         maximum number of cached headings
+     *
+     * @throws IllegalArgumentException
+     *         if {@code maximumSize} is not positive
+     */
+    public BulletinHeadingCache(final int maximumSize) {
+        this(maximumSize, null);
+    }
+
+    /**
+     * Creates a cache of at most {@code maximumSize} headings decoded using provided conversion hints.
+     *
+     * @param maximumSize
+     *         maximum number of cached headings
+     * @param hints
+     *         conversion hints for decoding or {@code null}
+     *
+     * @throws IllegalArgumentException
+     *         if {@code maximumSize} is not positive
+     */
+    public BulletinHeadingCache(final int maximumSize, @Nullable final ConversionHints hints) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive, was " + maximumSize);
+        }
+        this.hints = hints;
+        final int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(Math.max(1, maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maximumSize / segmentCount);
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    /**
+     * Returns the {@link String#hashCode() string hash code} of provided region with its higher bits spread to the lower bits, without copying
+     * the region.
+     */
+    private static int hash(final CharSequence input, final int start, final int end) {
+        int hash;
+        if (start == 0 && end == input.length() && input instanceof String) {
+            hash = input.hashCode();
+        } else {
+            hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + input.charAt(i);
+            }
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static String toKey(final CharSequence input, final int start, final int end) {
+        if (start == 0 && end == input.length() && input instanceof String) {
+            return (String) input;
+        }
+        return input.subSequence(start, end).toString();
+    }
+
+    /**
+     * Returns the decoded heading of provided abbreviated heading, decoding it if not cached.
+     *
+     * @param input
+     *         abbreviated heading
+     *
+     * @return decoded bulletin heading
+     *
+     * @throws IllegalArgumentException
+     *         if {@code input} is not a valid abbreviated heading
+     * @see BulletinHeadingDecoder#decode(String, ConversionHints)
+     */
+    public BulletinHeading decode(final CharSequence input) {
+        requireNonNull(input, "input");
+        return decode(input, 0, input.length());
+    }
+
+    /**
+     * Returns the decoded heading of the abbreviated heading within provided region of {@code input}, decoding it if not cached.
+     *
+     * @param input
+     *         character sequence containing an abbreviated heading
+     * @param start
+     *         start index of abbreviated heading in {@code input} (inclusive)
+     * @param end
+     *         end index of abbreviated heading in {@code input} (exclusive)
+     *
+     * @return decoded bulletin heading
+     *
+     * @throws IllegalArgumentException
+     *         if the region is not a valid abbreviated heading
+     * @throws IndexOutOfBoundsException
+     *         if {@code start} or {@code end} is out of bounds
+     * @see BulletinHeadingDecoder#decode(CharSequence, int, int, ConversionHints)
+     */
+    public BulletinHeading decode(final CharSequence input, final int start, final int end) {
+        requireNonNull(input, "input");
+        if (start < 0 || end > input.length() || start > end) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + input.length());
+        }
+        final int hash = hash(input, start, end);
+        final Segment segment = segments[hash & segmentMask];
+        final BulletinHeading cached = segment.get(input, start, end, hash);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+        final BulletinHeading heading = BulletinHeadingDecoder.decode(input, start, end, hints);
+        return segment.putIfAbsent(toKey(input, start, end), hash, heading);
+    }
+
+    /**
+     * Returns the number of decoded headings returned from the cache.
+     *
+     * @return number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns the number of headings not found in the cache, including invalid headings.
+     *
+     * @return number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the number of cached headings.
+     *
+     * @return number of cached headings
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Removes all cached headings. Hit and miss counts are not reset.
+     */
+    public void clear() {
+        for (final Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Hash table of cached headings chained in buckets, with entries linked in least recently used order. Keys are compared to the looked up
+     * region character by character.
+     */
+    private static final class Segment {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int maximumSize;
+        /**
+         * Sentinel of the access ordered list of entries: {@code head.after} is the least and {@code head.before} the most recently used entry.
+         */
+        private final Node head = new Node(null, 0, null);
+        private Node[] table = new Node[INITIAL_CAPACITY];
+        private int size;
+
+        Segment(final int maximumSize) {
+            this.maximumSize = maximumSize;
+            head.before = head;
+            head.after = head;
+        }
+
+        private static boolean keyEquals(final String key, final CharSequence input, final int start, final int end) {
+            final int length = end - start;
+            if (key.length() != length) {
+                return false;
+            }
+            if (input instanceof String) {
+                return key.regionMatches(0, (String) input, start, length);
+            }
+            for (int i = 0; i < length; i++) {
+                if (key.charAt(i) != input.charAt(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int indexFor(final int hash, final int capacity) {
+            return (hash >>> SEGMENT_HASH_BITS) & (capacity - 1);
+        }
+
+        @Nullable
+        private Node find(final CharSequence input, final int start, final int end, final int hash) {
+            for (Node node = table[indexFor(hash, table.length)]; node != null; node = node.next) {
+                if (node.hash == hash && keyEquals(node.key, input, start, end)) {
+                    return node;
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        synchronized BulletinHeading get(final CharSequence input, final int start, final int end, final int hash) {
+            final Node node = find(input, start, end, hash);
+            if (node == null) {
+                return null;
+            }
+            node.unlink();
+            node.linkBefore(head);
+            return node.heading;
+        }
+
+        synchronized BulletinHeading putIfAbsent(final String key, final int hash, final BulletinHeading heading) {
+            final Node existing = find(key, 0, key.length(), hash);
+            if (existing != null) {
+                return existing.heading;
+            }
+            if (size >= maximumSize) {
+                remove(head.after);
+            } else if (size >= table.length - (table.length >>> 2)) {
+                resize();
+            }
+            final Node node = new Node(key, hash, heading);
+            final int index = indexFor(hash, table.length);
+            node.next = table[index];
+            table[index] = node;
+            node.linkBefore(head);
+            size++;
+            return heading;
+        }
+
+        private void remove(final Node node) {
+            final int index = indexFor(node.hash, table.length);
+            if (table[index] == node) {
+                table[index] = node.next;
+            } else {
+                Node previous = table[index];
+                while (previous.next != node) {
+                    previous = previous.next;
+                }
+                previous.next = node.next;
+            }
+            node.unlink();
+            size--;
+        }
+
+        private void resize() {
+            final Node[] newTable = new Node[table.length * 2];
+            for (Node node = head.after; node != head; node = node.after) {
+                final int index = indexFor(node.hash, newTable.length);
+                node.next = newTable[index];
+                newTable[index] = node;
+            }
+            table = newTable;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized void clear() {
+            table = new Node[INITIAL_CAPACITY];
+            head.before = head;
+            head.after = head;
+            size = 0;
+        }
+    }
+
+    private static final class Node {
+        private final String key;
+        private final int hash;
+        private final BulletinHeading heading;
+        /**
+         * Next node in the same bucket.
+         */
+        @Nullable
+        private Node next;
+        private Node before;
+        private Node after;
+
+        Node(final String key, final int hash, final BulletinHeading heading) {
+            this.key = key;
+            this.hash = hash;
+            this.heading = heading;
+        }
+
+        void unlink() {
+            before.after = after;
+            after.before = before;
+        }
+
+        void linkBefore(final Node successor) {
+            before = successor.before;
+            after = successor;
+            successor.before.after = this;
+            successor.before = this;
+        }
+    }
+}
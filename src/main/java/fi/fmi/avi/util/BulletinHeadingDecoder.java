@@ -1,8 +1,10 @@
 package fi.fmi.avi.util;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.model.PartialDateTime;
@@ -12,62 +14,261 @@ import fi.fmi.avi.model.bulletin.DataTypeDesignatorT1;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT2;
 import fi.fmi.avi.model.bulletin.immutable.BulletinHeadingImpl;
 
+/**
+ * Decoder of abbreviated headings in formats 'T1T2A1A2iiCCCCYYGGgg[BBB]' and 'T1T2A1A2ii CCCC YYGGgg[ BBB]' as defined in WMO-No. 386 Manual on
+ * the Global Telecommunication System, 2015 edition (updated 2017).
+ *
+ * <p>
+ * Whitespace between the groups is optional. The augmentation indicator BBB is accepted in form 'CCx', 'RRx' or 'AAx', where x is a letter from
+ * 'A' to 'Z', after mapping by an optional {@link BulletinHeadingIndicatorInterpreter} provided in hint
+ * {@link ConversionHints#KEY_BULLETIN_HEADING_AUGMENTATION_INDICATOR_EXTENSION}.
+ * </p>
+ */
 public final class BulletinHeadingDecoder {
-    // Abbreviated heading with lenient augmentation indicator
-    private static final Pattern ABBREVIATED_HEADING = Pattern.compile(
-            "^(?<TT>[A-Z]{2})(?<AA>[A-Z]{2})(?<ii>[0-9]{2})\\s*(?<CCCC>[A-Z]{4})\\s*(?<YY>[0-9]{2})(?<GG>[0-9]{2})(?<gg>[0-9]{2})\\s*(?<BBB>[A-Z0-9]+)?$");
-    // Strict augmentation indicator
-    private static final Pattern AUGMENTATION_INDICATOR = Pattern.compile("(?<BBB>(CC|RR|AA)[A-Z])?");
+    private static final int DATA_DESIGNATORS_LENGTH = 6;
+    private static final int LOCATION_INDICATOR_LENGTH = 4;
+    private static final int ISSUE_TIME_LENGTH = 6;
+    private static final int AUGMENTATION_INDICATOR_LENGTH = 3;
 
     private BulletinHeadingDecoder() {
         throw new AssertionError();
     }
 
+    /**
+     * Decodes provided abbreviated heading.
+     *
+     * @param input
+     *         abbreviated heading
+     * @param hints
+     *         conversion hints or {@code null}
+     *
+     * @return decoded bulletin heading
+     *
+     * @throws IllegalArgumentException
+     *         if {@code input} is not a valid abbreviated heading
+     */
     public static BulletinHeading decode(final String input, final ConversionHints hints) throws IllegalArgumentException {
-        final Matcher m = ABBREVIATED_HEADING.matcher(input);
-        final String illegalInputMessage = "String '" + input + "' does not match the Abbreviated heading formats 'T1T2A1A2iiCCCCYYGGgg[BBB]' "
-                + "or 'T1T2A1A2ii CCCC YYGGgg[ BBB]' as defined in " + "WMO-No. 386 Manual on the Global Telecommunication System, 2015 edition (updated 2017)";
-        if (!m.matches()) {
-            throw new IllegalArgumentException(illegalInputMessage);
+        requireNonNull(input, "input");
+        return decode(input, 0, input.length(), hints);
+    }
+
+    /**
+     * Decodes the abbreviated heading within provided region of {@code input}.
+     *
+     * @param input
+     *         character sequence containing an abbreviated heading
+     * @param start
+     *         start index of abbreviated heading in {@code input} (inclusive)
+     * @param end
+     *         end index of abbreviated heading in {@code input} (exclusive)
+     * @param hints
+     *         conversion hints or {@code null}
+     *
+     * @return decoded bulletin heading
+     *
+     * @throws IllegalArgumentException
+     *         if the region is not a valid abbreviated heading
+     * @throws IndexOutOfBoundsException
+     *         if {@code start} or {@code end} is out of bounds
+     */
+    public static BulletinHeading decode(final CharSequence input, final int start, final int end, final ConversionHints hints)
+            throws IllegalArgumentException {
+        final BulletinHeading heading = decodeOrNull(input, start, end, hints);
+        if (heading == null) {
+            throw new IllegalArgumentException(illegalInputMessage(input.subSequence(start, end)));
+        }
+        return heading;
+    }
+
+    /**
+     * Decodes provided abbreviated heading without throwing an exception on invalid input.
+     *
+     * @param input
+     *         abbreviated heading
+     * @param hints
+     *         conversion hints or {@code null}
+     *
+     * @return result holding either the decoded bulletin heading or an error message
+     */
+    public static Result tryDecode(final CharSequence input, final ConversionHints hints) {
+        requireNonNull(input, "input");
+        return tryDecode(input, 0, input.length(), hints);
+    }
+
+    /**
+     * Decodes the abbreviated heading within provided region of {@code input} without throwing an exception on invalid input.
+     *
+     * @param input
+     *         character sequence containing an abbreviated heading
+     * @param start
+     *         start index of abbreviated heading in {@code input} (inclusive)
+     * @param end
+     *         end index of abbreviated heading in {@code input} (exclusive)
+     * @param hints
+     *         conversion hints or {@code null}
+     *
+     * @return result holding either the decoded bulletin heading or an error message
+     *
+     * @throws IndexOutOfBoundsException
+     *         if {@code start} or {@code end} is out of bounds
+     */
+    public static Result tryDecode(final CharSequence input, final int start, final int end, final ConversionHints hints) {
+        final BulletinHeading heading = decodeOrNull(input, start, end, hints);
+        return heading == null ? new Result(null, input.subSequence(start, end).toString()) : new Result(heading, null);
+    }
+
+    @Nullable
+    private static BulletinHeading decodeOrNull(final CharSequence input, final int start, final int end, @Nullable final ConversionHints hints) {
+        requireNonNull(input, "input");
+        if (start < 0 || end > input.length() || start > end) {
+            throw new IndexOutOfBoundsException("start: " + start + ", end: " + end + ", length: " + input.length());
+        }
+        // T1T2A1A2ii
+        int index = start;
+        if (end - index < DATA_DESIGNATORS_LENGTH //
+                || !isUpperCaseLetters(input, index, index + 4) //
+                || !isDigits(input, index + 4, index + DATA_DESIGNATORS_LENGTH)) {
+            return null;
+        }
+        final char t1Code = input.charAt(index);
+        final char t2Code = input.charAt(index + 1);
+        final String geographicalDesignator = input.subSequence(index + 2, index + 4).toString();
+        final int bulletinNumber = twoDigits(input, index + 4);
+        index = skipWhitespace(input, index + DATA_DESIGNATORS_LENGTH, end);
+
+        // CCCC
+        if (end - index < LOCATION_INDICATOR_LENGTH || !isUpperCaseLetters(input, index, index + LOCATION_INDICATOR_LENGTH)) {
+            return null;
+        }
+        final int locationIndicatorStart = index;
+        index = skipWhitespace(input, index + LOCATION_INDICATOR_LENGTH, end);
+
+        // YYGGgg
+        if (end - index < ISSUE_TIME_LENGTH || !isDigits(input, index, index + ISSUE_TIME_LENGTH)) {
+            return null;
         }
+        final int day = twoDigits(input, index);
+        final int hour = twoDigits(input, index + 2);
+        final int minute = twoDigits(input, index + 4);
+        index = skipWhitespace(input, index + ISSUE_TIME_LENGTH, end);
 
+        // BBB
         BulletinHeading.Type type = BulletinHeading.Type.NORMAL;
-        Integer bulletinAugmentationNumber = null;
-
-        String bbb = m.group("BBB");
-        if (bbb != null) {
-            if (hints != null && hints.containsKey(ConversionHints.KEY_BULLETIN_HEADING_AUGMENTATION_INDICATOR_EXTENSION)) {
-                final Object value = hints.get(ConversionHints.KEY_BULLETIN_HEADING_AUGMENTATION_INDICATOR_EXTENSION);
-                if (value instanceof BulletinHeadingIndicatorInterpreter) {
-                    bbb = ((BulletinHeadingIndicatorInterpreter) value).apply(bbb);
-                }
+        int bulletinAugmentationNumber = -1;
+        if (index < end) {
+            if (!isUpperCaseLettersOrDigits(input, index, end)) {
+                return null;
             }
-
-            final Matcher bbbMatcher = AUGMENTATION_INDICATOR.matcher(bbb);
-            if (!bbbMatcher.matches()) {
-                throw new IllegalArgumentException(illegalInputMessage);
+            final CharSequence bbb = interpretAugmentationIndicator(input, index, end, hints);
+            if (bbb.length() != AUGMENTATION_INDICATOR_LENGTH) {
+                return null;
             }
-
-            type = BulletinHeading.Type.fromCode(bbb.substring(0, 2));
-            bulletinAugmentationNumber = decodeAugmentationNumber(bbb.charAt(2));
+            type = augmentationIndicatorType(bbb.charAt(0), bbb.charAt(1));
+            final char augmentationNumberChar = bbb.charAt(2);
+            if (type == null || augmentationNumberChar < BulletinHeadingEncoder.AUGMENTATION_NUMBER_MIN_CHAR
+                    || augmentationNumberChar > BulletinHeadingEncoder.AUGMENTATION_NUMBER_MAX_CHAR) {
+                return null;
+            }
+            bulletinAugmentationNumber = decodeAugmentationNumber(augmentationNumberChar);
         }
 
-        final DataTypeDesignatorT1 t1 = DataTypeDesignatorT1.fromCode(m.group("TT").charAt(0));
-        final char t2Code = m.group("TT").charAt(1);
-        final DataTypeDesignatorT2 t2 = t1.t2FromCode(t2Code)
-                .map(designator -> (DataTypeDesignatorT2) designator)
-                .orElse(DataTypeDesignatorT2.fromExtensionCode(t2Code));
-        final String issueTime = "--" + m.group("YY") + "T" + m.group("GG") + ":" + m.group("gg");
-        return BulletinHeadingImpl.builder()//
-                .setLocationIndicator(m.group("CCCC"))//
-                .setGeographicalDesignator(m.group("AA"))//
-                .setBulletinNumber(Integer.parseInt(m.group("ii")))//
+        final DataTypeDesignatorT1 t1 = DataTypeDesignatorT1.fromCode(t1Code);
+        final Optional<? extends DataTypeDesignatorT2> knownT2 = t1.t2FromCode(t2Code);
+        final BulletinHeadingImpl.Builder builder = BulletinHeadingImpl.builder()//
+                .setLocationIndicator(input.subSequence(locationIndicatorStart, locationIndicatorStart + LOCATION_INDICATOR_LENGTH).toString())//
+                .setGeographicalDesignator(geographicalDesignator)//
+                .setBulletinNumber(bulletinNumber)//
                 .setType(type)//
-                .setBulletinAugmentationNumber(Optional.ofNullable(bulletinAugmentationNumber))//
                 .setDataTypeDesignatorT1ForTAC(t1)//
-                .setDataTypeDesignatorT2(t2)//
-                .setIssueTime(PartialOrCompleteTimeInstant.of(PartialDateTime.parse(issueTime)))//
-                .build();
+                .setDataTypeDesignatorT2(knownT2.isPresent() ? knownT2.get() : DataTypeDesignatorT2.fromExtensionCode(t2Code))//
+                .setIssueTime(PartialOrCompleteTimeInstant.of(PartialDateTime.ofDayHourMinute(day, hour, minute)));
+        if (bulletinAugmentationNumber >= 0) {
+            builder.setBulletinAugmentationNumber(bulletinAugmentationNumber);
+        }
+        return builder.build();
+    }
+
+    private static CharSequence interpretAugmentationIndicator(final CharSequence input, final int start, final int end,
+            @Nullable final ConversionHints hints) {
+        if (hints != null) {
+            final Object value = hints.get(ConversionHints.KEY_BULLETIN_HEADING_AUGMENTATION_INDICATOR_EXTENSION);
+            if (value instanceof BulletinHeadingIndicatorInterpreter) {
+                final String interpreted = ((BulletinHeadingIndicatorInterpreter) value).apply(input.subSequence(start, end).toString());
+                return interpreted == null ? "" : interpreted;
+            }
+        }
+        return input.subSequence(start, end);
+    }
+
+    @Nullable
+    private static BulletinHeading.Type augmentationIndicatorType(final char first, final char second) {
+        if (first != second) {
+            return null;
+        }
+        switch (first) {
+            case 'R':
+                return BulletinHeading.Type.DELAYED;
+            case 'A':
+                return BulletinHeading.Type.AMENDED;
+            case 'C':
+                return BulletinHeading.Type.CORRECTED;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isUpperCaseLetters(final CharSequence input, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigits(final CharSequence input, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isUpperCaseLettersOrDigits(final CharSequence input, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if ((c < 'A' || c > 'Z') && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int twoDigits(final CharSequence input, final int index) {
+        return (input.charAt(index) - '0') * 10 + (input.charAt(index + 1) - '0');
+    }
+
+    /**
+     * Skips whitespace as defined by the regular expression character class {@code \s}.
+     */
+    private static int skipWhitespace(final CharSequence input, final int start, final int end) {
+        int index = start;
+        while (index < end) {
+            final char c = input.charAt(index);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\u000B' && c != '\f' && c != '\r') {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+
+    private static String illegalInputMessage(final CharSequence input) {
+        return "String '" + input + "' does not match the Abbreviated heading formats 'T1T2A1A2iiCCCCYYGGgg[BBB]' "
+                + "or 'T1T2A1A2ii CCCC YYGGgg[ BBB]' as defined in " + "WMO-No. 386 Manual on the Global Telecommunication System, 2015 edition (updated 2017)";
     }
 
     public static int decodeAugmentationNumber(final char tacChar) {
@@ -79,4 +280,66 @@ public final class BulletinHeadingDecoder {
         return tacChar - BulletinHeadingEncoder.AUGMENTATION_NUMBER_MIN_CHAR + BulletinHeadingEncoder.AUGMENTATION_NUMBER_MIN;
     }
 
+    /**
+     * Result of {@link #tryDecode(CharSequence, ConversionHints) decoding} an abbreviated heading. A result holds either the decoded bulletin
+     * heading or the invalid input. The error message is created on request.
+     */
+    public static final class Result {
+        @Nullable
+        private final BulletinHeading heading;
+        @Nullable
+        private final String invalidInput;
+
+        private Result(@Nullable final BulletinHeading heading, @Nullable final String invalidInput) {
+            this.heading = heading;
+            this.invalidInput = invalidInput;
+        }
+
+        /**
+         * Returns {@code true} if the abbreviated heading was decoded successfully.
+         *
+         * @return {@code true} if the abbreviated heading was decoded successfully, {@code false} otherwise
+         */
+        public boolean isSuccess() {
+            return heading != null;
+        }
+
+        /**
+         * Returns the decoded bulletin heading, if decoding succeeded.
+         *
+         * @return the decoded bulletin heading or empty if decoding failed
+         */
+        public Optional<BulletinHeading> getHeading() {
+            return Optional.ofNullable(heading);
+        }
+
+        /**
+         * Returns the message describing why decoding failed, if decoding failed.
+         *
+         * @return the error message or empty if decoding succeeded
+         */
+        public Optional<String> getErrorMessage() {
+            return invalidInput == null ? Optional.empty() : Optional.of(illegalInputMessage(invalidInput));
+        }
+
+        /**
+         * Returns the decoded bulletin heading, or throws an exception if decoding failed.
+         *
+         * @return the decoded bulletin heading
+         *
+         * @throws IllegalArgumentException
+         *         if decoding failed
+         */
+        public BulletinHeading getHeadingOrThrow() {
+            if (heading == null) {
+                throw new IllegalArgumentException(illegalInputMessage(invalidInput));
+            }
+            return heading;
+        }
+
+        @Override
+        public String toString() {
+            return heading == null ? "Result{invalidInput=" + invalidInput + "}" : "Result{heading=" + heading + "}";
+        }
+    }
 }
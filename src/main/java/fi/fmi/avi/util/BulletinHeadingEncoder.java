@@ -2,9 +2,9 @@ package fi.fmi.avi.util;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.OptionalInt;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 
 import fi.fmi.avi.converter.ConversionHints;
 import fi.fmi.avi.model.MessageFormat;
@@ -17,6 +17,20 @@ public final class BulletinHeadingEncoder {
     static final int AUGMENTATION_NUMBER_MIN = 1;
     static final int AUGMENTATION_NUMBER_MAX = AUGMENTATION_NUMBER_MAX_CHAR - AUGMENTATION_NUMBER_MIN_CHAR + AUGMENTATION_NUMBER_MIN;
 
+    /**
+     * Tens and ones digits of values 0-99, indexed by value.
+     */
+    private static final char[] TENS_DIGITS = new char[100];
+    private static final char[] ONES_DIGITS = new char[100];
+    private static final int ABBREVIATED_HEADING_MAX_LENGTH = 22;
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            TENS_DIGITS[i] = (char) ('0' + i / 10);
+            ONES_DIGITS[i] = (char) ('0' + i % 10);
+        }
+    }
+
     private BulletinHeadingEncoder() {
         throw new AssertionError();
     }
@@ -27,30 +41,148 @@ public final class BulletinHeadingEncoder {
     }
 
     public static String encode(final BulletinHeading input, final MessageFormat messageFormat, final ConversionHints hints) {
+        return appendTo(new StringBuilder(ABBREVIATED_HEADING_MAX_LENGTH), input, messageFormat, hints).toString();
+    }
+
+    /**
+     * Appends the abbreviated heading of provided bulletin heading to provided {@code appendable}.
+     * The heading is validated before appending, so nothing is appended if the heading cannot be encoded.
+     *
+     * @param appendable
+     *         target to append to
+     * @param input
+     *         bulletin heading to encode
+     * @param messageFormat
+     *         message format determining the data type designator T1
+     * @param hints
+     *         conversion hints or {@code null}
+     * @param <A>
+     *         type of target
+     *
+     * @return {@code appendable}
+     *
+     * @throws IOException
+     *         if thrown by {@code appendable}
+     * @throws IllegalArgumentException
+     *         if the heading cannot be encoded
+     */
+    public static <A extends Appendable> A appendTo(final A appendable, final BulletinHeading input, final MessageFormat messageFormat,
+            final ConversionHints hints) throws IOException {
+        requireNonNull(appendable, "appendable");
         requireNonNull(input, "input");
         requireNonNull(messageFormat, "messageFormat");
-        boolean useSpaces = true;
-        if (hints != null && hints.containsKey(ConversionHints.KEY_BULLETIN_HEADING_SPACING)) {
-            useSpaces = hints.get(ConversionHints.KEY_BULLETIN_HEADING_SPACING).equals(ConversionHints.VALUE_BULLETIN_HEADING_SPACING_SPACE);
-        }
-        final StringBuilder sb = new StringBuilder();
-        sb.append(getDataDesignators(input, messageFormat));
+        final boolean useSpaces = useSpaces(hints);
+        final char t1Code = getDataTypeDesignatorT1Code(input, messageFormat);
+        final PartialOrCompleteTimeInstant issueTime = input.getIssueTime();
+        checkIssueTime(issueTime);
+        checkBBBIndicatorDataConsistency(input);
+        final boolean encodesBBBIndicator = encodesBBBIndicator(input.getType());
+        final char augmentationNumberChar = encodesBBBIndicator ? encodeAugmentationNumber(input.getBulletinAugmentationNumber().orElse(1)) : 0;
+
+        appendable.append(t1Code)//
+                .append(input.getDataTypeDesignatorT2().code())//
+                .append(input.getGeographicalDesignator());
+        appendTwoDigits(appendable, input.getBulletinNumber());
         if (useSpaces) {
-            sb.append(' ');
+            appendable.append(' ');
         }
-        sb.append(input.getLocationIndicator());
+        appendable.append(input.getLocationIndicator());
         if (useSpaces) {
-            sb.append(' ');
+            appendable.append(' ');
         }
-        appendIssueTime(sb, input.getIssueTime());
-        checkBBBIndicatorDataConsistency(input);
-        if (encodesBBBIndicator(input.getType())) {
+        appendTwoDigits(appendable, issueTime.getDayOr(-1));
+        appendTwoDigits(appendable, issueTime.getHourOr(-1));
+        appendTwoDigits(appendable, issueTime.getMinuteOr(-1));
+        if (encodesBBBIndicator) {
             if (useSpaces) {
-                sb.append(' ');
+                appendable.append(' ');
             }
-            appendBBBIndicator(sb, input.getType(), input.getBulletinAugmentationNumber().orElse(1));
+            appendable.append(input.getType().getPrefix()).append(augmentationNumberChar);
+        }
+        return appendable;
+    }
+
+    /**
+     * Appends the abbreviated heading of provided bulletin heading to provided {@code builder}.
+     *
+     * @param builder
+     *         target to append to
+     * @param input
+     *         bulletin heading to encode
+     * @param messageFormat
+     *         message format determining the data type designator T1
+     * @param hints
+     *         conversion hints or {@code null}
+     *
+     * @return {@code builder}
+     *
+     * @throws IllegalArgumentException
+     *         if the heading cannot be encoded
+     * @see #appendTo(Appendable, BulletinHeading, MessageFormat, ConversionHints)
+     */
+    public static StringBuilder appendTo(final StringBuilder builder, final BulletinHeading input, final MessageFormat messageFormat,
+            final ConversionHints hints) {
+        try {
+            appendTo((Appendable) builder, input, messageFormat, hints);
+            return builder;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the abbreviated heading of provided bulletin heading into provided {@code buffer} as US-ASCII bytes, starting at the current
+     * position of the buffer. On success the position is advanced past the written bytes. On failure the position is left unchanged.
+     *
+     * @param buffer
+     *         target buffer
+     * @param input
+     *         bulletin heading to encode
+     * @param messageFormat
+     *         message format determining the data type designator T1
+     * @param hints
+     *         conversion hints or {@code null}
+     *
+     * @return {@code buffer}
+     *
+     * @throws java.nio.BufferOverflowException
+     *         if there is not enough space remaining in the buffer
+     * @throws java.nio.ReadOnlyBufferException
+     *         if the buffer is read-only
+     * @throws IllegalArgumentException
+     *         if the heading cannot be encoded or contains non-ASCII characters
+     */
+    public static ByteBuffer appendTo(final ByteBuffer buffer, final BulletinHeading input, final MessageFormat messageFormat,
+            final ConversionHints hints) {
+        requireNonNull(buffer, "buffer");
+        final int position = buffer.position();
+        try {
+            appendTo(new AsciiByteBufferAppendable(buffer), input, messageFormat, hints);
+        } catch (final IOException e) {
+            buffer.position(position);
+            throw new UncheckedIOException(e);
+        } catch (final RuntimeException e) {
+            buffer.position(position);
+            throw e;
+        }
+        return buffer;
+    }
+
+    private static boolean useSpaces(final ConversionHints hints) {
+        if (hints != null && hints.containsKey(ConversionHints.KEY_BULLETIN_HEADING_SPACING)) {
+            return ConversionHints.VALUE_BULLETIN_HEADING_SPACING_SPACE.equals(hints.get(ConversionHints.KEY_BULLETIN_HEADING_SPACING));
+        }
+        return true;
+    }
+
+    private static char getDataTypeDesignatorT1Code(final BulletinHeading input, final MessageFormat messageFormat) {
+        if (messageFormat.equals(MessageFormat.TEXT)) {
+            return input.getDataTypeDesignatorT1ForTAC().code();
+        } else if (messageFormat.equals(MessageFormat.XML)) {
+            return input.getDataTypeDesignatorT1ForXML().code();
+        } else {
+            throw new IllegalArgumentException("Unsupported messageFormat: " + messageFormat);
         }
-        return sb.toString();
     }
 
     public static String getDataDesignators(final BulletinHeading input, final MessageFormat messageFormat) {
@@ -67,25 +199,68 @@ public final class BulletinHeadingEncoder {
 
     public static String encodeIssueTime(final PartialOrCompleteTimeInstant issueTime) {
         requireNonNull(issueTime, "issueTime");
-        return appendIssueTime(new StringBuilder(), issueTime).toString();
-    }
-
-    private static StringBuilder appendIssueTime(final StringBuilder sb, final PartialOrCompleteTimeInstant issueTime) {
-        final OptionalInt day = issueTime.getDay();
-        final OptionalInt hour = issueTime.getHour();
-        final OptionalInt minute = issueTime.getMinute();
-        if (!day.isPresent() || !hour.isPresent() || !minute.isPresent()) {
-            final String emptyFields = Stream.of(//
-                    day.isPresent() ? "" : "day", //
-                    hour.isPresent() ? "" : "hour", //
-                    minute.isPresent() ? "" : "minute")//
-                    .filter(field -> !field.isEmpty())//
-                    .collect(Collectors.joining(", "));
+        try {
+            return appendIssueTime(new StringBuilder(6), issueTime).toString();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends provided issue time in format 'YYGGgg' to provided {@code appendable}.
+     *
+     * @param appendable
+     *         target to append to
+     * @param issueTime
+     *         issue time to encode
+     * @param <A>
+     *         type of target
+     *
+     * @return {@code appendable}
+     *
+     * @throws IOException
+     *         if thrown by {@code appendable}
+     * @throws IllegalArgumentException
+     *         if the issue time is missing day, hour or minute
+     */
+    public static <A extends Appendable> A appendIssueTime(final A appendable, final PartialOrCompleteTimeInstant issueTime) throws IOException {
+        requireNonNull(appendable, "appendable");
+        requireNonNull(issueTime, "issueTime");
+        checkIssueTime(issueTime);
+        appendTwoDigits(appendable, issueTime.getDayOr(-1));
+        appendTwoDigits(appendable, issueTime.getHourOr(-1));
+        appendTwoDigits(appendable, issueTime.getMinuteOr(-1));
+        return appendable;
+    }
+
+    private static void checkIssueTime(final PartialOrCompleteTimeInstant issueTime) {
+        final int day = issueTime.getDayOr(-1);
+        final int hour = issueTime.getHourOr(-1);
+        final int minute = issueTime.getMinuteOr(-1);
+        if (day < 0 || hour < 0 || minute < 0) {
+            final StringBuilder emptyFields = new StringBuilder();
+            appendEmptyFieldName(emptyFields, day, "day");
+            appendEmptyFieldName(emptyFields, hour, "hour");
+            appendEmptyFieldName(emptyFields, minute, "minute");
             throw new IllegalArgumentException("Missing " + emptyFields + " from bulletin issue time " + issueTime);
         }
-        return sb.append(String.format("%02d", day.getAsInt()))//
-                .append(String.format("%02d", hour.getAsInt()))//
-                .append(String.format("%02d", minute.getAsInt()));
+    }
+
+    private static void appendEmptyFieldName(final StringBuilder builder, final int value, final String fieldName) {
+        if (value < 0) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(fieldName);
+        }
+    }
+
+    private static void appendTwoDigits(final Appendable appendable, final int value) throws IOException {
+        if (value >= 0 && value < 100) {
+            appendable.append(TENS_DIGITS[value]).append(ONES_DIGITS[value]);
+        } else {
+            appendable.append(Integer.toString(value));
+        }
     }
 
     private static void checkBBBIndicatorDataConsistency(final BulletinHeading input) {
@@ -113,12 +288,7 @@ public final class BulletinHeadingEncoder {
         if (!encodesBBBIndicator(bulletinHeadingType)) {
             return "";
         }
-        return appendBBBIndicator(new StringBuilder(), bulletinHeadingType, augmentationNumber).toString();
-    }
-
-    private static StringBuilder appendBBBIndicator(final StringBuilder sb, final BulletinHeading.Type bulletinHeadingType, final int augmentationNumber) {
-        return sb.append(bulletinHeadingType.getPrefix())//
-                .append(encodeAugmentationNumber(augmentationNumber));
+        return new StringBuilder(3).append(bulletinHeadingType.getPrefix()).append(encodeAugmentationNumber(augmentationNumber)).toString();
     }
 
     public static char encodeAugmentationNumber(final int augmentationNumber) {
@@ -129,4 +299,34 @@ public final class BulletinHeadingEncoder {
         }
         return (char) (augmentationNumber - AUGMENTATION_NUMBER_MIN + AUGMENTATION_NUMBER_MIN_CHAR);
     }
+
+    private static final class AsciiByteBufferAppendable implements Appendable {
+        private final ByteBuffer buffer;
+
+        AsciiByteBufferAppendable(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq) {
+            return append(csq, 0, csq.length());
+        }
+
+        @Override
+        public Appendable append(final CharSequence csq, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                append(csq.charAt(i));
+            }
+            return this;
+        }
+
+        @Override
+        public Appendable append(final char c) {
+            if (c > 0x7F) {
+                throw new IllegalArgumentException("Non-ASCII character '" + c + "' in bulletin heading");
+            }
+            buffer.put((byte) c);
+            return this;
+        }
+    }
 }
@@ -1,44 +1,86 @@
 package fi.fmi.avi.util;
 
 import java.io.Serializable;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
 import java.time.Month;
-import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 import org.inferred.freebuilder.FreeBuilder;
 
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.model.PartialDateTime;
+import fi.fmi.avi.model.PartialDateTime.PartialField;
+import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
 import fi.fmi.avi.model.bulletin.BulletinHeading;
+import fi.fmi.avi.model.bulletin.DataTypeDesignatorT1;
+import fi.fmi.avi.model.bulletin.DataTypeDesignatorT2;
 import fi.fmi.avi.model.bulletin.immutable.BulletinHeadingImpl;
 
+/**
+ * File name information of files exchanged over FTP/SFTP as defined in the General file naming conventions of the WMO-No. 386 Manual on the Global
+ * Telecommunication System, 2015 edition (updated 2017):
+ *
+ * <pre>
+ * pflag_productidentifier_C_CCCC_yyyyMMddhhmmss[_freeformat].type[.compression]
+ * </pre>
+ *
+ * <p>
+ * The product identifier depends on the {@link GTSExchangePFlag P-flag}:
+ * </p>
+ * <ul>
+ *     <li>{@code T}: data designators T1T2A1A2ii of the {@link #getHeading() heading}</li>
+ *     <li>{@code A}: abbreviated heading T1T2A1A2iiCCCCYYGGgg[BBB] of the {@link #getHeading() heading}</li>
+ *     <li>{@code W}, {@code Z} and {@code X}: the {@link #getProductIdentifier() product identifier} as is</li>
+ * </ul>
+ * <p>
+ * A P-flag followed by {@code M} denotes a metadata file.
+ * </p>
+ */
 @FreeBuilder
 public abstract class GTSExchangeFileInfo implements Serializable {
 
-    private static final Set<TimeStampField> DEFAULT_TIME_FIELDS = new HashSet<>(Arrays.asList(TimeStampField.YEAR, //
-            TimeStampField.MONTH, //
-            TimeStampField.DAY, //
-            TimeStampField.HOUR, //
-            TimeStampField.MINUTE, //
-            TimeStampField.SECOND));
+    private static final Set<TimeStampField> DEFAULT_TIME_FIELDS = Collections.unmodifiableSet(EnumSet.allOf(TimeStampField.class));
+    private static final TimeStampField[] TIME_STAMP_FIELDS = TimeStampField.values();
     private static final long serialVersionUID = -3155603027188089668L;
-    //A_T1T2A1A2iiCCCCYYGGgg[BBB]_C_CCCC_yyyyMMddhhmmss[_freeformat].type[.compression]
-    private static final Pattern P_FLAG_A_PATTERN = Pattern.compile("^A(?<meta>M)?_" + "(?<T1T2>[A-Z]{2})(?<A1A2>[A-Z]{2})(?<ii>[0-9]{2})(?<CCCC>[A-Z]{4})"
-            + "(?<issueDay>[0-9]{2})(?<issueHour>[0-9]{2})(?<issueMinute>[0-9]{2})(?<BBB>(CC|RR|AA)[A-Z])?" + "_C_[A-Z]{4}_"
-            + "(?<yyyy>[0-9]{4}|----)(?<MM>[0-9]{2}|--)(?<dd>[0-9]{2}|--)(?<hh>[0-9]{2}|--)(?<mm>[0-9]{2}|--)(?<ss>[0-9]{2}|--)"
-            + "(_(?<freeForm>[a-zA-Z0-9_-]*))?.(?<type>[a-z]{2,3})(.(?<compression>[a-zA_Z0-9]{1,3}))?$");
+    private static final int FILE_NAME_CAPACITY = 64;
 
     public abstract Builder toBuilder();
 
     public abstract GTSExchangePFlag getPFlag();
 
+    /**
+     * Returns the bulletin heading of a file named with P-flag {@code T} or {@code A}. A {@code T} file name contains only the data designators
+     * of the heading; on parsing, the location indicator is set to the originator and the issue time to the day, hour and minute of the time
+     * stamp.
+     *
+     * @return bulletin heading, or {@code null} if not set
+     */
+    @Nullable
     public abstract BulletinHeading getHeading();
 
+    /**
+     * Returns the product identifier of a file named with P-flag {@code W}, {@code Z} or {@code X}. A product identifier may not contain
+     * underscores or periods.
+     *
+     * @return product identifier
+     */
+    public abstract Optional<String> getProductIdentifier();
+
+    /**
+     * Returns the location indicator CCCC of the originator. If not set, the location indicator of the {@link #getHeading() heading} is used as
+     * the originator.
+     *
+     * @return originator location indicator
+     */
+    public abstract Optional<String> getOriginator();
+
     public abstract GTSExchangeFileType getFileType();
 
     public abstract Optional<GTSExchangeCompressionType> getCompressionType();
@@ -47,172 +89,210 @@ public abstract class GTSExchangeFileInfo implements Serializable {
 
     public abstract boolean isMetadataFile();
 
-    //TODO: adopt PartialDateTime to work with year, month and second fields too
-    //Until then, use separate int fields in this class:
-    public abstract Optional<Integer> getTimeStampYear();
+    public abstract Optional<PartialDateTime> getTimeStamp();
+
+    /**
+     * @deprecated use {@link #getTimeStamp()} instead
+     */
+    @Deprecated
+    public Optional<Integer> getTimeStampYear() {
+        return getTimeStampField(PartialField.YEAR);
+    }
+
+    /**
+     * @deprecated use {@link #getTimeStamp()} instead
+     */
+    @Deprecated
+    public Optional<Month> getTimeStampMonth() {
+        return getTimeStampField(PartialField.MONTH).map(Month::of);
+    }
 
-    public abstract Optional<Month> getTimeStampMonth();
+    /**
+     * @deprecated use {@link #getTimeStamp()} instead
+     */
+    @Deprecated
+    public Optional<Integer> getTimeStampDay() {
+        return getTimeStampField(PartialField.DAY);
+    }
 
-    public abstract Optional<Integer> getTimeStampDay();
+    /**
+     * @deprecated use {@link #getTimeStamp()} instead
+     */
+    @Deprecated
+    public Optional<Integer> getTimeStampHour() {
+        return getTimeStampField(PartialField.HOUR);
+    }
 
-    public abstract Optional<Integer> getTimeStampHour();
+    /**
+     * @deprecated use {@link #getTimeStamp()} instead
+     */
+    @Deprecated
+    public Optional<Integer> getTimeStampMinute() {
+        return getTimeStampField(PartialField.MINUTE);
+    }
 
-    public abstract Optional<Integer> getTimeStampMinute();
+    /**
+     * @deprecated use {@link #getTimeStamp()} instead
+     */
+    @Deprecated
+    public Optional<Integer> getTimeStampSecond() {
+        return getTimeStampField(PartialField.SECOND);
+    }
 
-    public abstract Optional<Integer> getTimeStampSecond();
+    private Optional<Integer> getTimeStampField(final PartialField field) {
+        final OptionalInt value = getTimeStamp().map(timeStamp -> timeStamp.get(field)).orElse(OptionalInt.empty());
+        return value.isPresent() ? Optional.of(value.getAsInt()) : Optional.empty();
+    }
 
     public String toGTSExchangeFileName() {
         return this.toGTSExchangeFileName(DEFAULT_TIME_FIELDS);
     }
 
     public String toGTSExchangeFileName(final Set<TimeStampField> fieldsToInclude) {
+        return appendGTSExchangeFileName(new StringBuilder(FILE_NAME_CAPACITY), fieldsToInclude).toString();
+    }
+
+    /**
+     * Appends the file name with time stamp fields provided in {@code fieldsToInclude} to provided builder. Time stamp fields not included, or
+     * missing in the time stamp, are written as dashes.
+     *
+     * @param builder
+     *         builder to append to
+     * @param fieldsToInclude
+     *         time stamp fields to include in the file name
+     *
+     * @return provided builder
+     */
+    public StringBuilder appendGTSExchangeFileName(final StringBuilder builder, final Set<TimeStampField> fieldsToInclude) {
+        final GTSExchangePFlag pFlag = this.getPFlag();
+        final BulletinHeading heading = this.getHeading();
+        builder.append(pFlag.name());
+        if (this.isMetadataFile()) {
+            builder.append('M');
+        }
+        builder.append('_');
 
-        //TODO: rest of the types
-        switch (this.getPFlag()) {
+        switch (pFlag) {
+            case T:
+                //T1T2A1A2ii
+                appendDataDesignators(builder, requireHeading(heading));
+                break;
             case A:
-                return createATypeFileName(fieldsToInclude);
+                //T1T2A1A2iiCCCCYYGGgg[BBB]
+                appendAbbreviatedHeading(builder, requireHeading(heading));
+                break;
             default:
-                throw new IllegalStateException("Names with pFlag value '" + this.getPFlag() + "' not yet supported");
+                final Optional<String> productIdentifier = this.getProductIdentifier();
+                if (!productIdentifier.isPresent()) {
+                    throw new IllegalStateException("Product identifier is required for pFlag value '" + pFlag + "'");
+                }
+                builder.append(productIdentifier.get());
         }
 
-    }
+        builder.append("_C_");
+        final Optional<String> originator = this.getOriginator();
+        builder.append(originator.isPresent() ? originator.get() : requireHeading(heading).getLocationIndicator());
+        builder.append('_');
+
+        final PartialDateTime timeStamp = this.getTimeStamp().orElse(null);
+        for (final TimeStampField timeStampField : TIME_STAMP_FIELDS) {
+            final PartialField field = timeStampField.getPartialField();
+            final int value = timeStamp == null ? -1 : timeStamp.getOr(field, -1);
+            if (value >= 0 && fieldsToInclude.contains(timeStampField)) {
+                appendZeroPadded(builder, value, field.getDigits());
+            } else {
+                for (int i = 0; i < field.getDigits(); i++) {
+                    builder.append('-');
+                }
+            }
+        }
 
-    private String createATypeFileName(final Set<TimeStampField> fieldsToInclude) {
-        final StringBuilder sb = new StringBuilder();
-        sb.append('A');
-        if (this.isMetadataFile()) {
-            sb.append('M');
+        final Optional<String> freeFormPart = this.getFreeFormPart();
+        if (freeFormPart.isPresent()) {
+            builder.append('_');
+            builder.append(freeFormPart.get());
+        }
+        builder.append('.');
+        builder.append(this.getFileType().getExtension());
+        final Optional<GTSExchangeCompressionType> compressionType = this.getCompressionType();
+        if (compressionType.isPresent()) {
+            builder.append('.');
+            builder.append(compressionType.get().getExtension());
         }
-        sb.append('_');
+        return builder;
+    }
 
-        //T1T2A1A2ii
-        if (this.getFileType() == GTSExchangeFileType.XML) {
-            sb.append(this.getHeading().getDataDesignatorsForXML());
-        } else {
-            sb.append(this.getHeading().getDataDesignatorsForTAC());
+    private BulletinHeading requireHeading(@Nullable final BulletinHeading heading) {
+        if (heading == null) {
+            throw new IllegalStateException("Heading is required for pFlag value '" + this.getPFlag() + "'");
         }
+        return heading;
+    }
+
+    private void appendDataDesignators(final StringBuilder builder, final BulletinHeading heading) {
+        final DataTypeDesignatorT1 t1 = this.getFileType() == GTSExchangeFileType.XML
+                ? heading.getDataTypeDesignatorT1ForXML()
+                : heading.getDataTypeDesignatorT1ForTAC();
+        builder.append(t1.code())//
+                .append(heading.getDataTypeDesignatorT2().code())//
+                .append(heading.getGeographicalDesignator());
+        appendZeroPadded(builder, heading.getBulletinNumber(), 2);
+    }
+
+    private void appendAbbreviatedHeading(final StringBuilder builder, final BulletinHeading heading) {
+        appendDataDesignators(builder, heading);
 
         //CCCC:
-        sb.append(this.getHeading().getLocationIndicator());
+        builder.append(heading.getLocationIndicator());
 
         //YYGGgg:
-        final OptionalInt dayOfMonth = this.getHeading().getIssueTime().getDay();
-        final OptionalInt hourOfDay = this.getHeading().getIssueTime().getHour();
-        final OptionalInt minute = this.getHeading().getIssueTime().getMinute();
-        if (!dayOfMonth.isPresent() || !hourOfDay.isPresent() || !minute.isPresent()) {
+        final PartialOrCompleteTimeInstant issueTime = heading.getIssueTime();
+        final int dayOfMonth = issueTime.getDayOr(-1);
+        final int hourOfDay = issueTime.getHourOr(-1);
+        final int minute = issueTime.getMinuteOr(-1);
+        if (dayOfMonth < 0 || hourOfDay < 0 || minute < 0) {
             throw new IllegalArgumentException("Issue time must be given with day, hour and minute information");
         }
-        sb.append(String.format("%02d", dayOfMonth.getAsInt()));
-        sb.append(String.format("%02d", hourOfDay.getAsInt()));
-        sb.append(String.format("%02d", minute.getAsInt()));
+        appendZeroPadded(builder, dayOfMonth, 2);
+        appendZeroPadded(builder, hourOfDay, 2);
+        appendZeroPadded(builder, minute, 2);
 
         //BBB:
-        final Optional<Integer> augNumber = this.getHeading().getBulletinAugmentationNumber();
+        final Optional<Integer> augNumber = heading.getBulletinAugmentationNumber();
         if (augNumber.isPresent()) {
-            int seqNumber = augNumber.get();
-            seqNumber = 'A' + seqNumber - 1;
-            sb.append(this.getHeading().getType().getPrefix());
-            sb.append(Character.toChars(seqNumber));
-        }
-
-        sb.append('_');
-        sb.append('C');
-        sb.append('_');
-        sb.append(this.getHeading().getLocationIndicator());
-        sb.append('_');
-
-        final Optional<Integer> timeStampYear = this.getTimeStampYear();
-        if (fieldsToInclude.contains(TimeStampField.YEAR) && timeStampYear.isPresent()) {
-            sb.append(String.format("%04d", timeStampYear.get()));
-        } else {
-            sb.append("----");
-        }
-        final Optional<Month> timeStampMonth = this.getTimeStampMonth();
-        if (fieldsToInclude.contains(TimeStampField.MONTH) && timeStampMonth.isPresent()) {
-            sb.append(String.format("%02d", timeStampMonth.get().getValue()));
-        } else {
-            sb.append("--");
-        }
-        final Optional<Integer> timeStampDay = this.getTimeStampDay();
-        if (fieldsToInclude.contains(TimeStampField.DAY) && timeStampDay.isPresent()) {
-            sb.append(String.format("%02d", timeStampDay.get()));
-        } else {
-            sb.append("--");
-        }
-        final Optional<Integer> timeStampHour = this.getTimeStampHour();
-        if (fieldsToInclude.contains(TimeStampField.HOUR) && timeStampHour.isPresent()) {
-            sb.append(String.format("%02d", timeStampHour.get()));
-        } else {
-            sb.append("--");
-        }
-        final Optional<Integer> timeStampMinute = this.getTimeStampMinute();
-        if (fieldsToInclude.contains(TimeStampField.MINUTE) && timeStampMinute.isPresent()) {
-            sb.append(String.format("%02d", timeStampMinute.get()));
-        } else {
-            sb.append("--");
-        }
-        final Optional<Integer> timeStampSecond = this.getTimeStampSecond();
-        if (fieldsToInclude.contains(TimeStampField.SECOND) && timeStampSecond.isPresent()) {
-            sb.append(String.format("%02d", timeStampSecond.get()));
-        } else {
-            sb.append("--");
-        }
-
-        if (this.getFreeFormPart().isPresent()) {
-            sb.append('_');
-            sb.append(this.getFreeFormPart().get());
-        }
-        sb.append('.');
-        sb.append(this.getFileType().getExtension());
-        if (this.getCompressionType().isPresent()) {
-            sb.append('.');
-            sb.append(this.getCompressionType().get().getExtension());
-        }
-        return sb.toString();
-    }
-
-    private DateTimeFormatter getFormatter(final Set<TimeStampField> fieldsToInclude) {
-        final StringBuilder sb = new StringBuilder();
-        if (fieldsToInclude.contains(TimeStampField.YEAR)) {
-            sb.append("yyyy");
-        } else {
-            sb.append("----");
+            builder.append(heading.getType().getPrefix());
+            builder.append(BulletinHeadingEncoder.encodeAugmentationNumber(augNumber.get()));
         }
+    }
 
-        if (fieldsToInclude.contains(TimeStampField.MONTH)) {
-            sb.append("MM");
-        } else {
-            sb.append("--");
+    private static void appendZeroPadded(final StringBuilder builder, final int value, final int digits) {
+        for (int limit = 10, i = 1; i < digits; limit *= 10, i++) {
+            if (value < limit) {
+                builder.append('0');
+            }
         }
+        builder.append(value);
+    }
 
-        if (fieldsToInclude.contains(TimeStampField.DAY)) {
-            sb.append("dd");
-        } else {
-            sb.append("--");
-        }
+    public enum TimeStampField {
+        YEAR(PartialField.YEAR), //
+        MONTH(PartialField.MONTH), //
+        DAY(PartialField.DAY), //
+        HOUR(PartialField.HOUR), //
+        MINUTE(PartialField.MINUTE), //
+        SECOND(PartialField.SECOND);
 
-        if (fieldsToInclude.contains(TimeStampField.HOUR)) {
-            sb.append("HH");
-        } else {
-            sb.append("--");
-        }
+        private final PartialField partialField;
 
-        if (fieldsToInclude.contains(TimeStampField.MINUTE)) {
-            sb.append("mm");
-        } else {
-            sb.append("--");
+        TimeStampField(final PartialField partialField) {
+            this.partialField = partialField;
         }
 
-        if (fieldsToInclude.contains(TimeStampField.SECOND)) {
-            sb.append("ss");
-        } else {
-            sb.append("--");
+        public PartialField getPartialField() {
+            return partialField;
         }
-        return DateTimeFormatter.ofPattern(sb.toString());
     }
 
-    public enum TimeStampField {YEAR, MONTH, DAY, HOUR, MINUTE, SECOND}
-
     public enum GTSExchangePFlag {T, A, W, Z, X}
 
     public enum GTSExchangeFileType {
@@ -233,6 +313,8 @@ public abstract class GTSExchangeFileInfo implements Serializable {
         PDF("pdf"), //
         XML("xml");
 
+        private static final GTSExchangeFileType[] VALUES = values();
+
         private final String extension;
 
         GTSExchangeFileType(final String extension) {
@@ -240,12 +322,22 @@ public abstract class GTSExchangeFileInfo implements Serializable {
         }
 
         public static GTSExchangeFileType fromExtension(final String code) {
-            for (final GTSExchangeFileType t : GTSExchangeFileType.values()) {
-                if (t.getExtension().equals(code)) {
+            final GTSExchangeFileType type = fromExtension(code, 0, code.length());
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown extension '" + code + "'");
+            }
+            return type;
+        }
+
+        @Nullable
+        static GTSExchangeFileType fromExtension(final String input, final int start, final int end) {
+            final int length = end - start;
+            for (final GTSExchangeFileType t : VALUES) {
+                if (t.extension.length() == length && input.regionMatches(start, t.extension, 0, length)) {
                     return t;
                 }
             }
-            throw new IllegalArgumentException("Unknown extension '" + code + "'");
+            return null;
         }
 
         public String getExtension() {
@@ -260,6 +352,8 @@ public abstract class GTSExchangeFileInfo implements Serializable {
         BZIP2("bz2"), //
         XZ("xz");
 
+        private static final GTSExchangeCompressionType[] VALUES = values();
+
         private final String extension;
 
         GTSExchangeCompressionType(final String extension) {
@@ -267,12 +361,22 @@ public abstract class GTSExchangeFileInfo implements Serializable {
         }
 
         public static GTSExchangeCompressionType fromExtension(final String code) {
-            for (final GTSExchangeCompressionType t : GTSExchangeCompressionType.values()) {
-                if (t.getExtension().equals(code)) {
+            final GTSExchangeCompressionType type = fromExtension(code, 0, code.length());
+            if (type == null) {
+                throw new IllegalArgumentException("Unknown extension '" + code + "'");
+            }
+            return type;
+        }
+
+        @Nullable
+        static GTSExchangeCompressionType fromExtension(final String input, final int start, final int end) {
+            final int length = end - start;
+            for (final GTSExchangeCompressionType t : VALUES) {
+                if (t.extension.length() == length && input.regionMatches(start, t.extension, 0, length)) {
                     return t;
                 }
             }
-            throw new IllegalArgumentException("Unknown extension '" + code + "'");
+            return null;
         }
 
         public String getExtension() {
@@ -281,77 +385,611 @@ public abstract class GTSExchangeFileInfo implements Serializable {
     }
 
     public static class Builder extends GTSExchangeFileInfo_Builder {
+        private static final int DATA_DESIGNATORS_LENGTH = 6;
+        private static final int LOCATION_INDICATOR_LENGTH = 4;
+        private static final int YEAR_LENGTH = 4;
+        private static final int FIELD_LENGTH = 2;
+        private static final int INVALID_FIELD = Integer.MIN_VALUE;
+        private static final PartialDateTime EMPTY_TIME_STAMP = PartialDateTime.of(-1, -1, -1, -1, -1, -1, null);
 
         public Builder() {
             this.setMetadataFile(false);
         }
 
+        /**
+         * Parses provided file name.
+         *
+         * @param gtsExchangefileName
+         *         file name
+         *
+         * @return builder holding the file name information
+         *
+         * @throws IllegalArgumentException
+         *         if the file name does not follow the file naming conventions, or has an unknown type or compression extension
+         */
         public static Builder from(final String gtsExchangefileName) {
-            //TODO: support other P flags than A
-            if (!gtsExchangefileName.startsWith("A")) {
-                throw new IllegalArgumentException("Only file names for pflag value 'A' are currently supported");
+            final String fileName = gtsExchangefileName;
+            final int length = fileName.length();
+            if (length < 2) {
+                throw illegalFileName(fileName);
+            }
+
+            //pflag[M]_
+            final GTSExchangePFlag pFlag = pFlagOf(fileName.charAt(0));
+            int index = 1;
+            final boolean metadataFile = fileName.charAt(index) == 'M';
+            if (metadataFile) {
+                index++;
             }
-            final Matcher m = P_FLAG_A_PATTERN.matcher(gtsExchangefileName);
-            if (!m.matches()) {
-                throw new IllegalArgumentException("File name '" + gtsExchangefileName + "' does not match the General file naming conventions for FTP/SFTP "
-                        + "data exchange as defined in the " + "WMO-No. 386 Manual on the Global Telecommunication System, 2015 edition (updated 2017)");
+            if (pFlag == null || index >= length || fileName.charAt(index) != '_') {
+                throw illegalFileName(fileName);
             }
-            GTSExchangeCompressionType compressionType = null;
-            if (m.group("compression") != null) {
-                compressionType = GTSExchangeCompressionType.fromExtension(m.group("compression"));
+
+            //productidentifier_
+            final int productIdentifierStart = index + 1;
+            final int productIdentifierEnd = fileName.indexOf('_', productIdentifierStart);
+            if (productIdentifierEnd <= productIdentifierStart) {
+                throw illegalFileName(fileName);
+            }
+
+            //C_CCCC_
+            index = productIdentifierEnd + 1;
+            final int originatorStart = index + 2;
+            index = originatorStart + LOCATION_INDICATOR_LENGTH;
+            if (index >= length || !fileName.startsWith("C_", originatorStart - 2) //
+                    || !isUpperCaseLetters(fileName, originatorStart, index) || fileName.charAt(index) != '_') {
+                throw illegalFileName(fileName);
             }
-            String abbreviatedHeading =
-                    m.group("T1T2") + m.group("A1A2") + m.group("ii") + m.group("CCCC") + m.group("issueDay") + m.group("issueHour") + m.group("issueMinute");
-            if (m.group("BBB") != null) {
-                abbreviatedHeading += m.group("BBB");
+            index++;
+
+            //yyyyMMddhhmmss
+            if (length - index < YEAR_LENGTH + 5 * FIELD_LENGTH) {
+                throw illegalFileName(fileName);
             }
-            Optional<Integer> timeStampYear = Optional.empty();
-            if (!"----".equals(m.group("yyyy"))) {
-                timeStampYear = Optional.of(Integer.parseInt(m.group("yyyy")));
+            final int year = parseTimeStampField(fileName, index, YEAR_LENGTH);
+            final int month = parseTimeStampField(fileName, index + YEAR_LENGTH, FIELD_LENGTH);
+            final int day = parseTimeStampField(fileName, index + YEAR_LENGTH + FIELD_LENGTH, FIELD_LENGTH);
+            final int hour = parseTimeStampField(fileName, index + YEAR_LENGTH + 2 * FIELD_LENGTH, FIELD_LENGTH);
+            final int minute = parseTimeStampField(fileName, index + YEAR_LENGTH + 3 * FIELD_LENGTH, FIELD_LENGTH);
+            final int second = parseTimeStampField(fileName, index + YEAR_LENGTH + 4 * FIELD_LENGTH, FIELD_LENGTH);
+            index += YEAR_LENGTH + 5 * FIELD_LENGTH;
+            if (year == INVALID_FIELD || month == INVALID_FIELD || day == INVALID_FIELD || hour == INVALID_FIELD || minute == INVALID_FIELD
+                    || second == INVALID_FIELD) {
+                throw illegalFileName(fileName);
             }
-            Optional<Month> timeStampMonth = Optional.empty();
-            if (!"--".equals(m.group("MM"))) {
-                timeStampMonth = Optional.of(Month.of(Integer.parseInt(m.group("MM"))));
+
+            //[_freeformat]
+            String freeFormPart = null;
+            if (index < length && fileName.charAt(index) == '_') {
+                final int freeFormStart = ++index;
+                while (index < length && isFreeFormChar(fileName.charAt(index))) {
+                    index++;
+                }
+                freeFormPart = fileName.substring(freeFormStart, index);
+            }
+
+            //.type
+            if (index >= length || fileName.charAt(index) != '.') {
+                throw illegalFileName(fileName);
             }
-            Optional<Integer> timeStampDay = Optional.empty();
-            if (!"--".equals(m.group("dd"))) {
-                timeStampDay = Optional.of(Integer.parseInt(m.group("dd")));
+            final int typeStart = ++index;
+            while (index < length && fileName.charAt(index) >= 'a' && fileName.charAt(index) <= 'z') {
+                index++;
             }
-            Optional<Integer> timeStampHour = Optional.empty();
-            if (!"--".equals(m.group("hh"))) {
-                timeStampHour = Optional.of(Integer.parseInt(m.group("hh")));
+            if (index - typeStart < 2 || index - typeStart > 3) {
+                throw illegalFileName(fileName);
             }
-            Optional<Integer> timeStampMinute = Optional.empty();
-            if (!"--".equals(m.group("mm"))) {
-                timeStampMinute = Optional.of(Integer.parseInt(m.group("mm")));
+            final GTSExchangeFileType fileType = GTSExchangeFileType.fromExtension(fileName, typeStart, index);
+            if (fileType == null) {
+                throw new IllegalArgumentException("Unknown extension '" + fileName.substring(typeStart, index) + "'");
             }
-            Optional<Integer> timeStampSecond = Optional.empty();
-            if (!"--".equals(m.group("ss"))) {
-                timeStampSecond = Optional.of(Integer.parseInt(m.group("ss")));
+
+            //[.compression]
+            GTSExchangeCompressionType compressionType = null;
+            if (index < length) {
+                if (fileName.charAt(index) != '.' || length - index - 1 < 1 || length - index - 1 > 3 || !isLettersOrDigits(fileName, index + 1, length)) {
+                    throw illegalFileName(fileName);
+                }
+                compressionType = GTSExchangeCompressionType.fromExtension(fileName, index + 1, length);
+                if (compressionType == null) {
+                    throw new IllegalArgumentException("Unknown extension '" + fileName.substring(index + 1) + "'");
+                }
             }
 
-            return new Builder().setPFlag(GTSExchangePFlag.A)//
-                    .setMetadataFile(m.group("meta") != null)//
-                    .setFileType(GTSExchangeFileType.fromExtension(m.group("type")))//
-                    .setFreeFormPart(Optional.ofNullable(m.group("freeForm")))//
+            final PartialDateTime timeStamp;
+            try {
+                timeStamp = PartialDateTime.of(year, month, day, hour, minute, second, null);
+            } catch (final DateTimeException e) {
+                throw new IllegalArgumentException("Invalid time stamp in file name '" + fileName + "'", e);
+            }
+            final String originator = fileName.substring(originatorStart, originatorStart + LOCATION_INDICATOR_LENGTH);
+
+            final Builder builder = new Builder().setPFlag(pFlag)//
+                    .setMetadataFile(metadataFile)//
+                    .setFileType(fileType)//
+                    .setFreeFormPart(Optional.ofNullable(freeFormPart))//
                     .setCompressionType(Optional.ofNullable(compressionType))//
-                    .setHeading(BulletinHeadingImpl.Builder.from(abbreviatedHeading).build())//
-                    .setTimeStampYear(timeStampYear)//
-                    .setTimeStampMonth(timeStampMonth)//
-                    .setTimeStampDay(timeStampDay)//
-                    .setTimeStampHour(timeStampHour)//
-                    .setTimeStampMinute(timeStampMinute)//
-                    .setTimeStampSecond(timeStampSecond);
+                    .setOriginator(originator)//
+                    .setTimeStamp(timeStamp);
+            switch (pFlag) {
+                case T:
+                    if (productIdentifierEnd - productIdentifierStart != DATA_DESIGNATORS_LENGTH || day < 0 || hour < 0 || minute < 0) {
+                        throw illegalFileName(fileName);
+                    }
+                    return builder.setHeading(decodeDataDesignators(fileName, productIdentifierStart, originator, day, hour, minute));
+                case A:
+                    if (!isUpperCaseLettersOrDigits(fileName, productIdentifierStart, productIdentifierEnd)) {
+                        throw illegalFileName(fileName);
+                    }
+                    final BulletinHeadingDecoder.Result heading = BulletinHeadingDecoder.tryDecode(fileName, productIdentifierStart, productIdentifierEnd,
+                            ConversionHints.EMPTY);
+                    if (!heading.isSuccess()) {
+                        throw illegalFileName(fileName);
+                    }
+                    return builder.setHeading(heading.getHeadingOrThrow());
+                default:
+                    if (fileName.lastIndexOf('.', productIdentifierEnd) >= productIdentifierStart) {
+                        throw illegalFileName(fileName);
+                    }
+                    return builder.setProductIdentifier(fileName.substring(productIdentifierStart, productIdentifierEnd));
+            }
+        }
+
+        @Nullable
+        private static GTSExchangePFlag pFlagOf(final char code) {
+            switch (code) {
+                case 'T':
+                    return GTSExchangePFlag.T;
+                case 'A':
+                    return GTSExchangePFlag.A;
+                case 'W':
+                    return GTSExchangePFlag.W;
+                case 'Z':
+                    return GTSExchangePFlag.Z;
+                case 'X':
+                    return GTSExchangePFlag.X;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Returns the value of a time stamp field, -1 if the field is all dashes or {@link #INVALID_FIELD} if it is neither all digits nor all dashes.
+         */
+        private static int parseTimeStampField(final String input, final int start, final int length) {
+            if (input.charAt(start) == '-') {
+                for (int i = start + 1; i < start + length; i++) {
+                    if (input.charAt(i) != '-') {
+                        return INVALID_FIELD;
+                    }
+                }
+                return -1;
+            }
+            int value = 0;
+            for (int i = start; i < start + length; i++) {
+                final char c = input.charAt(i);
+                if (c < '0' || c > '9') {
+                    return INVALID_FIELD;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+
+        private static BulletinHeading decodeDataDesignators(final String input, final int start, final String locationIndicator, final int day,
+                final int hour, final int minute) {
+            if (!isUpperCaseLetters(input, start, start + 4) || !isDigits(input, start + 4, start + DATA_DESIGNATORS_LENGTH)) {
+                throw illegalFileName(input);
+            }
+            final DataTypeDesignatorT1 t1 = DataTypeDesignatorT1.fromCode(input.charAt(start));
+            final char t2Code = input.charAt(start + 1);
+            final Optional<? extends DataTypeDesignatorT2> knownT2 = t1.t2FromCode(t2Code);
+            final PartialDateTime issueTime;
+            try {
+                issueTime = PartialDateTime.ofDayHourMinute(day, hour, minute);
+            } catch (final DateTimeException e) {
+                throw new IllegalArgumentException("Invalid time stamp in file name '" + input + "'", e);
+            }
+            return BulletinHeadingImpl.builder()//
+                    .setLocationIndicator(locationIndicator)//
+                    .setGeographicalDesignator(input.substring(start + 2, start + 4))//
+                    .setBulletinNumber((input.charAt(start + 4) - '0') * 10 + (input.charAt(start + 5) - '0'))//
+                    .setType(BulletinHeading.Type.NORMAL)//
+                    .setDataTypeDesignatorT1ForTAC(t1)//
+                    .setDataTypeDesignatorT2(knownT2.isPresent() ? knownT2.get() : DataTypeDesignatorT2.fromExtensionCode(t2Code))//
+                    .setIssueTime(PartialOrCompleteTimeInstant.of(issueTime))//
+                    .build();
+        }
+
+        private static boolean isFreeFormChar(final char c) {
+            return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '-';
+        }
+
+        private static boolean isUpperCaseLetters(final String input, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                final char c = input.charAt(i);
+                if (c < 'A' || c > 'Z') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isDigits(final String input, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                final char c = input.charAt(i);
+                if (c < '0' || c > '9') {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isUpperCaseLettersOrDigits(final String input, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                final char c = input.charAt(i);
+                if ((c < 'A' || c > 'Z') && (c < '0' || c > '9')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isLettersOrDigits(final String input, final int start, final int end) {
+            for (int i = start; i < end; i++) {
+                final char c = input.charAt(i);
+                if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && (c < '0' || c > '9')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static IllegalArgumentException illegalFileName(final String fileName) {
+            return new IllegalArgumentException("File name '" + fileName + "' does not match the General file naming conventions for FTP/SFTP "
+                    + "data exchange as defined in the " + "WMO-No. 386 Manual on the Global Telecommunication System, 2015 edition (updated 2017)");
+        }
+
+        @Override
+        public Builder setProductIdentifier(final String productIdentifier) {
+            if (productIdentifier.isEmpty() || productIdentifier.indexOf('_') >= 0 || productIdentifier.indexOf('.') >= 0) {
+                throw new IllegalArgumentException("Product identifier must be non-empty and not contain '_' or '.', value was '" + productIdentifier + "'");
+            }
+            return super.setProductIdentifier(productIdentifier);
+        }
+
+        @Override
+        public Builder setOriginator(final String originator) {
+            if (originator.length() != LOCATION_INDICATOR_LENGTH || !isUpperCaseLetters(originator, 0, LOCATION_INDICATOR_LENGTH)) {
+                throw new IllegalArgumentException("Originator must be a location indicator of four letters, value was '" + originator + "'");
+            }
+            return super.setOriginator(originator);
         }
 
         public Builder setTimeStamp(final LocalDateTime timeStamp) {
-            this.setTimeStampYear(timeStamp.getYear());
-            this.setTimeStampMonth(timeStamp.getMonth());
-            this.setTimeStampDay(timeStamp.getDayOfMonth());
-            this.setTimeStampHour(timeStamp.getHour());
-            this.setTimeStampMinute(timeStamp.getMinute());
-            this.setTimeStampSecond(timeStamp.getSecond());
-            return this;
+            return this.setTimeStamp(PartialDateTime.of(timeStamp.getYear(), timeStamp.getMonthValue(), timeStamp.getDayOfMonth(), timeStamp.getHour(),
+                    timeStamp.getMinute(), timeStamp.getSecond(), null));
+        }
+
+        /**
+         * Sets the year field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampYear(final int value) {
+            return setTimeStampField(PartialField.YEAR, value);
+        }
+
+        /**
+         * Sets or clears the year field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampYear(final Optional<? extends Integer> value) {
+            return value.isPresent() ? setTimeStampField(PartialField.YEAR, value.get()) : clearTimeStampField(PartialField.YEAR);
+        }
+
+        /**
+         * Sets or clears the year field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setNullableTimeStampYear(@Nullable final Integer value) {
+            return value != null ? setTimeStampField(PartialField.YEAR, value) : clearTimeStampField(PartialField.YEAR);
+        }
+
+        /**
+         * Clears the year field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} or {@link #clearTimeStamp()} instead
+         */
+        @Deprecated
+        public Builder clearTimeStampYear() {
+            return clearTimeStampField(PartialField.YEAR);
+        }
+
+        /**
+         * Sets the month field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampMonth(final Month value) {
+            return setTimeStampField(PartialField.MONTH, value.getValue());
+        }
+
+        /**
+         * Sets or clears the month field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampMonth(final Optional<? extends Month> value) {
+            return value.isPresent() ? setTimeStampField(PartialField.MONTH, value.get().getValue()) : clearTimeStampField(PartialField.MONTH);
+        }
+
+        /**
+         * Sets or clears the month field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setNullableTimeStampMonth(@Nullable final Month value) {
+            return value != null ? setTimeStampField(PartialField.MONTH, value.getValue()) : clearTimeStampField(PartialField.MONTH);
+        }
+
+        /**
+         * Clears the month field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} or {@link #clearTimeStamp()} instead
+         */
+        @Deprecated
+        public Builder clearTimeStampMonth() {
+            return clearTimeStampField(PartialField.MONTH);
+        }
+
+        /**
+         * Sets the day field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampDay(final int value) {
+            return setTimeStampField(PartialField.DAY, value);
+        }
+
+        /**
+         * Sets or clears the day field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampDay(final Optional<? extends Integer> value) {
+            return value.isPresent() ? setTimeStampField(PartialField.DAY, value.get()) : clearTimeStampField(PartialField.DAY);
+        }
+
+        /**
+         * Sets or clears the day field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setNullableTimeStampDay(@Nullable final Integer value) {
+            return value != null ? setTimeStampField(PartialField.DAY, value) : clearTimeStampField(PartialField.DAY);
+        }
+
+        /**
+         * Clears the day field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} or {@link #clearTimeStamp()} instead
+         */
+        @Deprecated
+        public Builder clearTimeStampDay() {
+            return clearTimeStampField(PartialField.DAY);
+        }
+
+        /**
+         * Sets the hour field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampHour(final int value) {
+            return setTimeStampField(PartialField.HOUR, value);
+        }
+
+        /**
+         * Sets or clears the hour field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampHour(final Optional<? extends Integer> value) {
+            return value.isPresent() ? setTimeStampField(PartialField.HOUR, value.get()) : clearTimeStampField(PartialField.HOUR);
+        }
+
+        /**
+         * Sets or clears the hour field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setNullableTimeStampHour(@Nullable final Integer value) {
+            return value != null ? setTimeStampField(PartialField.HOUR, value) : clearTimeStampField(PartialField.HOUR);
+        }
+
+        /**
+         * Clears the hour field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} or {@link #clearTimeStamp()} instead
+         */
+        @Deprecated
+        public Builder clearTimeStampHour() {
+            return clearTimeStampField(PartialField.HOUR);
+        }
+
+        /**
+         * Sets the minute field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampMinute(final int value) {
+            return setTimeStampField(PartialField.MINUTE, value);
+        }
+
+        /**
+         * Sets or clears the minute field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampMinute(final Optional<? extends Integer> value) {
+            return value.isPresent() ? setTimeStampField(PartialField.MINUTE, value.get()) : clearTimeStampField(PartialField.MINUTE);
+        }
+
+        /**
+         * Sets or clears the minute field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setNullableTimeStampMinute(@Nullable final Integer value) {
+            return value != null ? setTimeStampField(PartialField.MINUTE, value) : clearTimeStampField(PartialField.MINUTE);
+        }
+
+        /**
+         * Clears the minute field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} or {@link #clearTimeStamp()} instead
+         */
+        @Deprecated
+        public Builder clearTimeStampMinute() {
+            return clearTimeStampField(PartialField.MINUTE);
+        }
+
+        /**
+         * Sets the second field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampSecond(final int value) {
+            return setTimeStampField(PartialField.SECOND, value);
+        }
+
+        /**
+         * Sets or clears the second field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setTimeStampSecond(final Optional<? extends Integer> value) {
+            return value.isPresent() ? setTimeStampField(PartialField.SECOND, value.get()) : clearTimeStampField(PartialField.SECOND);
+        }
+
+        /**
+         * Sets or clears the second field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} instead
+         */
+        @Deprecated
+        public Builder setNullableTimeStampSecond(@Nullable final Integer value) {
+            return value != null ? setTimeStampField(PartialField.SECOND, value) : clearTimeStampField(PartialField.SECOND);
+        }
+
+        /**
+         * Clears the second field of the time stamp.
+         *
+         * @throws DateTimeException
+         *         if the fields of the resulting time stamp would not be continuous
+         * @deprecated use {@link #setTimeStamp(PartialDateTime)} or {@link #clearTimeStamp()} instead
+         */
+        @Deprecated
+        public Builder clearTimeStampSecond() {
+            return clearTimeStampField(PartialField.SECOND);
+        }
+
+        private Builder setTimeStampField(final PartialField field, final int value) {
+            return this.setTimeStamp(getTimeStamp().orElse(EMPTY_TIME_STAMP).with(field, value));
+        }
+
+        private Builder clearTimeStampField(final PartialField field) {
+            final Optional<PartialDateTime> timeStamp = getTimeStamp();
+            if (!timeStamp.isPresent()) {
+                return this;
+            }
+            final PartialDateTime newTimeStamp = timeStamp.get().without(field);
+            return newTimeStamp.equals(EMPTY_TIME_STAMP) ? this.clearTimeStamp() : this.setTimeStamp(newTimeStamp);
+        }
+
+        @Override
+        public GTSExchangeFileInfo build() {
+            switch (getPFlag()) {
+                case T:
+                case A:
+                    if (getHeading() == null) {
+                        throw new IllegalStateException("Heading is required for pFlag value '" + getPFlag() + "'");
+                    }
+                    break;
+                default:
+                    if (!getProductIdentifier().isPresent()) {
+                        throw new IllegalStateException("Product identifier is required for pFlag value '" + getPFlag() + "'");
+                    }
+                    if (getHeading() == null && !getOriginator().isPresent()) {
+                        throw new IllegalStateException("Originator is required when heading is not set");
+                    }
+            }
+            return super.build();
         }
     }
 
@@ -0,0 +1,116 @@
+package fi.fmi.avi.converter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AviMessageConverterTest {
+
+    private static final ConversionSpecification<String, Integer> STRING_TO_LENGTH = new ConversionSpecification<>(String.class, Integer.class, null,
+            "length");
+
+    private final AviMessageSpecificConverter<String, Integer> lengthConverter = (input, hints) -> {
+        final ConversionResult<Integer> result = new ConversionResult<>();
+        result.setConvertedMessage(input.length());
+        return result;
+    };
+
+    private AviMessageConverter converter;
+
+    @Before
+    public void setUp() {
+        converter = new AviMessageConverter();
+        converter.setMessageSpecificConverter(STRING_TO_LENGTH, lengthConverter);
+    }
+
+    @Test
+    public void testLookupBySameInstance() {
+        assertSame(lengthConverter, converter.getConverter(STRING_TO_LENGTH));
+        assertEquals(Integer.valueOf(4), converter.convertMessage("TAF ", STRING_TO_LENGTH).getConvertedMessage().orElse(null));
+    }
+
+    @Test
+    public void testLookupByEqualInstance() {
+        final ConversionSpecification<String, Integer> equalSpec = new ConversionSpecification<>(String.class, Integer.class, null, "length");
+        assertTrue(converter.isSpecificationSupported(equalSpec));
+        assertSame(lengthConverter, converter.getConverter(equalSpec));
+        assertEquals(Integer.valueOf(5), converter.convertMessage("METAR", equalSpec).getConvertedMessage().orElse(null));
+    }
+
+    @Test
+    public void testUnsupportedSpecification() {
+        final ConversionSpecification<String, Integer> otherSpec = new ConversionSpecification<>(String.class, Integer.class, null, "other");
+        assertFalse(converter.isSpecificationSupported(otherSpec));
+        assertFalse(converter.isSpecificationSupported(null));
+        assertNull(converter.getConverter(otherSpec));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConvertWithUnsupportedSpecification() {
+        converter.convertMessage("TAF", new ConversionSpecification<>(String.class, Integer.class, null, "other"));
+    }
+
+    @Test
+    public void testReplaceConverter() {
+        final AviMessageSpecificConverter<String, Integer> zeroConverter = (input, hints) -> new ConversionResult<>();
+        converter.setMessageSpecificConverter(new ConversionSpecification<>(String.class, Integer.class, null, "length"), zeroConverter);
+        assertEquals(1, converter.getSupportedSpecifications().size());
+        assertSame(zeroConverter, converter.getConverter(STRING_TO_LENGTH));
+    }
+
+    @Test
+    public void testBatchConversion() {
+        final List<ConversionResult<Integer>> results = converter.convertMessages(Arrays.asList("A", "BB", "CCC"), STRING_TO_LENGTH, ConversionHints.EMPTY);
+        assertEquals(Arrays.asList(1, 2, 3), results.stream().map(result -> result.getConvertedMessage().orElse(null)).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testParallelBatchConversionKeepsInputOrder() {
+        final List<String> inputs = IntStream.range(0, 500).mapToObj(i -> new String(new char[i])).collect(Collectors.toList());
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<ConversionResult<Integer>> results = converter.convertMessages(inputs, STRING_TO_LENGTH, ConversionHints.EMPTY, executor);
+            assertEquals(inputs.size(), results.size());
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(Integer.valueOf(i), results.get(i).getConvertedMessage().orElse(null));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testStreamConversion() {
+        final List<Integer> lengths = converter.convertMessages(IntStream.range(0, 500).mapToObj(i -> new String(new char[i])).parallel(), STRING_TO_LENGTH,
+                ConversionHints.EMPTY)//
+                .map(result -> result.getConvertedMessage().orElse(null))//
+                .collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 500).boxed().collect(Collectors.toList()), lengths);
+    }
+
+    @Test
+    public void testAsyncConversion() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CompletableFuture<ConversionResult<Integer>> future = converter.convertMessageAsync("SIGMET", STRING_TO_LENGTH, ConversionHints.EMPTY,
+                    executor);
+            assertEquals(Integer.valueOf(6), future.get(10, TimeUnit.SECONDS).getConvertedMessage().orElse(null));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
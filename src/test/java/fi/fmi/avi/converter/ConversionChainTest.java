@@ -1,10 +1,14 @@
 package fi.fmi.avi.converter;
 
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertSame;
 import static junit.framework.TestCase.assertTrue;
 
 import java.io.InputStream;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -73,4 +77,50 @@ public class ConversionChainTest {
         assertTrue(result.getConvertedMessage().isPresent());
     }
 
+    @Test
+    public void testAsyncChain() throws Exception {
+        final InputStream is = JSONConverterTest.class.getResourceAsStream("tafBulletin1.json");
+        Objects.requireNonNull(is);
+        final String input = IOUtils.toString(is, "UTF-8");
+        is.close();
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AsyncAviMessageSpecificConverter<String, String> chain = new ConversionChainBuilder<>(this.converter,
+                    JSONConverter.JSON_STRING_TO_TAF_BULLETIN_POJO)//
+                    .withMutator(bulletin -> bulletin.getMessages().get(0), TAFBulletin.class, TAF.class)//
+                    .buildAsync(JSONConverter.TAF_POJO_TO_JSON_STRING, executor);
+            final ConversionResult<String> result = chain.convertMessageAsync(input, ConversionHints.EMPTY).get(10, TimeUnit.SECONDS);
+            assertSame(ConversionResult.Status.SUCCESS, result.getStatus());
+            assertTrue(result.getConvertedMessage().isPresent());
+
+            final ConversionResult<String> failed = chain.convertMessageAsync("{", ConversionHints.EMPTY).get(10, TimeUnit.SECONDS);
+            assertSame(ConversionResult.Status.FAIL, failed.getStatus());
+            assertFalse(failed.getConvertedMessage().isPresent());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncompatibleStepsRejectedOnBuild() {
+        new ConversionChainBuilder<>(this.converter, JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .withConversionStep(JSONConverter.JSON_STRING_TO_TAF_POJO);
+    }
+
+    @Test
+    public void testIssuesOfFinalStepIncluded() throws Exception {
+        final InputStream is = JSONConverterTest.class.getResourceAsStream("taf1.json");
+        Objects.requireNonNull(is);
+        final String input = IOUtils.toString(is, "UTF-8");
+        is.close();
+        final ConversionResult<TAF> result = new ConversionChainBuilder<>(this.converter, JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .withConversionStep(JSONConverter.TAF_POJO_TO_JSON_STRING)//
+                .withMutator(json -> json.substring(0, json.length() / 2), String.class, String.class)//
+                .build(JSONConverter.JSON_STRING_TO_TAF_POJO)//
+                .convertMessage(input, ConversionHints.EMPTY);
+        assertSame(ConversionResult.Status.FAIL, result.getStatus());
+        assertFalse(result.getConvertedMessage().isPresent());
+        assertFalse(result.getConversionIssues().isEmpty());
+    }
+
 }
@@ -0,0 +1,153 @@
+package fi.fmi.avi.converter.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.model.PartialDateTime;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class CompactTimeModuleTest {
+
+    private static final ObjectMapperCache CACHE = new ObjectMapperCache(ObjectMapperCache.createDefaultObjectMapper()).getCompactTimeCache();
+
+    private static String write(final Object value) throws Exception {
+        return CACHE.getWriter(value.getClass(), false).writeValueAsString(value);
+    }
+
+    private static <T> T read(final String json, final Class<T> valueType) throws Exception {
+        return CACHE.getReader(valueType).readValue(json);
+    }
+
+    @Test
+    public void testCompactTimeCacheIsCreatedOnce() {
+        final ObjectMapperCache cache = new ObjectMapperCache(ObjectMapperCache.createDefaultObjectMapper());
+        assertThat(cache.getCompactTimeCache()).isNotSameAs(cache);
+        assertThat(cache.getCompactTimeCache()).isSameAs(cache.getCompactTimeCache());
+        assertThat(cache.getCompactTimeCache().getCompactTimeCache()).isSameAs(cache.getCompactTimeCache());
+    }
+
+    @Test
+    public void testForHints() {
+        final ObjectMapperCache cache = new ObjectMapperCache(ObjectMapperCache.createDefaultObjectMapper());
+        assertThat(cache.forHints(null)).isSameAs(cache);
+        assertThat(cache.forHints(ConversionHints.EMPTY)).isSameAs(cache);
+        assertThat(cache.forHints(new ConversionHints(ConversionHints.KEY_JSON_TIME_ENCODING, ConversionHints.VALUE_JSON_TIME_ENCODING_TEXT)))
+                .isSameAs(cache);
+        assertThat(cache.forHints(new ConversionHints(ConversionHints.KEY_JSON_TIME_ENCODING, ConversionHints.VALUE_JSON_TIME_ENCODING_COMPACT)))
+                .isSameAs(cache.getCompactTimeCache());
+    }
+
+    @Parameters({ //
+            "--27T11:37Z", //
+            "--27T12:", //
+            "--T:", //
+            "2019-02-03T04:05:06+02:00", //
+            "2019--T:", //
+            "-12-27T12:-05:00", //
+    })
+    @Test
+    public void testPartialDateTimeRoundTrip(final String partialDateTime) throws Exception {
+        final PartialDateTime value = PartialDateTime.parse(partialDateTime);
+        final String json = write(value);
+        assertThat(json).doesNotContain(partialDateTime);
+        assertThat(read(json, PartialDateTime.class)).isEqualTo(value);
+
+        final JsonNode node = new ObjectMapper().readTree(json);
+        if (value.getZone().isPresent()) {
+            assertThat(node.isArray()).isTrue();
+            assertThat(node.get(1).asText()).isEqualTo(value.getZone().get().getId());
+        } else {
+            assertThat(node.isIntegralNumber()).isTrue();
+        }
+    }
+
+    public Object parametersForTestPartialDateTimeCompactForm() {
+        return new Object[] { //
+                new Object[] { "--27T11:37Z", "[562949951931803,\"Z\"]" }, //
+                new Object[] { "--27T12:", "562949953406491" }, //
+                new Object[] { "--T:", "562949953421311" }, //
+                new Object[] { "2019-02-03T04:05:06+02:00", "[69372861301251,\"+02:00\"]" }, //
+        };
+    }
+
+    @Parameters
+    @Test
+    public void testPartialDateTimeCompactForm(final String partialDateTime, final String expectedJson) throws Exception {
+        final PartialDateTime value = PartialDateTime.parse(partialDateTime);
+        assertThat(write(value)).isEqualTo(expectedJson);
+        assertThat(read(expectedJson, PartialDateTime.class)).isEqualTo(value);
+    }
+
+    @Test
+    public void testPartialDateTimeFromText() throws Exception {
+        assertThat(read("\"--27T11:37Z\"", PartialDateTime.class)).isEqualTo(PartialDateTime.parse("--27T11:37Z"));
+    }
+
+    @Parameters({ //
+            "-1", //
+            "9223372036854775807", //
+            "[-1\\, \"Z\"]", //
+            "[0]", //
+            "[0\\, \"Z\"\\, 1]", //
+            "[0\\, \"Invalid/Zone\"]", //
+            "\"2712Z\"", //
+            "true", //
+    })
+    @Test
+    public void testInvalidPartialDateTime(final String json) {
+        assertThatExceptionOfType(JsonMappingException.class).isThrownBy(() -> read(json, PartialDateTime.class));
+    }
+
+    @Test
+    public void testZonedDateTimeRoundTrip() throws Exception {
+        final ZonedDateTime value = ZonedDateTime.parse("2017-07-27T11:37:00+03:00");
+        final String json = write(value);
+        assertThat(json).isEqualTo("[1501144620,10800]");
+        assertThat(read(json, ZonedDateTime.class)).isEqualTo(value);
+    }
+
+    @Test
+    public void testZonedDateTimeRoundTripWithNanos() throws Exception {
+        final ZonedDateTime value = ZonedDateTime.parse("2017-07-27T08:37:00.000000123Z");
+        final String json = write(value);
+        assertThat(json).isEqualTo("[1501144620,0,123]");
+        assertThat(read(json, ZonedDateTime.class)).isEqualTo(value);
+    }
+
+    @Test
+    public void testZonedDateTimeWithRegionKeepsInstant() throws Exception {
+        final ZonedDateTime value = ZonedDateTime.parse("2017-07-27T11:37:00+03:00[Europe/Helsinki]");
+        final ZonedDateTime result = read(write(value), ZonedDateTime.class);
+        assertThat(result.toInstant()).isEqualTo(value.toInstant());
+        assertThat(result.getOffset()).isEqualTo(value.getOffset());
+    }
+
+    @Test
+    public void testZonedDateTimeFromText() throws Exception {
+        final ZonedDateTime result = read("\"2017-07-27T11:37:00+03:00\"", ZonedDateTime.class);
+        assertThat(result.toInstant()).isEqualTo(ZonedDateTime.parse("2017-07-27T11:37:00+03:00").toInstant());
+    }
+
+    @Parameters({ //
+            "[1501144620]", //
+            "[1501144620\\, 10800\\, 0\\, 0]", //
+            "[1501144620\\, 100000]", //
+            "[\"1501144620\"\\, 0]", //
+    })
+    @Test
+    public void testInvalidZonedDateTime(final String json) {
+        assertThatExceptionOfType(JsonMappingException.class).isThrownBy(() -> read(json, ZonedDateTime.class));
+    }
+}
@@ -2,12 +2,20 @@ package fi.fmi.avi.converter.json;
 
 import static java.util.Objects.requireNonNull;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -24,13 +32,16 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import fi.fmi.avi.converter.AviMessageConverter;
 import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionIssue;
 import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.converter.IssueList;
 import fi.fmi.avi.converter.json.conf.JSONConverter;
 import fi.fmi.avi.model.AviationCodeListUser;
 import fi.fmi.avi.model.AviationWeatherMessage;
 import fi.fmi.avi.model.PartialDateTime;
 import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
 import fi.fmi.avi.model.PartialOrCompleteTimePeriod;
+import fi.fmi.avi.model.bulletin.BulletinHeading;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT1;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT2;
 import fi.fmi.avi.model.bulletin.GenericMeteorologicalBulletin;
@@ -100,6 +111,74 @@ public class JSONConverterTest {
         assertSuccess(result);
     }
 
+    @Test
+    public void testTAFBulletinStreamingParsing() throws Exception {
+        final String input = readResource("tafBulletin1.json");
+        final ConversionResult<TAFBulletin> result = converter.convertMessage(input, JSONConverter.JSON_STRING_TO_TAF_BULLETIN_POJO, ConversionHints.EMPTY);
+        assertSuccess(result);
+        final TAFBulletin expected = result.getConvertedMessage().get();
+
+        final List<BulletinHeading> headings = new ArrayList<>();
+        final List<TAF> messages = new ArrayList<>();
+        final IssueList issues = StreamingBulletinJSONParser.forTAFBulletins()
+                .parse(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), new StreamingBulletinJSONParser.Handler<TAF>() {
+                    @Override
+                    public void onHeading(final BulletinHeading heading) {
+                        headings.add(heading);
+                    }
+
+                    @Override
+                    public void onMessage(final TAF message) {
+                        messages.add(message);
+                    }
+                }, ConversionHints.EMPTY);
+        assertTrue("Expected no issues, but had: " + issues, issues.isEmpty());
+        assertEquals(Collections.singletonList(expected.getHeading()), headings);
+        assertEquals(expected.getMessages(), messages);
+    }
+
+    @Test
+    public void testTAFBulletinStreamingParsingWithCompactTimeEncoding() throws Exception {
+        final String input = readResource("tafBulletin1.json");
+        final ConversionHints compactTimeHints = new ConversionHints(ConversionHints.KEY_JSON_TIME_ENCODING,
+                ConversionHints.VALUE_JSON_TIME_ENCODING_COMPACT);
+        final ConversionResult<TAFBulletin> result = converter.convertMessage(input, JSONConverter.JSON_STRING_TO_TAF_BULLETIN_POJO, ConversionHints.EMPTY);
+        assertSuccess(result);
+        final TAFBulletin expected = result.getConvertedMessage().get();
+
+        final ConversionResult<String> compact = converter.convertMessage(expected, JSONConverter.TAF_BULLETIN_POJO_TO_JSON_STRING, compactTimeHints);
+        assertSuccess(compact);
+        assertFalse(compact.getConvertedMessage().get().contains("\"partialTime\" : \""));
+
+        final List<BulletinHeading> headings = new ArrayList<>();
+        final List<TAF> messages = new ArrayList<>();
+        final IssueList issues = StreamingBulletinJSONParser.forTAFBulletins()
+                .parse(compact.getConvertedMessage().get(), new StreamingBulletinJSONParser.Handler<TAF>() {
+                    @Override
+                    public void onHeading(final BulletinHeading heading) {
+                        headings.add(heading);
+                    }
+
+                    @Override
+                    public void onMessage(final TAF message) {
+                        messages.add(message);
+                    }
+                }, compactTimeHints);
+        assertTrue("Expected no issues, but had: " + issues, issues.isEmpty());
+        assertEquals(Collections.singletonList(expected.getHeading()), headings);
+        assertEquals(expected.getMessages(), messages);
+    }
+
+    @Test
+    public void testStreamingParsingRejectsInvalidHeading() throws Exception {
+        final String input = readResource("sigmetBulletin1.json");
+        final List<TAF> messages = new ArrayList<>();
+        final IssueList issues = StreamingBulletinJSONParser.forTAFBulletins().parse(input, messages::add, ConversionHints.EMPTY);
+        assertEquals(1, issues.size());
+        assertEquals(ConversionIssue.Type.LOGICAL, issues.get(0).getType());
+        assertTrue(messages.isEmpty());
+    }
+
     @Test
     public void testSIGMETBulletinParsing() throws Exception {
         final String input = readResource("sigmetBulletin1.json");
@@ -206,6 +285,109 @@ public class JSONConverterTest {
         assertEquals(reference, resultJSON);
     }
 
+    @Test
+    public void testCompactSerialization() throws Exception {
+        final String input = readResource("taf1.json");
+        final ConversionResult<TAF> parseResult = converter.convertMessage(input, JSONConverter.JSON_STRING_TO_TAF_POJO, ConversionHints.EMPTY);
+        assertSuccess(parseResult);
+        final TAF taf = parseResult.getConvertedMessage().get();
+
+        final ConversionResult<String> pretty = converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_STRING, ConversionHints.EMPTY);
+        final ConversionResult<String> compact = converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_STRING,
+                new ConversionHints(ConversionHints.KEY_JSON_OUTPUT_FORMAT, ConversionHints.VALUE_JSON_OUTPUT_FORMAT_COMPACT));
+        assertSuccess(pretty);
+        assertSuccess(compact);
+        assertTrue(pretty.getConvertedMessage().get().contains("\n"));
+        assertFalse(compact.getConvertedMessage().get().contains("\n"));
+        assertTrue(compact.getConvertedMessage().get().length() < pretty.getConvertedMessage().get().length());
+
+        final ObjectMapper om = new ObjectMapper();
+        assertEquals(om.readTree(pretty.getConvertedMessage().get()), om.readTree(compact.getConvertedMessage().get()));
+    }
+
+    @Test
+    public void testCompactTimeEncoding() throws Exception {
+        final String input = readResource("taf1.json");
+        final ConversionHints compactTimeHints = new ConversionHints(ConversionHints.KEY_JSON_TIME_ENCODING,
+                ConversionHints.VALUE_JSON_TIME_ENCODING_COMPACT);
+        final ConversionResult<TAF> parseResult = converter.convertMessage(input, JSONConverter.JSON_STRING_TO_TAF_POJO, ConversionHints.EMPTY);
+        assertSuccess(parseResult);
+        final TAF taf = parseResult.getConvertedMessage().get();
+
+        final ConversionResult<String> text = converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_STRING, ConversionHints.EMPTY);
+        final ConversionResult<String> compact = converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_STRING, compactTimeHints);
+        assertSuccess(text);
+        assertSuccess(compact);
+        assertTrue(text.getConvertedMessage().get().contains("\"partialTime\" : \"--27T11:37Z\""));
+        assertFalse(compact.getConvertedMessage().get().contains("\"partialTime\" : \""));
+
+        final ConversionResult<TAF> fromCompact = converter.convertMessage(compact.getConvertedMessage().get(), JSONConverter.JSON_STRING_TO_TAF_POJO,
+                compactTimeHints);
+        assertSuccess(fromCompact);
+        assertEquals(parseResult.getConvertedMessage(), fromCompact.getConvertedMessage());
+
+        final ConversionResult<TAF> fromTextWithCompactHints = converter.convertMessage(input, JSONConverter.JSON_STRING_TO_TAF_POJO, compactTimeHints);
+        assertSuccess(fromTextWithCompactHints);
+        assertEquals(parseResult.getConvertedMessage(), fromTextWithCompactHints.getConvertedMessage());
+    }
+
+    @Test
+    public void testByteArrayAndStreamSerialization() throws Exception {
+        final String input = readResource("taf1.json");
+        final ConversionResult<TAF> parseResult = converter.convertMessage(input, JSONConverter.JSON_STRING_TO_TAF_POJO, ConversionHints.EMPTY);
+        assertSuccess(parseResult);
+        final TAF taf = parseResult.getConvertedMessage().get();
+
+        final ConversionResult<String> asString = converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_STRING, ConversionHints.EMPTY);
+        final ConversionResult<byte[]> asBytes = converter.convertMessage(taf, JSONConverter.TAF_POJO_TO_JSON_BYTES, ConversionHints.EMPTY);
+        assertSuccess(asString);
+        assertSuccess(asBytes);
+        assertEquals(asString.getConvertedMessage().get(), new String(asBytes.getConvertedMessage().get(), StandardCharsets.UTF_8));
+
+        final TAFJSONSerializer serializer = new TAFJSONSerializer();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertTrue(serializer.writeMessage(taf, out, ConversionHints.EMPTY).isEmpty());
+        assertEquals(asString.getConvertedMessage().get(), new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        final StringWriter writer = new StringWriter();
+        assertTrue(serializer.writeMessage(taf, writer, ConversionHints.EMPTY).isEmpty());
+        assertEquals(asString.getConvertedMessage().get(), writer.toString());
+    }
+
+    @Test
+    public void testByteInputParsing() throws Exception {
+        final String input = readResource("taf1.json");
+        final byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        final ConversionResult<TAF> fromString = converter.convertMessage(input, JSONConverter.JSON_STRING_TO_TAF_POJO, ConversionHints.EMPTY);
+        assertSuccess(fromString);
+
+        final ConversionResult<TAF> fromBytes = converter.convertMessage(bytes, JSONConverter.JSON_BYTES_TO_TAF_POJO, ConversionHints.EMPTY);
+        assertSuccess(fromBytes);
+        assertEquals(fromString.getConvertedMessage(), fromBytes.getConvertedMessage());
+
+        final ConversionResult<TAF> fromStream = converter.convertMessage(new ByteArrayInputStream(bytes), JSONConverter.JSON_STREAM_TO_TAF_POJO,
+                ConversionHints.EMPTY);
+        assertSuccess(fromStream);
+        assertEquals(fromString.getConvertedMessage(), fromStream.getConvertedMessage());
+
+        final ByteBuffer heapBuffer = ByteBuffer.allocate(bytes.length + 4);
+        heapBuffer.put(new byte[] { ' ', ' ' }).put(bytes).flip();
+        heapBuffer.position(2);
+        final ConversionResult<TAF> fromHeapBuffer = converter.convertMessage(heapBuffer, JSONConverter.JSON_BYTE_BUFFER_TO_TAF_POJO,
+                ConversionHints.EMPTY);
+        assertSuccess(fromHeapBuffer);
+        assertEquals(fromString.getConvertedMessage(), fromHeapBuffer.getConvertedMessage());
+        assertEquals(2, heapBuffer.position());
+
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+        final ConversionResult<TAF> fromDirectBuffer = converter.convertMessage(directBuffer, JSONConverter.JSON_BYTE_BUFFER_TO_TAF_POJO,
+                ConversionHints.EMPTY);
+        assertSuccess(fromDirectBuffer);
+        assertEquals(fromString.getConvertedMessage(), fromDirectBuffer.getConvertedMessage());
+        assertEquals(0, directBuffer.position());
+    }
+
     @Test
     public void testSIGMETBulletinSerialization() throws Exception {
         final String reference = readResource("sigmet1.json");
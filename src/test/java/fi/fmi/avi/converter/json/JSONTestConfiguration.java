@@ -1,5 +1,8 @@
 package fi.fmi.avi.converter.json;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,9 +40,24 @@ public class JSONTestConfiguration {
     @Autowired
     private AviMessageSpecificConverter<GenericMeteorologicalBulletin, String> genericBulletinJSONSerializer;
 
+    @Autowired
+    private AviMessageSpecificConverter<TAF, byte[]> tafJSONBytesSerializer;
+
+    @Autowired
+    private AviMessageSpecificConverter<METAR, byte[]> metarJSONBytesSerializer;
+
     @Autowired
     private AviMessageSpecificConverter<String, TAF> tafJSONParser;
 
+    @Autowired
+    private AviMessageSpecificConverter<byte[], TAF> tafJSONBytesParser;
+
+    @Autowired
+    private AviMessageSpecificConverter<InputStream, TAF> tafJSONStreamParser;
+
+    @Autowired
+    private AviMessageSpecificConverter<ByteBuffer, TAF> tafJSONByteBufferParser;
+
     @Autowired
     private AviMessageSpecificConverter<String, METAR> metarJSONParser;
 
@@ -65,12 +83,19 @@ public class JSONTestConfiguration {
         p.setMessageSpecificConverter(JSONConverter.JSON_STRING_TO_SIGMET_BULLETIN_POJO, sigmetBulletinJSONParser);
         p.setMessageSpecificConverter(JSONConverter.JSON_STRING_TO_GENERIC_BULLETIN_POJO, genericBulletinJSONParser);
 
+        p.setMessageSpecificConverter(JSONConverter.JSON_BYTES_TO_TAF_POJO, tafJSONBytesParser);
+        p.setMessageSpecificConverter(JSONConverter.JSON_STREAM_TO_TAF_POJO, tafJSONStreamParser);
+        p.setMessageSpecificConverter(JSONConverter.JSON_BYTE_BUFFER_TO_TAF_POJO, tafJSONByteBufferParser);
+
         p.setMessageSpecificConverter(JSONConverter.TAF_POJO_TO_JSON_STRING, tafJSONSerializer);
         p.setMessageSpecificConverter(JSONConverter.METAR_POJO_TO_JSON_STRING, metarJSONSerializer);
         p.setMessageSpecificConverter(JSONConverter.SIGMET_POJO_TO_JSON_STRING, sigmetJSONSerializer);
         p.setMessageSpecificConverter(JSONConverter.TAF_BULLETIN_POJO_TO_JSON_STRING, tafBulletinJSONSerializer);
         p.setMessageSpecificConverter(JSONConverter.SIGMET_BULLETIN_POJO_TO_JSON_STRING, sigmetBulletinJSONSerializer);
         p.setMessageSpecificConverter(JSONConverter.GENERIC_METEOROLOGICAL_BULLETIN_POJO_TO_JSON_STRING, genericBulletinJSONSerializer);
+
+        p.setMessageSpecificConverter(JSONConverter.TAF_POJO_TO_JSON_BYTES, tafJSONBytesSerializer);
+        p.setMessageSpecificConverter(JSONConverter.METAR_POJO_TO_JSON_BYTES, metarJSONBytesSerializer);
         return p;
     }
 
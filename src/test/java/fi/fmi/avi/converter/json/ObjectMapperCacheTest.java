@@ -0,0 +1,43 @@
+package fi.fmi.avi.converter.json;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+
+import org.junit.Test;
+import org.unitils.thirdparty.org.apache.commons.io.IOUtils;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.converter.ConversionResult;
+import fi.fmi.avi.model.taf.immutable.TAFImpl;
+
+public class ObjectMapperCacheTest {
+
+    @Test
+    public void testReaderIsCreatedOncePerType() {
+        final ObjectMapperCache cache = new ObjectMapperCache(ObjectMapperCache.createDefaultObjectMapper());
+        assertThat(cache.getReader(TAFImpl.class)).isSameAs(cache.getReader(TAFImpl.class));
+    }
+
+    @Test
+    public void testParsersShareDefaultCache() {
+        final TAFJSONParser tafParser = new TAFJSONParser();
+        final METARJSONParser metarParser = new METARJSONParser();
+        assertThat(tafParser.getObjectMapperCache()).isSameAs(ObjectMapperCache.getDefault());
+        assertThat(metarParser.getObjectMapperCache()).isSameAs(tafParser.getObjectMapperCache());
+    }
+
+    @Test
+    public void testParserUsesConfiguredCache() throws Exception {
+        final ObjectMapperCache cache = new ObjectMapperCache(ObjectMapperCache.createDefaultObjectMapper());
+        final TAFJSONParser parser = new TAFJSONParser();
+        parser.setObjectMapperCache(cache);
+        final String input;
+        try (InputStream is = ObjectMapperCacheTest.class.getResourceAsStream("taf1.json")) {
+            input = IOUtils.toString(requireNonNull(is), "UTF-8");
+        }
+        assertThat(parser.convertMessage(input, ConversionHints.EMPTY).getStatus()).isEqualTo(ConversionResult.Status.SUCCESS);
+        assertThat(parser.getObjectMapperCache()).isSameAs(cache);
+    }
+}
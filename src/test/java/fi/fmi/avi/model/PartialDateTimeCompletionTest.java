@@ -0,0 +1,259 @@
+package fi.fmi.avi.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import javax.annotation.Nullable;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import fi.fmi.avi.model.PartialDateTime.DateTimeRanges;
+import fi.fmi.avi.model.PartialDateTime.PartialField;
+import fi.fmi.avi.model.PartialDateTime.ReferenceCondition;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+/**
+ * Property-based test verifying that completion of {@link PartialDateTime} into a {@link ZonedDateTime} gives the same result as the stream-based
+ * candidate search it replaced, which is reproduced here as {@link SearchCompletion}.
+ */
+@RunWith(JUnitParamsRunner.class)
+public final class PartialDateTimeCompletionTest {
+    private static final int SAMPLES = 20000;
+    private static final ZoneId[] PARTIAL_ZONES = { null, ZoneOffset.UTC, ZoneId.of("+02:00"), ZoneId.of("-09:30") };
+    private static final ZoneId[] REFERENCE_ZONES = { ZoneOffset.UTC, ZoneId.of("+02:00"), ZoneId.of("Europe/Helsinki"), ZoneId.of("America/St_Johns") };
+    private static final int[] DAY_VALUES = { 0, 1, 2, 15, 28, 29, 30, 31, 32 };
+    private static final int[] HOUR_VALUES = { 0, 1, 12, 23, 24, 25 };
+    private static final int[] MINUTE_VALUES = { 0, 1, 30, 59, 60 };
+    private static final int RANDOM_FIELD_COUNT = 3;
+
+    private static PartialDateTime randomPartialDateTime(final Random random) {
+        // continuous field ranges: first and last present field index of day, hour and minute
+        final int first = random.nextInt(RANDOM_FIELD_COUNT + 1);
+        final int last = first == RANDOM_FIELD_COUNT ? first - 1 : first + random.nextInt(RANDOM_FIELD_COUNT - first);
+        final int day = first <= 0 && last >= 0 ? randomValue(random, DAY_VALUES, 31) : -1;
+        final int hour = first <= 1 && last >= 1 ? randomValue(random, HOUR_VALUES, 23) : -1;
+        final int minute = first <= 2 && last >= 2 ? randomValue(random, MINUTE_VALUES, 59) : -1;
+        return PartialDateTime.of(day, hour, minute, PARTIAL_ZONES[random.nextInt(PARTIAL_ZONES.length)]);
+    }
+
+    private static int randomValue(final Random random, final int[] edgeValues, final int maxCommonValue) {
+        return random.nextBoolean() ? edgeValues[random.nextInt(edgeValues.length)] : random.nextInt(maxCommonValue + 1);
+    }
+
+    private static ZonedDateTime randomReferenceTime(final Random random) {
+        final LocalDateTime localDateTime = LocalDateTime.of(1999 + random.nextInt(3), 1, 1, 0, 0)//
+                .plusMinutes(random.nextInt(3 * 366 * 24 * 60));
+        return localDateTime.atZone(REFERENCE_ZONES[random.nextInt(REFERENCE_ZONES.length)]);
+    }
+
+    private static Object outcomeOf(final Completion completion) {
+        try {
+            return completion.complete();
+        } catch (final DateTimeException exception) {
+            return "failure: " + (exception.getCause() == null ? exception.getMessage() : exception.getCause().getMessage());
+        }
+    }
+
+    @Parameters({ "NEAR", "AFTER", "NOT_BEFORE", "BEFORE", "NOT_AFTER" })
+    @Test
+    public void testCompletionIsEquivalentToCandidateSearch(final ReferenceCondition condition) {
+        final Random random = new Random(condition.ordinal());
+        final List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < SAMPLES && mismatches.size() < 10; i++) {
+            final PartialDateTime partialDateTime = randomPartialDateTime(random);
+            final ZonedDateTime referenceTime = randomReferenceTime(random);
+            final Object expected;
+            final Object actual;
+            final String description;
+            if (random.nextBoolean()) {
+                expected = outcomeOf(() -> SearchCompletion.toZonedDateTime(partialDateTime, referenceTime, condition));
+                actual = outcomeOf(() -> partialDateTime.toZonedDateTime(referenceTime, condition));
+                description = String.format("%s %s %s", partialDateTime, condition, referenceTime);
+            } else {
+                final boolean strictCondition = random.nextBoolean();
+                final ZonedDateTime rangeStartInclusive = referenceTime.minusHours(random.nextInt(24 * 40));
+                final ZonedDateTime rangeEndExclusive = referenceTime.plusHours(1 + random.nextInt(24 * 40));
+                expected = outcomeOf(() -> SearchCompletion.toZonedDateTime(partialDateTime, referenceTime, condition, strictCondition, rangeStartInclusive,
+                        rangeEndExclusive));
+                actual = outcomeOf(() -> partialDateTime.toZonedDateTime(referenceTime, condition, strictCondition, rangeStartInclusive, rangeEndExclusive));
+                description = String.format("%s %s %s strict=%s within [%s, %s)", partialDateTime, condition, referenceTime, strictCondition,
+                        rangeStartInclusive, rangeEndExclusive);
+            }
+            if (!expected.equals(actual)) {
+                mismatches.add(String.format("%s: expected <%s> but was <%s>", description, expected, actual));
+            }
+        }
+        assertThat(mismatches).isEmpty();
+    }
+
+    @FunctionalInterface
+    private interface Completion {
+        ZonedDateTime complete();
+    }
+
+    /**
+     * The completion algorithm searching candidates with a stream, as implemented before the arithmetic candidate resolution.
+     */
+    private static final class SearchCompletion {
+        private SearchCompletion() {
+            throw new UnsupportedOperationException();
+        }
+
+        static ZonedDateTime toZonedDateTime(final PartialDateTime partial, final ZonedDateTime referenceTime, final ReferenceCondition condition) {
+            final ZoneId targetZone = partial.getZone().orElse(referenceTime.getZone());
+            return toLocalDateTime(partial, referenceTime.withZoneSameInstant(targetZone).toLocalDateTime(), condition, condition.isStrictApplicable(),
+                    LocalDateTime.MIN, LocalDateTime.MAX).atZone(targetZone);
+        }
+
+        static ZonedDateTime toZonedDateTime(final PartialDateTime partial, final ZonedDateTime referenceTime, final ReferenceCondition condition,
+                final boolean strictCondition, final ZonedDateTime rangeStartInclusive, final ZonedDateTime rangeEndExclusive) {
+            final ZoneId targetZone = partial.getZone().orElse(referenceTime.getZone());
+            return toLocalDateTime(partial, referenceTime.withZoneSameInstant(targetZone).toLocalDateTime(), condition, strictCondition,
+                    rangeStartInclusive.withZoneSameInstant(targetZone).toLocalDateTime(),
+                    rangeEndExclusive.withZoneSameInstant(targetZone).toLocalDateTime()).atZone(targetZone);
+        }
+
+        private static PartialField precision(final PartialDateTime partial) {
+            PartialField precision = PartialField.DEFAULT_PRECISION;
+            for (final PartialField field : PartialField.VALUES) {
+                if (partial.get(field).isPresent()) {
+                    precision = field;
+                }
+            }
+            return precision;
+        }
+
+        private static LocalDateTime toLocalDateTime(final PartialDateTime partial, final LocalDateTime referenceTime, final ReferenceCondition condition,
+                final boolean strictCondition, final LocalDateTime rangeStartInclusive, final LocalDateTime rangeEndExclusive) {
+            final TemporalUnit precision = precision(partial).getTemporalField().getBaseUnit();
+            final LocalDateTime truncatedRangeStartInclusive = truncateRangeStart(rangeStartInclusive, rangeEndExclusive, precision);
+            final LocalDateTime referenceWithinRange = DateTimeRanges.adjustInto(referenceTime, truncatedRangeStartInclusive, rangeEndExclusive, precision);
+
+            final NearestToReference nearestToReference = new NearestToReference(referenceWithinRange);
+            return IntStream.concat(IntStream.rangeClosed(0, condition.getRetries()),
+                    IntStream.rangeClosed(1, condition.getReverseRetries()).map(n -> -n))//
+                    .mapToObj(retry -> getNearestCandidate(partial, shiftReference(partial, referenceWithinRange, retry * condition.getFallbackDirection()),
+                            condition.getFallbackDirection()))//
+                    .filter(candidate -> DateTimeRanges.isWithin(candidate, truncatedRangeStartInclusive, rangeEndExclusive) && partial.represents(candidate))//
+                    .peek(nearestToReference::accept)//
+                    .filter(candidate -> condition.test(candidate, referenceTime))//
+                    .findFirst()//
+                    .orElseGet(() -> {
+                        @Nullable
+                        final LocalDateTime fallbackNearResult = nearestToReference.get();
+                        if (fallbackNearResult == null) {
+                            throw new DateTimeException(String.format("Cannot resolve an instant near %s represented by %s.", referenceWithinRange, partial));
+                        } else if (condition.isStrictApplicable() && strictCondition && !condition.test(fallbackNearResult, referenceTime)) {
+                            throw new DateTimeException(
+                                    String.format("Unable to complete %s: nearest value %s within range %s does not strictly satisfy condition %s %s",
+                                            partial, fallbackNearResult, DateTimeRanges.toString(rangeStartInclusive, rangeEndExclusive), condition,
+                                            referenceTime));
+                        }
+                        return fallbackNearResult;
+                    });
+        }
+
+        private static LocalDateTime truncateRangeStart(final LocalDateTime rangeStartInclusive, final LocalDateTime rangeEndExclusive,
+                final TemporalUnit precision) {
+            final LocalDateTime truncatedRangeStartInclusive = rangeStartInclusive.truncatedTo(precision);
+            if (truncatedRangeStartInclusive.isBefore(rangeStartInclusive)) {
+                final LocalDateTime adjusted = truncatedRangeStartInclusive.plus(1, precision);
+                return DateTimeRanges.isWithin(adjusted, rangeStartInclusive, rangeEndExclusive) ? adjusted : rangeStartInclusive;
+            }
+            return truncatedRangeStartInclusive;
+        }
+
+        private static LocalDateTime getNearestCandidate(final PartialDateTime partial, final LocalDateTime referenceTime, final int fallbackDirection) {
+            try {
+                return toLocalDateTime(partial, referenceTime);
+            } catch (final DateTimeException originatingException) {
+                try {
+                    return toLocalDateTime(partial, shiftReference(partial, referenceTime, fallbackDirection));
+                } catch (final DateTimeException ignored) {
+                    throw originatingException;
+                }
+            }
+        }
+
+        private static LocalDateTime toLocalDateTime(final PartialDateTime partial, final LocalDateTime referenceTime) {
+            if (partial.isMidnight24h()) {
+                return LocalDateTime.of(referenceTime.getYear(), referenceTime.getMonth(), partial.getDay().orElse(referenceTime.getDayOfMonth()), 0, 0)//
+                        .plusDays(1L);
+            } else {
+                final int precision = partial.getPresentFields().isEmpty() ? PartialField.VALUES.length : precision(partial).ordinal();
+                return LocalDateTime.of(//
+                        referenceTime.getYear(), //
+                        referenceTime.getMonth(), //
+                        partial.getDay().orElse(precision > PartialField.DAY.ordinal() ? referenceTime.getDayOfMonth() : 1), //
+                        partial.getHour().orElse(precision > PartialField.HOUR.ordinal() ? referenceTime.getHour() : 0), //
+                        partial.getMinute().orElse(precision > PartialField.MINUTE.ordinal() ? referenceTime.getMinute() : 0));
+            }
+        }
+
+        private static LocalDateTime shiftReference(final PartialDateTime partial, final LocalDateTime candidate, final int nth) {
+            if (nth == 0) {
+                return candidate;
+            } else if (partial.getDay().isPresent()) {
+                return candidate.plusMonths(nth);
+            } else if (partial.getHour().isPresent()) {
+                return candidate.plusDays(nth);
+            } else if (partial.getMinute().isPresent()) {
+                return candidate.plusHours(nth);
+            } else {
+                return candidate.plusMinutes(nth);
+            }
+        }
+    }
+
+    private static final class NearestToReference {
+        private final LocalDateTime reference;
+        private LocalDateTime before = LocalDateTime.MIN;
+        private LocalDateTime after = LocalDateTime.MAX;
+        private boolean isAt = false;
+
+        private NearestToReference(final LocalDateTime reference) {
+            this.reference = reference;
+        }
+
+        void accept(final LocalDateTime localDateTime) {
+            if (localDateTime.isBefore(reference) && localDateTime.isAfter(before)) {
+                before = localDateTime;
+            } else if (localDateTime.isAfter(reference) && localDateTime.isBefore(after)) {
+                after = localDateTime;
+            } else if (localDateTime.isEqual(reference)) {
+                isAt = true;
+            }
+        }
+
+        @Nullable
+        LocalDateTime get() {
+            if (isAt) {
+                return reference;
+            }
+            final boolean hasBefore = before != LocalDateTime.MIN;
+            final boolean hasAfter = after != LocalDateTime.MAX;
+            if (hasBefore && hasAfter) {
+                return Duration.between(before, reference).compareTo(Duration.between(reference, after)) < 0 ? before : after;
+            } else if (hasBefore) {
+                return before;
+            } else if (hasAfter) {
+                return after;
+            } else {
+                return null;
+            }
+        }
+    }
+}
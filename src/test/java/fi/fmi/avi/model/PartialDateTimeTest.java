@@ -3,6 +3,9 @@ package fi.fmi.avi.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -15,6 +18,7 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.Temporal;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.EnumMap;
 import java.util.EnumSet;
@@ -43,9 +47,12 @@ import junitparams.Parameters;
 
 @RunWith(JUnitParamsRunner.class)
 public final class PartialDateTimeTest {
+    private static final int TEST_YEAR = 2000;
+    private static final int TEST_MONTH = 1;
     private static final int TEST_DAY = 2;
     private static final int TEST_HOUR = 3;
     private static final int TEST_MINUTE = 4;
+    private static final int TEST_SECOND = 5;
     private static final Map<PartialField, Integer> TEST_FIELD_VALUES = createTestFieldValues();
     private static final ZoneId TEST_ZONE = ZoneId.of("Z");
     private static final PartialDateTime SAMPLE_INSTANCE = PartialDateTime.parse("--02T03:04Z");
@@ -55,9 +62,12 @@ public final class PartialDateTimeTest {
 
     private static Map<PartialField, Integer> createTestFieldValues() {
         final EnumMap<PartialField, Integer> map = new EnumMap<>(PartialField.class);
+        map.put(PartialField.YEAR, TEST_YEAR);
+        map.put(PartialField.MONTH, TEST_MONTH);
         map.put(PartialField.DAY, TEST_DAY);
         map.put(PartialField.HOUR, TEST_HOUR);
         map.put(PartialField.MINUTE, TEST_MINUTE);
+        map.put(PartialField.SECOND, TEST_SECOND);
 
         assertThat(map.keySet()).containsExactlyInAnyOrder(PartialField.values());
 
@@ -69,14 +79,12 @@ public final class PartialDateTimeTest {
     }
 
     private static PartialDateTime createPartialDateTimeViaTACString(final Map<PartialField, Integer> testFieldValues) {
-        PartialField precision = PartialField.MINUTE;
         final StringBuilder tacStringBuilder = new StringBuilder();
         for (final Map.Entry<PartialField, Integer> entry : testFieldValues.entrySet()) {
-            precision = entry.getKey();
-            tacStringBuilder.append(String.format("%02d", entry.getValue()));
+            tacStringBuilder.append(String.format(entry.getKey() == PartialField.YEAR ? "%04d" : "%02d", entry.getValue()));
         }
 
-        return PartialDateTime.parseTACString(tacStringBuilder.toString(), precision);
+        return PartialDateTime.parseTACStringStrict(tacStringBuilder.toString(), testFieldValues.keySet(), false);
     }
 
     private static PartialDateTime createPartialDateTime(final int day, final int hour, final int minute, final String zoneId) {
@@ -177,6 +185,56 @@ public final class PartialDateTimeTest {
         SerializableTester.reserializeAndAssert(SAMPLE_INSTANCE);
     }
 
+    @Test
+    public void testSerializableWithYearMonthAndSecond() {
+        SerializableTester.reserializeAndAssert(PartialDateTime.parse("2019-01-09T10:05:30+02:00"));
+    }
+
+    /**
+     * Serialized forms written by versions supporting only day, hour and minute fields.
+     */
+    @Parameters({ //
+            "--27T11:37Z, rO0ABXNyACBmaS5mbWkuYXZpLm1vZGVsLlBhcnRpYWxEYXRlVGltZe0GldMg/OthAgACSQALZmllbGRWYWx1ZXNMAAR6b25ldAASTGphdmEvdGltZS9ab25lSWQ7eHAACUWbc3IADWphdmEudGltZS5TZXKVXYS6GyJIsgwAAHhwdwIIAHg=", //
+            "--T11:, rO0ABXNyACBmaS5mbWkuYXZpLm1vZGVsLlBhcnRpYWxEYXRlVGltZe0GldMg/OthAgACSQALZmllbGRWYWx1ZXNMAAR6b25ldAASTGphdmEvdGltZS9ab25lSWQ7eHAAH8X/cA==", //
+            "--05T:, rO0ABXNyACBmaS5mbWkuYXZpLm1vZGVsLlBhcnRpYWxEYXRlVGltZe0GldMg/OthAgACSQALZmllbGRWYWx1ZXNMAAR6b25ldAASTGphdmEvdGltZS9ab25lSWQ7eHAAH/+FcA==", //
+    })
+    @Test
+    public void testDeserializesLegacyForm(final String expected, final String serializedBase64) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(serializedBase64)))) {
+            assertThat(input.readObject()).isEqualTo(PartialDateTime.parse(expected));
+        }
+    }
+
+    @Parameters({ //
+            "--T::", //
+            "--31T::", //
+            "--T24::Z", //
+            "--01T00:59:", //
+            "--02T03:04:Z", //
+    })
+    @Test
+    public void testCommonValuesAreShared(final String partialDateTimeString) {
+        final PartialDateTime partialDateTime = PartialDateTime.parse(partialDateTimeString);
+        assertThat(PartialDateTime.parse(partialDateTimeString)).isSameAs(partialDateTime);
+        assertThat(PartialDateTime.of(partialDateTime.getDay().orElse(-1), partialDateTime.getHour().orElse(-1), partialDateTime.getMinute().orElse(-1),
+                partialDateTime.getZone().orElse(null))).isSameAs(partialDateTime);
+        assertThat(SerializableTester.reserialize(partialDateTime)).isSameAs(partialDateTime);
+    }
+
+    @Parameters({ //
+            "--00T:", //
+            "--32T:", //
+            "--T25:", //
+            "--T:60Z", //
+            "--02T03:04+02:00", //
+    })
+    @Test
+    public void testUncommonValuesAreEqual(final String partialDateTimeString) {
+        final PartialDateTime partialDateTime = PartialDateTime.parse(partialDateTimeString);
+        assertThat(PartialDateTime.parse(partialDateTimeString)).isEqualTo(partialDateTime);
+        assertThat(partialDateTime.toString()).isEqualTo(partialDateTimeString);
+    }
+
     @Parameters
     @Test
     public void testBuildFailOnNonContinuousFields(final Map<PartialField, Integer> testFieldValues) {
@@ -234,6 +292,16 @@ public final class PartialDateTimeTest {
         assertThat(partialDateTime).isEqualTo(expected);
     }
 
+    @Parameters(source = TestFieldValuesProvider.class)
+    @Test
+    public void testGetOr(final Map<PartialField, Integer> testFieldValues) {
+        final PartialDateTime partialDateTime = createPartialDateTime(testFieldValues);
+
+        for (final PartialField field : PartialField.values()) {
+            assertThat(partialDateTime.getOr(field, -1)).as(field.toString()).isEqualTo(partialDateTime.get(field).orElse(-1));
+        }
+    }
+
     @Parameters
     @Test
     public void testWithout(final Map<PartialField, Integer> testFieldValues) {
@@ -558,6 +626,22 @@ public final class PartialDateTimeTest {
         assertThat(partialDateTime.toString()).isEqualTo(expected);
     }
 
+    @Parameters(source = TACStringProvider.class)
+    @Test
+    public void testAppendTACStringTo(final String expected, final int day, final int hour, final int minute, final String zoneId) throws IOException {
+        final PartialDateTime partialDateTime = createPartialDateTime(day, hour, minute, zoneId);
+        assertThat(partialDateTime.appendTACStringTo(new StringBuilder("TAF ")).toString()).isEqualTo("TAF " + expected);
+        assertThat(partialDateTime.toTACString()).isSameAs(partialDateTime.toTACString());
+    }
+
+    @Parameters(source = PartialDateTimeStringProvider.class)
+    @Test
+    public void testAppendTo(final String expected, final int day, final int hour, final int minute, final String zoneId) throws IOException {
+        final PartialDateTime partialDateTime = createPartialDateTime(day, hour, minute, zoneId);
+        assertThat(partialDateTime.appendTo(new StringBuilder("at ")).toString()).isEqualTo("at " + expected);
+        assertThat(partialDateTime.toString()).isSameAs(partialDateTime.toString());
+    }
+
     @Parameters({ //
             "2000-02-03T04:05Z, --03T04:05Z, 2000-02", //
             "2000-02-04T00:00Z, --03T24:00Z, 2000-02", //
@@ -1925,12 +2009,12 @@ public final class PartialDateTimeTest {
             "T03:04", //
             "T03:04:", //
             "T03:04:Z", //
-            "2018-01-02T03:04:Z", //
-            "-01-02T03:04:Z", //
-            "--02T03:04:00Z", //
+            "20180-01-02T03:04Z", //
+            "2018-001-02T03:04Z", //
+            "2018-01T03:04Z", //
+            "--02T03:04:005Z", //
             "--b2T03:04:Z", //
             "--0bT03:04:Z", //
-            "--02T03:04:00", //
             "--02T03:04:X" //
     })
     @Test
@@ -1942,6 +2026,62 @@ public final class PartialDateTimeTest {
                 .withMessageContaining(partialDateTimeString);
     }
 
+    @Parameters({ //
+            "2018-01-02T03:04:Z, 2018, 1, 2, 3, 4, -1, Z", //
+            "-01-02T03:04:Z, -1, 1, 2, 3, 4, -1, Z", //
+            "--02T03:04:00Z, -1, -1, 2, 3, 4, 0, Z", //
+            "--02T03:04:00, -1, -1, 2, 3, 4, 0, ", //
+            "2019--T:, 2019, -1, -1, -1, -1, -1, ", //
+            "2019-01-09T10:05:30Z, 2019, 1, 9, 10, 5, 30, Z", //
+    })
+    @Test
+    public void testParseYearMonthSecond(final String partialDateTimeString, final int year, final int month, final int day, final int hour,
+            final int minute, final int second, final String zoneId) {
+        final PartialDateTime partialDateTime = PartialDateTime.parse(partialDateTimeString);
+        assertThat(partialDateTime.getYear().orElse(-1)).as("year").isEqualTo(year);
+        assertThat(partialDateTime.getMonth().orElse(-1)).as("month").isEqualTo(month);
+        assertThat(partialDateTime.getDay().orElse(-1)).as("day").isEqualTo(day);
+        assertThat(partialDateTime.getHour().orElse(-1)).as("hour").isEqualTo(hour);
+        assertThat(partialDateTime.getMinute().orElse(-1)).as("minute").isEqualTo(minute);
+        assertThat(partialDateTime.getSecond().orElse(-1)).as("second").isEqualTo(second);
+        assertThat(partialDateTime.getZone()).as("zone").isEqualTo(createZone(zoneId));
+        assertThat(PartialDateTime.of(year, month, day, hour, minute, second, createZone(zoneId).orElse(null))).isEqualTo(partialDateTime);
+    }
+
+    @Parameters({ //
+            "2019-01-09T10:05:30Z, 20190109100530Z", //
+            "2019-01-T:, 201901", //
+            "-01-02T:, 0102", //
+            "--T:04:05, 0405", //
+    })
+    @Test
+    public void testYearMonthSecondStringRoundTrip(final String partialDateTimeString, final String tacString) {
+        final PartialDateTime partialDateTime = PartialDateTime.parse(partialDateTimeString);
+        assertThat(partialDateTime.toString()).isEqualTo(partialDateTimeString);
+        assertThat(partialDateTime.toTACString()).isEqualTo(tacString);
+        assertThat(PartialDateTime.parseTACStringStrict(tacString, partialDateTime.getPresentFields(), partialDateTime.getZone().isPresent()))//
+                .isEqualTo(partialDateTime);
+    }
+
+    @Parameters({ //
+            "2018-12-31T24:00Z, 2018-12-01T00:00Z, 2019-01-01T00:00Z", //
+            "2019-01-09T10:05:30Z, 2010-01-01T00:00Z, 2019-01-09T10:05:30Z", //
+            "-02-T:Z, 2018-12-01T10:00:30Z, 2019-02-01T00:00Z", //
+            "-12-31T:Z, 2019-01-05T10:00Z, 2018-12-31T00:00Z", //
+            "--T:04:05Z, 2019-01-05T10:00Z, 2019-01-05T10:04:05Z", //
+    })
+    @Test
+    public void testToZonedDateTimeNearWithYearMonthSecond(final String partialDateTimeString, final String referenceTime, final String expected) {
+        assertThat(PartialDateTime.parse(partialDateTimeString).toZonedDateTimeNear(ZonedDateTime.parse(referenceTime)))//
+                .isEqualTo(ZonedDateTime.parse(expected));
+    }
+
+    @Test
+    public void testWithMidnight00hOverYearChange() {
+        assertThat(PartialDateTime.parse("2018-12-31T24:00Z").withMidnight00h(YearMonth.of(2000, 1))).isEqualTo(PartialDateTime.parse("2019-01-01T00:00Z"));
+        assertThat(PartialDateTime.parse("2019-01-01T00:00Z").withMidnight24h(YearMonth.of(2000, 1))).isEqualTo(PartialDateTime.parse("2018-12-31T24:00Z"));
+    }
+
     @Parameters(source = TACStringProvider.class)
     @Test
     public void testParseTACString(final String tacString, final int day, final int hour, final int minute, final String zoneId) {
@@ -2039,6 +2179,48 @@ public final class PartialDateTimeTest {
                 .satisfies(exception -> assertThat(exception.getErrorIndex()).as("errorIndex").isEqualTo(errorIndex));
     }
 
+    @Parameters(source = PartialDateTimeStringProvider.class)
+    @Test
+    public void testParseRegion(final String partialDateTimeString, final int day, final int hour, final int minute, final String zoneId) {
+        final String text = "VALID " + partialDateTimeString + " END";
+        final PartialDateTime partialDateTime = PartialDateTime.parse(text, 6, partialDateTimeString.length());
+        assertThat(partialDateTime).isEqualTo(PartialDateTime.parse(partialDateTimeString));
+    }
+
+    @Parameters(source = TACStringProvider.class)
+    @Test
+    public void testParseTACStringRegion(final String tacString, final int day, final int hour, final int minute, final String zoneId) {
+        final StringBuilder text = new StringBuilder("TAF EFHK ").append(tacString).append(" 1203/1212");
+        final PartialField precision = precision(day, hour, minute);
+        assertThat(PartialDateTime.parseTACString(text, 9, tacString.length(), precision))//
+                .isEqualTo(PartialDateTime.parseTACString(tacString, precision));
+        final Set<PartialField> hasFields = existingFields(day, hour, minute);
+        final boolean hasZone = createZone(zoneId).isPresent();
+        assertThat(PartialDateTime.parseTACStringStrict(text, 9, tacString.length(), hasFields, hasZone))//
+                .isEqualTo(PartialDateTime.parseTACStringStrict(tacString, hasFields, hasZone));
+    }
+
+    @Parameters({ "0, 0", "2, 000Z", "4, 02034", "6, 02030405", "0, b2", "2, 02b3" })
+    @Test
+    public void testParseTACStringRegionInvalid(final int errorIndex, final String tacString) {
+        final String text = "12" + tacString + "34";
+        final Class<DateTimeParseException> expectedException = DateTimeParseException.class;
+        final ExpectedExceptionDescription description = new ExpectedExceptionDescription(expectedException);
+        assertThatExceptionOfType(expectedException).as(description)//
+                .isThrownBy(() -> description.setUnexpectedResult(PartialDateTime.parseTACString(text, 2, tacString.length(), PartialField.MINUTE)))//
+                .withMessageContaining(tacString)//
+                .satisfies(exception -> assertThat(exception.getParsedString()).as("parsedString").isEqualTo(tacString))//
+                .satisfies(exception -> assertThat(exception.getErrorIndex()).as("errorIndex").isEqualTo(errorIndex));
+    }
+
+    @Test
+    public void testParseRegionOutOfBounds() {
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> PartialDateTime.parse("--02T03:04:Z", 1, 12));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> PartialDateTime.parseTACString("020304Z", -1, 2, PartialField.MINUTE));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)//
+                .isThrownBy(() -> PartialDateTime.parseTACStringStrict("020304Z", 0, 8, EnumSet.allOf(PartialField.class), true));
+    }
+
     private static final class ExpectedExceptionDescription extends Description {
         private final Class<? extends Throwable> expectedException;
         private Object unexpectedResult;
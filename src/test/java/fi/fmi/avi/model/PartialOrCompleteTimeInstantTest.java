@@ -0,0 +1,77 @@
+package fi.fmi.avi.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.testing.SerializableTester;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public final class PartialOrCompleteTimeInstantTest {
+
+    private static void assertTimeFields(final PartialOrCompleteTimeInstant instant, final int day, final int hour, final int minute) {
+        assertThat(instant.getDayOr(-1)).as("day").isEqualTo(day);
+        assertThat(instant.getHourOr(-1)).as("hour").isEqualTo(hour);
+        assertThat(instant.getMinuteOr(-1)).as("minute").isEqualTo(minute);
+        assertThat(instant.getDay().orElse(-1)).as("getDay").isEqualTo(day);
+        assertThat(instant.getHour().orElse(-1)).as("getHour").isEqualTo(hour);
+        assertThat(instant.getMinute().orElse(-1)).as("getMinute").isEqualTo(minute);
+    }
+
+    @Parameters({ //
+            "--27T11:37Z, 27, 11, 37", //
+            "--27T11:, 27, 11, -1", //
+            "--T11:00, -1, 11, 0", //
+            "--T:, -1, -1, -1", //
+            "--31T24:00Z, 31, 24, 0", //
+    })
+    @Test
+    public void testPartialTimeFields(final String partialTime, final int day, final int hour, final int minute) {
+        final PartialOrCompleteTimeInstant instant = PartialOrCompleteTimeInstant.of(PartialDateTime.parse(partialTime));
+        assertTimeFields(instant, day, hour, minute);
+        assertThat(instant.hasPartialTime()).isTrue();
+        assertThat(instant.hasCompleteTime()).isFalse();
+    }
+
+    @Test
+    public void testCompleteTimeFields() {
+        final PartialOrCompleteTimeInstant instant = PartialOrCompleteTimeInstant.of(ZonedDateTime.parse("2017-07-27T11:37Z"));
+        assertTimeFields(instant, 27, 11, 37);
+        assertThat(instant.hasPartialTime()).isFalse();
+        assertThat(instant.hasCompleteTime()).isTrue();
+    }
+
+    @Test
+    public void testPartialTimeFieldsPrecedeCompleteTimeFields() {
+        final PartialOrCompleteTimeInstant instant = PartialOrCompleteTimeInstant.of(PartialDateTime.parse("--T24:"),
+                ZonedDateTime.parse("2017-07-28T00:00Z"));
+        assertTimeFields(instant, -1, 24, -1);
+        assertThat(instant.hasPartialTime()).isTrue();
+        assertThat(instant.hasCompleteTime()).isTrue();
+    }
+
+    @Test
+    public void testTimeFieldsAfterModification() {
+        final PartialOrCompleteTimeInstant instant = PartialOrCompleteTimeInstant.createIssueTime("271137Z");
+        assertTimeFields(instant, 27, 11, 37);
+        final PartialOrCompleteTimeInstant modified = instant.toBuilder()//
+                .completePartialNear(ZonedDateTime.parse("2017-07-27T12:00Z"))//
+                .setPartialTime(PartialDateTime.parse("--28T12:00Z"))//
+                .build();
+        assertTimeFields(modified, 28, 12, 0);
+        assertThat(modified.hasCompleteTime()).isTrue();
+    }
+
+    @Test
+    public void testTimeFieldsAfterDeserialization() {
+        final PartialOrCompleteTimeInstant instant = PartialOrCompleteTimeInstant.createIssueTime("271137Z");
+        assertTimeFields(instant, 27, 11, 37);
+        assertTimeFields(SerializableTester.reserializeAndAssert(instant), 27, 11, 37);
+    }
+}
@@ -0,0 +1,92 @@
+package fi.fmi.avi.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.testing.SerializableTester;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public final class PartialOrCompleteTimePeriodTest {
+
+    @Parameters({ //
+            "2712/2812, 27, 12, 28, 12", //
+            "2712-2812, 27, 12, 28, 12", //
+            "271218, 27, 12, 27, 18", //
+            "3100/0124, 31, 0, 1, 24", //
+    })
+    @Test
+    public void testCreateValidityTime(final String validityTime, final int startDay, final int startHour, final int endDay, final int endHour) {
+        final PartialOrCompleteTimePeriod expected = PartialOrCompleteTimePeriod.builder()//
+                .setStartTime(PartialOrCompleteTimeInstant.of(PartialDateTime.ofDayHour(startDay, startHour)))//
+                .setEndTime(PartialOrCompleteTimeInstant.of(PartialDateTime.ofDayHour(endDay, endHour)))//
+                .build();
+        assertThat(PartialOrCompleteTimePeriod.createValidityTime(validityTime)).isEqualTo(expected);
+        assertThat(PartialOrCompleteTimePeriod.tryCreateValidityTime(validityTime)).hasValue(expected);
+        if (validityTime.length() == 6) {
+            assertThat(PartialOrCompleteTimePeriod.createValidityTimeDHH(validityTime)).isEqualTo(expected);
+        } else {
+            assertThat(PartialOrCompleteTimePeriod.createValidityTimeDHDH(validityTime)).isEqualTo(expected);
+        }
+    }
+
+    @Parameters({ "2712", "27121", "2712188", "2712 2812", "2712/281", "2712/28122", "27a218", "2712/2b12", "+27121" })
+    @Test
+    public void testCreateValidityTimeInvalid(final String validityTime) {
+        assertThat(PartialOrCompleteTimePeriod.tryCreateValidityTime(validityTime)).isEmpty();
+        assertThatIllegalArgumentException().isThrownBy(() -> PartialOrCompleteTimePeriod.createValidityTime(validityTime));
+        assertThatIllegalArgumentException().isThrownBy(() -> PartialOrCompleteTimePeriod.createValidityTimeDHH(validityTime));
+        assertThatIllegalArgumentException().isThrownBy(() -> PartialOrCompleteTimePeriod.createValidityTimeDHDH(validityTime));
+    }
+
+    @Parameters({ //
+            "2712/2812, 2712/2812", //
+            "271218, 2712/2718", //
+            "3100/0124, 3100/0124", //
+    })
+    @Test
+    public void testToTACString(final String validityTime, final String expected) {
+        final PartialOrCompleteTimePeriod period = PartialOrCompleteTimePeriod.createValidityTime(validityTime);
+        assertThat(period.toTACString()).isEqualTo(expected);
+        assertThat(period.toTACString()).isSameAs(period.toTACString());
+    }
+
+    @Test
+    public void testToTACStringWithoutPartialTimes() {
+        final PartialOrCompleteTimePeriod period = PartialOrCompleteTimePeriod.builder()//
+                .setStartTime(PartialOrCompleteTimeInstant.of(ZonedDateTime.parse("2017-07-27T12:00Z")))//
+                .build();
+        assertThat(period.toTACString()).isEqualTo("/");
+    }
+
+    @Test
+    public void testToTACStringAfterCompletion() {
+        final PartialOrCompleteTimePeriod period = PartialOrCompleteTimePeriod.createValidityTime("2712/2812")//
+                .toBuilder()//
+                .completePartialStartingNear(ZonedDateTime.parse("2017-07-27T11:37Z"))//
+                .build();
+        assertThat(period.toTACString()).isEqualTo("2712/2812");
+    }
+
+    @Test
+    public void testAppendTACStringTo() throws IOException {
+        final PartialOrCompleteTimePeriod period = PartialOrCompleteTimePeriod.createValidityTime("2712/2812");
+        assertThat(period.appendTACStringTo(new StringBuilder("EFHK 271137Z ")).toString()).isEqualTo("EFHK 271137Z 2712/2812");
+    }
+
+    @Test
+    public void testSerializableAfterTACString() {
+        final PartialOrCompleteTimePeriod period = PartialOrCompleteTimePeriod.createValidityTime("2712/2812");
+        final String tacString = period.toTACString();
+        final PartialOrCompleteTimePeriod deserialized = SerializableTester.reserializeAndAssert(period);
+        assertThat(deserialized.toTACString()).isEqualTo(tacString);
+    }
+}
@@ -0,0 +1,203 @@
+package fi.fmi.avi.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.common.testing.NullPointerTester;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public final class ValidityTimeIndexTest {
+
+    private ValidityTimeIndex<String> index;
+
+    private static ZonedDateTime time(final String time) {
+        return ZonedDateTime.parse(time);
+    }
+
+    private static PartialOrCompleteTimePeriod completePeriod(final String start, final String end) {
+        return PartialOrCompleteTimePeriod.builder()//
+                .setStartTime(PartialOrCompleteTimeInstant.of(time(start)))//
+                .setEndTime(PartialOrCompleteTimeInstant.of(time(end)))//
+                .build();
+    }
+
+    @Before
+    public void setUp() {
+        index = new ValidityTimeIndex<>();
+        index.add("TAF1", completePeriod("2017-07-27T12:00Z", "2017-07-28T12:00Z"));
+        index.add("TAF2", completePeriod("2017-07-27T18:00Z", "2017-07-29T00:00Z"));
+        index.add("SIGMET1", completePeriod("2017-07-27T11:00Z", "2017-07-27T15:00Z"));
+        index.add("SIGMET2", completePeriod("2017-07-28T06:00Z", "2017-07-28T10:00+02:00"));
+    }
+
+    @Test
+    public void testNulls() {
+        final NullPointerTester tester = new NullPointerTester()//
+                .setDefault(ZonedDateTime.class, time("2017-07-27T12:00Z"))//
+                .setDefault(PartialOrCompleteTimePeriod.class, completePeriod("2017-07-27T12:00Z", "2017-07-28T12:00Z"));
+        tester.testAllPublicInstanceMethods(index);
+    }
+
+    @Parameters({ //
+            "2017-07-27T10:59Z, ", //
+            "2017-07-27T11:00Z, SIGMET1", //
+            "2017-07-27T12:00Z, SIGMET1:TAF1", //
+            "2017-07-27T15:00Z, TAF1", //
+            "2017-07-27T18:00Z, TAF1:TAF2", //
+            "2017-07-28T07:59Z, SIGMET2:TAF1:TAF2", //
+            "2017-07-28T08:00Z, TAF1:TAF2", //
+            "2017-07-28T12:00Z, TAF2", //
+            "2017-07-29T00:00Z, ", //
+    })
+    @Test
+    public void testGetValidAt(final String instant, final String expected) {
+        assertThat(index.getValidAt(time(instant))).containsExactlyInAnyOrder(expected.isEmpty() ? new String[0] : expected.split(":"));
+    }
+
+    @Parameters({ //
+            "2017-07-27T00:00Z, 2017-07-27T11:00Z, ", //
+            "2017-07-27T00:00Z, 2017-07-27T11:01Z, SIGMET1", //
+            "2017-07-27T15:00Z, 2017-07-27T18:00Z, TAF1", //
+            "2017-07-27T14:00Z, 2017-07-27T18:01Z, SIGMET1:TAF1:TAF2", //
+            "2017-07-28T09:00+02:00, 2017-07-28T09:00Z, SIGMET2:TAF1:TAF2", //
+            "2017-07-28T12:00Z, 2017-07-30T00:00Z, TAF2", //
+            "2017-07-29T00:00Z, 2017-07-30T00:00Z, ", //
+    })
+    @Test
+    public void testGetOverlapping(final String start, final String end, final String expected) {
+        assertThat(index.getOverlapping(time(start), time(end))).containsExactlyInAnyOrder(expected.isEmpty() ? new String[0] : expected.split(":"));
+    }
+
+    @Test
+    public void testGetOverlappingInvalidInterval() {
+        assertThatIllegalArgumentException().isThrownBy(() -> index.getOverlapping(time("2017-07-28T00:00Z"), time("2017-07-27T00:00Z")));
+    }
+
+    @Test
+    public void testResultIsOrderedByStart() {
+        assertThat(index.getOverlapping(time("2017-07-27T00:00Z"), time("2017-07-30T00:00Z"))).containsExactly("SIGMET1", "TAF1", "TAF2", "SIGMET2");
+    }
+
+    @Test
+    public void testAddIncompletePeriod() {
+        final PartialOrCompleteTimePeriod partialPeriod = PartialOrCompleteTimePeriod.createValidityTime("2712/2812");
+        assertThat(index.add("TAF3", partialPeriod)).isFalse();
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    public void testAddInvalidPeriod() {
+        assertThatIllegalArgumentException().isThrownBy(() -> index.add("TAF3", time("2017-07-28T00:00Z"), time("2017-07-27T00:00Z")));
+    }
+
+    @Test
+    public void testAddReplacesPeriod() {
+        index.add("TAF1", time("2017-07-28T12:00Z"), time("2017-07-29T12:00Z"));
+        assertThat(index.size()).isEqualTo(4);
+        assertThat(index.getValidAt(time("2017-07-27T12:00Z"))).containsExactly("SIGMET1");
+        assertThat(index.getValidAt(time("2017-07-29T06:00Z"))).containsExactly("TAF1");
+    }
+
+    @Test
+    public void testRemove() {
+        assertThat(index.remove("TAF1")).isTrue();
+        assertThat(index.remove("TAF1")).isFalse();
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.getValidAt(time("2017-07-27T12:00Z"))).containsExactly("SIGMET1");
+    }
+
+    @Test
+    public void testExpire() {
+        assertThat(index.expire(time("2017-07-27T10:00Z"))).isZero();
+        assertThat(index.expire(time("2017-07-28T12:00Z"))).isEqualTo(3);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.getOverlapping(time("2017-07-27T00:00Z"), time("2017-07-30T00:00Z"))).containsExactly("TAF2");
+        assertThat(index.expire(time("2017-07-29T00:00Z"))).isEqualTo(1);
+        assertThat(index.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void testQueryRangeShrinksOnRemove() {
+        final long longestTafDuration = TimeUnit.HOURS.toMillis(30);
+        assertThat(index.getMaxDurationMillis()).isEqualTo(longestTafDuration);
+
+        index.add("GENERIC1", time("2017-07-01T00:00Z"), time("2017-08-01T00:00Z"));
+        assertThat(index.getMaxDurationMillis()).isEqualTo(TimeUnit.DAYS.toMillis(31));
+        assertThat(index.getValidAt(time("2017-07-27T12:00Z"))).containsExactly("GENERIC1", "SIGMET1", "TAF1");
+
+        assertThat(index.remove("GENERIC1")).isTrue();
+        assertThat(index.getMaxDurationMillis()).isEqualTo(longestTafDuration);
+        assertThat(index.getValidAt(time("2017-07-27T12:00Z"))).containsExactly("SIGMET1", "TAF1");
+    }
+
+    @Test
+    public void testQueryRangeShrinksOnReplaceAndExpire() {
+        index.add("GENERIC1", time("2017-07-01T00:00Z"), time("2017-08-01T00:00Z"));
+        index.add("GENERIC1", time("2017-07-27T00:00Z"), time("2017-07-27T01:00Z"));
+        assertThat(index.getMaxDurationMillis()).isEqualTo(TimeUnit.HOURS.toMillis(30));
+
+        index.add("GENERIC2", time("2017-07-01T00:00Z"), time("2017-07-20T00:00Z"));
+        assertThat(index.expire(time("2017-07-28T12:00Z"))).isEqualTo(5);
+        assertThat(index.getMaxDurationMillis()).isEqualTo(TimeUnit.HOURS.toMillis(30));
+        assertThat(index.expire(time("2017-07-29T00:00Z"))).isEqualTo(1);
+        assertThat(index.getMaxDurationMillis()).isZero();
+    }
+
+    @Test
+    public void testQueryRangeIsBoundedByDurationClass() {
+        // TAF1 and TAF2 share a duration class, while the SIGMETs are in classes of their own.
+        assertThat(index.getMaxDurationMillis(TimeUnit.HOURS.toMillis(24))).isEqualTo(TimeUnit.HOURS.toMillis(30));
+        assertThat(index.getMaxDurationMillis(TimeUnit.HOURS.toMillis(4))).isEqualTo(TimeUnit.HOURS.toMillis(4));
+        assertThat(index.getMaxDurationMillis(TimeUnit.HOURS.toMillis(2))).isEqualTo(TimeUnit.HOURS.toMillis(2));
+        assertThat(index.getMaxDurationMillis(TimeUnit.MINUTES.toMillis(1))).isEqualTo(-1);
+
+        assertThat(index.remove("SIGMET1")).isTrue();
+        assertThat(index.getMaxDurationMillis(TimeUnit.HOURS.toMillis(4))).isEqualTo(-1);
+        assertThat(index.getValidAt(time("2017-07-28T07:00Z"))).containsExactly("TAF1", "TAF2", "SIGMET2");
+    }
+
+    @Test
+    public void testConcurrentAddAndExpire() throws Exception {
+        final ValidityTimeIndex<Integer> concurrentIndex = new ValidityTimeIndex<>();
+        final ZonedDateTime base = time("2017-07-27T00:00Z");
+        final int valuesPerTask = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int task = 0; task < 4; task++) {
+                final int firstValue = task * valuesPerTask;
+                futures.add(executor.submit(() -> {
+                    for (int value = firstValue; value < firstValue + valuesPerTask; value++) {
+                        concurrentIndex.add(value, base.plusMinutes(value), base.plusMinutes(value + 60));
+                        concurrentIndex.getValidAt(base.plusMinutes(value));
+                    }
+                }));
+                futures.add(executor.submit(() -> concurrentIndex.expire(base.plusMinutes(firstValue))));
+            }
+            for (final Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        concurrentIndex.expire(base.plusMinutes(4 * valuesPerTask));
+        assertThat(concurrentIndex.getValidAt(base.plusMinutes(4 * valuesPerTask))).containsExactlyElementsOf(
+                concurrentIndex.getOverlapping(base.plusMinutes(4 * valuesPerTask - 1), base.plusMinutes(4 * valuesPerTask + 60)));
+        assertThat(concurrentIndex.size()).isEqualTo(concurrentIndex.getValidAt(base.plusMinutes(4 * valuesPerTask)).size()).isEqualTo(59);
+    }
+}
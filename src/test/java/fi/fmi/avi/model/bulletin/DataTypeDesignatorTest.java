@@ -0,0 +1,66 @@
+package fi.fmi.avi.model.bulletin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+public final class DataTypeDesignatorTest {
+
+    @Test
+    public void t1_fromCode_returns_constant_of_known_code() {
+        assertThat(DataTypeDesignatorT1.fromCode('F')).isSameAs(DataTypeDesignatorT1.FORECASTS);
+        assertThat(DataTypeDesignatorT1.fromCode('L')).isSameAs(DataTypeDesignatorT1.AVIATION_INFORMATION_IN_XML);
+        assertThat(DataTypeDesignatorT1.FORECASTS.name()).isEqualTo("FORECASTS");
+    }
+
+    @Test
+    public void t1_fromCode_returns_extension_of_unknown_code() {
+        final DataTypeDesignatorT1 designator = DataTypeDesignatorT1.fromCode('Z');
+        assertThat(designator.code()).isEqualTo('Z');
+        assertThat(designator.name()).isEqualTo("EXTENSION_Z");
+        assertThat(designator).isEqualTo(DataTypeDesignatorT1.fromCode('Z'));
+        assertThat(DataTypeDesignatorT1.fromName("EXTENSION_Z")).hasValue(designator);
+    }
+
+    @Test
+    public void t1_fromCode_returns_extension_of_non_ascii_code() {
+        final DataTypeDesignatorT1 designator = DataTypeDesignatorT1.fromCode('\u00c4');
+        assertThat(designator.code()).isEqualTo('\u00c4');
+        assertThat(designator.name()).isEqualTo("EXTENSION_\u00c4");
+    }
+
+    @Test
+    public void t1_fromName_returns_constant_of_known_name() {
+        assertThat(DataTypeDesignatorT1.fromName("SURFACE_DATA")).containsSame(DataTypeDesignatorT1.SURFACE_DATA);
+        assertThat(DataTypeDesignatorT1.fromName("NO_SUCH_DESIGNATOR")).isEmpty();
+    }
+
+    @Test
+    public void t2_fromCode_returns_constant_of_known_code() {
+        assertThat(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.fromCode('S')).containsSame(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.XML_SIGMET);
+        assertThat(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.XML_SIGMET.name()).isEqualTo("XML_SIGMET");
+        assertThat(DataTypeDesignatorT2.fromName("XML_SIGMET")).containsSame(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.XML_SIGMET);
+    }
+
+    @Test
+    public void t2_fromCode_returns_empty_of_unknown_code() {
+        assertThat(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.fromCode('Q')).isEmpty();
+        assertThat(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.fromCode('\u00c4')).isEmpty();
+        assertThat(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.fromCode((char) 127)).isEmpty();
+    }
+
+    @Test
+    public void t2_fromCode_returns_shared_optional() {
+        final Optional<DataTypeDesignatorT2.XMLDataTypeDesignatorT2> designator = DataTypeDesignatorT2.XMLDataTypeDesignatorT2.fromCode('S');
+        assertThat(DataTypeDesignatorT2.XMLDataTypeDesignatorT2.fromCode('S')).isSameAs(designator);
+    }
+
+    @Test
+    public void t2_extension_has_extension_name() {
+        final DataTypeDesignatorT2 designator = DataTypeDesignatorT2.fromExtensionCode('Q');
+        assertThat(designator.name()).isEqualTo("EXTENSION_Q");
+        assertThat(DataTypeDesignatorT2.fromName("EXTENSION_Q")).hasValue(designator);
+    }
+}
@@ -1,13 +1,19 @@
 package fi.fmi.avi.model.taf.immutable;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Ignore;
 import org.junit.Test;
 
 import fi.fmi.avi.JSONTestUtil;
+import fi.fmi.avi.model.PartialDateTime;
 import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
 import fi.fmi.avi.model.bulletin.BulletinHeading;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT1;
@@ -54,6 +60,28 @@ public final class TAFBulletinTest {
         bulletinBuilder.build();
     }
 
+    @Test
+    public void testGetPartialTimeStamp() {
+        final TAFBulletinImpl.Builder bulletinBuilder = TAFBulletinImpl.builder()//
+                .setHeading(BulletinHeadingImpl.builder()//
+                        .setType(BulletinHeading.Type.NORMAL)//
+                        .setGeographicalDesignator("FI")//
+                        .setLocationIndicator("EFKL")//
+                        .setBulletinNumber(31)//
+                        .setDataTypeDesignatorT1ForTAC(DataTypeDesignatorT1.FORECASTS)
+                        .setDataTypeDesignatorT2(DataTypeDesignatorT2.ForecastsDataTypeDesignatorT2.FCT_AERODROME_VT_LONG)//
+                        .setIssueTime(PartialOrCompleteTimeInstant.createIssueTime("271137Z"))//
+                        .build());
+        assertThat(bulletinBuilder.build().getPartialTimeStamp()).isEmpty();
+
+        final TAFBulletinImpl bulletin = bulletinBuilder//
+                .setTimeStamp(ZonedDateTime.parse("2017-07-27T11:37:42Z"))//
+                .addTimeStampFields(ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY,
+                        ChronoField.MINUTE_OF_HOUR)//
+                .build();
+        assertThat(bulletin.getPartialTimeStamp()).hasValue(PartialDateTime.parse("2017-07-27T11:37Z"));
+    }
+
     //Check for TAF length removed, so ignoring the test
     @Ignore
     @Test(expected = IllegalStateException.class)
@@ -90,4 +118,34 @@ public final class TAFBulletinTest {
         bulletinBuilder.build();
     }
 
+    @Test
+    public void testWithAllTimesComplete() throws Exception {
+        final TAF taf = JSONTestUtil.readFromJSON(TAFBulletinTest.class.getResourceAsStream("taf1.json"), TAFImpl.class);
+        final TAFBulletinImpl.Builder bulletinBuilder = TAFBulletinImpl.builder()//
+                .setHeading(BulletinHeadingImpl.builder()//
+                        .setType(BulletinHeading.Type.NORMAL)//
+                        .setGeographicalDesignator("FI")//
+                        .setLocationIndicator("EFKL")//
+                        .setBulletinNumber(31)//
+                        .setDataTypeDesignatorT1ForTAC(DataTypeDesignatorT1.FORECASTS)
+                        .setDataTypeDesignatorT2(DataTypeDesignatorT2.ForecastsDataTypeDesignatorT2.FCT_AERODROME_VT_LONG)//
+                        .setIssueTime(PartialOrCompleteTimeInstant.createIssueTime("271137Z"))//
+                        .build())//
+                .addMessages(taf, taf);
+        final ZonedDateTime reference = ZonedDateTime.parse("2017-07-30T00:00Z");
+        final ZonedDateTime expectedIssueTime = ZonedDateTime.parse("2017-07-27T11:37Z");
+        final TAF expectedTAF = TAFImpl.Builder.from(taf).withAllTimesComplete(expectedIssueTime).build();
+
+        final TAFBulletinImpl bulletin = bulletinBuilder.build().toBuilder().withAllTimesComplete(reference).build();
+        assertThat(bulletin.getHeading().getIssueTime().getCompleteTime()).hasValue(expectedIssueTime);
+        assertThat(bulletin.getMessages()).containsExactly(expectedTAF, expectedTAF);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThat(bulletinBuilder.build().toBuilder().withAllTimesComplete(reference, executor).build()).isEqualTo(bulletin);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
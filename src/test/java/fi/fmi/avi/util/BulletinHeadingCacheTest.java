@@ -0,0 +1,137 @@
+package fi.fmi.avi.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import fi.fmi.avi.converter.ConversionHints;
+import fi.fmi.avi.model.bulletin.BulletinHeading;
+
+public class BulletinHeadingCacheTest {
+
+    @Test
+    public void testReturnsSharedInstance() {
+        final BulletinHeadingCache cache = new BulletinHeadingCache(10);
+        final BulletinHeading heading = cache.decode("FTFI33 EFPP 250200");
+        assertThat(heading).isEqualTo(BulletinHeadingDecoder.decode("FTFI33 EFPP 250200", null));
+        assertThat(cache.decode(new StringBuilder("FTFI33 EFPP 250200"))).isSameAs(heading);
+        assertThat(cache.decode("ZCZC\nFTFI33 EFPP 250200\n", 5, 23)).isSameAs(heading);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testDifferentIssueTimesAreCachedSeparately() {
+        final BulletinHeadingCache cache = new BulletinHeadingCache(10);
+        final BulletinHeading first = cache.decode("FTFI33 EFPP 250200");
+        final BulletinHeading second = cache.decode("FTFI33 EFPP 250300");
+        assertThat(second).isNotEqualTo(first);
+        assertThat(cache.decode("FTFI33 EFPP 250200")).isSameAs(first);
+        assertThat(cache.decode("FTFI33 EFPP 250300")).isSameAs(second);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        final BulletinHeadingCache cache = new BulletinHeadingCache(2);
+        final BulletinHeading first = cache.decode("FTFI31 EFLK 250200");
+        final BulletinHeading second = cache.decode("FTFI32 EFLK 250200");
+        assertThat(cache.decode("FTFI31 EFLK 250200")).isSameAs(first);
+        cache.decode("FTFI33 EFLK 250200");
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.decode("FTFI31 EFLK 250200")).isSameAs(first);
+        assertThat(cache.decode("FTFI32 EFLK 250200")).isNotSameAs(second).isEqualTo(second);
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void testRegionLookupsAsCacheGrows() {
+        final BulletinHeadingCache cache = new BulletinHeadingCache(90);
+        final List<BulletinHeading> headings = new ArrayList<>();
+        for (int bulletinNumber = 10; bulletinNumber < 100; bulletinNumber++) {
+            final StringBuilder input = new StringBuilder("ZCZC\nFTFI").append(bulletinNumber).append(" EFLK 250200\n");
+            headings.add(cache.decode(input, 5, input.length() - 1));
+        }
+        for (int bulletinNumber = 10; bulletinNumber < 100; bulletinNumber++) {
+            assertThat(cache.decode("FTFI" + bulletinNumber + " EFLK 250200")).isSameAs(headings.get(bulletinNumber - 10));
+        }
+        assertThat(cache.size()).isEqualTo(90);
+        assertThat(cache.getHitCount()).isEqualTo(90);
+
+        cache.decode("FTFI10 EFLK 250300");
+        assertThat(cache.size()).isEqualTo(90);
+        assertThat(cache.decode(new StringBuilder("FTFI11 EFLK 250200"))).isSameAs(headings.get(1));
+        assertThat(cache.decode(new StringBuilder("FTFI10 EFLK 250200"))).isNotSameAs(headings.get(0)).isEqualTo(headings.get(0));
+        assertThat(cache.getMissCount()).isEqualTo(92);
+    }
+
+    @Test
+    public void testUsesHints() {
+        final ConversionHints hints = new ConversionHints(ConversionHints.KEY_BULLETIN_HEADING_AUGMENTATION_INDICATOR_EXTENSION,
+                (BulletinHeadingIndicatorInterpreter) indicator -> "COR".equals(indicator) ? "CCA" : indicator);
+        final BulletinHeadingCache cache = new BulletinHeadingCache(10, hints);
+        assertThat(cache.decode("FTFI31 EFLK 250200 COR").getType()).isEqualTo(BulletinHeading.Type.CORRECTED);
+    }
+
+    @Test
+    public void testInvalidHeadingIsNotCached() {
+        final BulletinHeadingCache cache = new BulletinHeadingCache(10);
+        assertThatIllegalArgumentException().isThrownBy(() -> cache.decode("FTFI31 EFLK"));
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testClear() {
+        final BulletinHeadingCache cache = new BulletinHeadingCache(10);
+        final BulletinHeading heading = cache.decode("FTFI31 EFLK 250200");
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.decode("FTFI31 EFLK 250200")).isNotSameAs(heading).isEqualTo(heading);
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidMaximumSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new BulletinHeadingCache(0));
+    }
+
+    @Test
+    public void testConcurrentDecodeReturnsCanonicalInstances() throws Exception {
+        final BulletinHeadingCache cache = new BulletinHeadingCache(1000);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<List<BulletinHeading>>> futures = new ArrayList<>();
+            for (int task = 0; task < 4; task++) {
+                futures.add(executor.submit(() -> {
+                    final List<BulletinHeading> headings = new ArrayList<>();
+                    for (int bulletinNumber = 10; bulletinNumber < 100; bulletinNumber++) {
+                        headings.add(cache.decode("FTFI" + bulletinNumber + " EFLK 250200"));
+                    }
+                    return headings;
+                }));
+            }
+            final List<BulletinHeading> expected = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (final Future<List<BulletinHeading>> future : futures) {
+                final List<BulletinHeading> headings = future.get(10, TimeUnit.SECONDS);
+                for (int i = 0; i < expected.size(); i++) {
+                    assertThat(headings.get(i)).isSameAs(expected.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertThat(cache.size()).isEqualTo(90);
+        assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(360);
+    }
+}
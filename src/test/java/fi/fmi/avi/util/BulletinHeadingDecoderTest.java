@@ -107,6 +107,71 @@ public class BulletinHeadingDecoderTest {
         };
     }
 
+    @Test
+    @Parameters({ "FTFI31EFLK250200", "FTFI31 EFLK 250200 ", "FTFI31  EFLK\t250200", "FTFI31EFLK 250200" })
+    public void decode_bulletin_headings_with_varying_spacing(final String input) {
+        assertThat(BulletinHeadingDecoder.decode(input, ConversionHints.EMPTY)).isEqualTo(TAF_BULLETIN_HEADING);
+        assertThat(BulletinHeadingDecoder.decode(input, null)).isEqualTo(TAF_BULLETIN_HEADING);
+    }
+
+    @Test
+    @Parameters
+    public void decode_invalid_bulletin_headings(final String input) {
+        assertThatIllegalArgumentException()//
+                .isThrownBy(() -> BulletinHeadingDecoder.decode(input, ConversionHints.EMPTY))//
+                .withMessageStartingWith("String '" + input + "' does not match");
+        final BulletinHeadingDecoder.Result result = BulletinHeadingDecoder.tryDecode(input, ConversionHints.EMPTY);
+        assertThat(result.isSuccess()).isFalse();
+        assertThat(result.getHeading()).isEmpty();
+        assertThat(result.getErrorMessage()).hasValueSatisfying(message -> assertThat(message).startsWith("String '" + input + "' does not match"));
+        assertThatIllegalArgumentException().isThrownBy(result::getHeadingOrThrow);
+    }
+
+    public Object parametersForDecode_invalid_bulletin_headings() {
+        return new Object[] {//
+                "", //
+                "FTFI31", //
+                "FTFI31 EFLK", //
+                "FTFI31 EFLK 25020", //
+                "ftfi31 EFLK 250200", //
+                "FTFI3A EFLK 250200", //
+                "FTFI31 EFL1 250200", //
+                "FTFI31 EFLK 2502000", //
+                "FTFI31 EFLK 250200 CCA ", //
+                "FTFI31 EFLK 250200 CC", //
+                "FTFI31 EFLK 250200 CRA", //
+                "FTFI31 EFLK 250200 XXA", //
+                "FTFI31 EFLK 250200 CC1", //
+                "FTFI31 EFLK 250200 cca", //
+                " FTFI31 EFLK 250200", //
+        };
+    }
+
+    @Test
+    public void tryDecode_bulletin_heading() {
+        final BulletinHeadingDecoder.Result result = BulletinHeadingDecoder.tryDecode("FTFI31 EFLK 250200", ConversionHints.EMPTY);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getHeading()).hasValue(TAF_BULLETIN_HEADING);
+        assertThat(result.getHeadingOrThrow()).isEqualTo(TAF_BULLETIN_HEADING);
+        assertThat(result.getErrorMessage()).isEmpty();
+    }
+
+    @Test
+    public void decode_bulletin_heading_within_region() {
+        final StringBuilder input = new StringBuilder("ZCZC 123\r\r\nFTFI31 EFLK 250200 COR\r\r\nTAF EFHK");
+        final int start = input.indexOf("FTFI31");
+        final int end = input.indexOf("\r", start);
+        final BulletinHeading expected = TAF_BULLETIN_HEADING.toBuilder()//
+                .setType(BulletinHeading.Type.CORRECTED)//
+                .setBulletinAugmentationNumber(1)//
+                .build();
+        assertThat(BulletinHeadingDecoder.decode(input, start, end, EXTENDED_AUGMENTATION_IDENTIFIERS)).isEqualTo(expected);
+        assertThat(BulletinHeadingDecoder.tryDecode(input, start, end, EXTENDED_AUGMENTATION_IDENTIFIERS).getHeading()).hasValue(expected);
+        assertThat(BulletinHeadingDecoder.tryDecode(input, 0, end, EXTENDED_AUGMENTATION_IDENTIFIERS).isSuccess()).isFalse();
+        assertThatExceptionOfType(IndexOutOfBoundsException.class)//
+                .isThrownBy(() -> BulletinHeadingDecoder.decode(input, start, input.length() + 1, ConversionHints.EMPTY));
+    }
+
     @Test
     public void decodeAugmentationNumber_GivenMinimumChar_ShouldReturnMinimumNumber() {
         assertThat(BulletinHeadingDecoder.decodeAugmentationNumber(BulletinHeadingEncoder.AUGMENTATION_NUMBER_MIN_CHAR)).isEqualTo(
@@ -1,8 +1,14 @@
 package fi.fmi.avi.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
@@ -85,6 +91,78 @@ public class BulletinHeadingEncoderTest {
                         "WSFI32 AAAA 251200" } };
     }
 
+    @Test
+    @Parameters(method = "parametersForTestEncode")
+    public void testAppendToStringBuilder(final BulletinHeading heading, final String expected) {
+        final StringBuilder builder = new StringBuilder("ZCZC ");
+        assertThat(BulletinHeadingEncoder.appendTo(builder, heading, MessageFormat.TEXT, ConversionHints.EMPTY)).isSameAs(builder);
+        assertThat(builder.toString()).isEqualTo("ZCZC " + expected);
+    }
+
+    @Test
+    @Parameters(method = "parametersForTestEncode")
+    public void testAppendToAppendable(final BulletinHeading heading, final String expected) throws IOException {
+        final StringWriter writer = new StringWriter();
+        assertThat(BulletinHeadingEncoder.appendTo(writer, heading, MessageFormat.TEXT, ConversionHints.EMPTY)).isSameAs(writer);
+        assertThat(writer.toString()).isEqualTo(expected);
+    }
+
+    @Test
+    @Parameters(method = "parametersForTestEncode")
+    public void testAppendToByteBuffer(final BulletinHeading heading, final String expected) {
+        final ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.put((byte) '#');
+        assertThat(BulletinHeadingEncoder.appendTo(buffer, heading, MessageFormat.TEXT, ConversionHints.EMPTY)).isSameAs(buffer);
+        assertThat(new String(buffer.array(), 0, buffer.position(), StandardCharsets.US_ASCII)).isEqualTo("#" + expected);
+    }
+
+    @Test
+    public void testAppendToWithoutSpaces() {
+        final ConversionHints hints = new ConversionHints(ConversionHints.KEY_BULLETIN_HEADING_SPACING, ConversionHints.VALUE_BULLETIN_HEADING_SPACING_NONE);
+        final BulletinHeading heading = TAF_BULLETIN_HEADING.toBuilder().setType(BulletinHeading.Type.AMENDED).setBulletinAugmentationNumber(1).build();
+        assertThat(BulletinHeadingEncoder.appendTo(new StringBuilder(), heading, MessageFormat.TEXT, hints).toString()).isEqualTo("FTFI31EFLK250200AAA");
+        assertThat(BulletinHeadingEncoder.encode(heading, MessageFormat.XML, hints)).isEqualTo("LTFI31EFLK250200AAA");
+    }
+
+    @Test
+    public void testAppendToByteBufferOverflowKeepsPosition() {
+        final ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.put((byte) '#');
+        assertThatExceptionOfType(BufferOverflowException.class)//
+                .isThrownBy(() -> BulletinHeadingEncoder.appendTo(buffer, TAF_BULLETIN_HEADING, MessageFormat.TEXT, ConversionHints.EMPTY));
+        assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    public void testAppendToInvalidHeadingAppendsNothing() {
+        final BulletinHeading heading = TAF_BULLETIN_HEADING.toBuilder().setType(BulletinHeading.Type.AMENDED).build();
+        final StringBuilder builder = new StringBuilder();
+        assertThatIllegalArgumentException()//
+                .isThrownBy(() -> BulletinHeadingEncoder.appendTo(builder, heading, MessageFormat.TEXT, ConversionHints.EMPTY));
+        assertThat(builder).isEmpty();
+
+        final ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertThatIllegalArgumentException()//
+                .isThrownBy(() -> BulletinHeadingEncoder.appendTo(buffer, heading, MessageFormat.TEXT, ConversionHints.EMPTY));
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    public void testAppendToByteBufferRejectsNonAsciiCharacters() {
+        final BulletinHeading heading = TAF_BULLETIN_HEADING.toBuilder().setLocationIndicator("EFL\u00c4").build();
+        final ByteBuffer buffer = ByteBuffer.allocate(32);
+        assertThatIllegalArgumentException()//
+                .isThrownBy(() -> BulletinHeadingEncoder.appendTo(buffer, heading, MessageFormat.TEXT, ConversionHints.EMPTY));
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    public void testGetDataDesignators() {
+        assertThat(BulletinHeadingEncoder.getDataDesignators(TAF_BULLETIN_HEADING, MessageFormat.TEXT)).isEqualTo("FTFI31");
+        assertThat(BulletinHeadingEncoder.getDataDesignators(TAF_BULLETIN_HEADING.toBuilder().setBulletinNumber(1).build(), MessageFormat.XML))//
+                .isEqualTo("LTFI01");
+    }
+
     @Test
     @Parameters(source = BBBIndicatorParametersProvider.class)
     public void testEncodeBBBIndicatorBulletinHeadingTypeString(final BulletinHeading heading, final String expected) {
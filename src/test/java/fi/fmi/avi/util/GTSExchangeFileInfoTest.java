@@ -2,13 +2,17 @@ package fi.fmi.avi.util;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDateTime;
 import java.time.Month;
+import java.util.EnumSet;
+import java.util.Optional;
 
 import org.junit.Test;
+import org.junit.runner.RunWith;
 
 import fi.fmi.avi.model.PartialDateTime;
 import fi.fmi.avi.model.PartialOrCompleteTimeInstant;
@@ -16,7 +20,10 @@ import fi.fmi.avi.model.bulletin.BulletinHeading;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT1;
 import fi.fmi.avi.model.bulletin.DataTypeDesignatorT2;
 import fi.fmi.avi.model.bulletin.immutable.BulletinHeadingImpl;
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
 
+@RunWith(JUnitParamsRunner.class)
 public class GTSExchangeFileInfoTest {
     @Test
     public void testFileNameGenerator() {
@@ -83,5 +90,152 @@ public class GTSExchangeFileInfoTest {
 
         assertFalse(info.getTimeStampSecond().isPresent());
 
+        assertEquals(Optional.of(PartialDateTime.of(2019, 1, 9, 10, 5, -1, null)), info.getTimeStamp());
+        assertEquals("AM_FTFI12ABCD091000CCA_C_ABCD_201901091005--_foobar12345_-.met.gz", info.toGTSExchangeFileName());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDeprecatedTimeStampFieldSetters() {
+        final GTSExchangeFileInfo.Builder builder = GTSExchangeFileInfo.Builder.from("A_FTFI12ABCD091000_C_ABCD_--------------.txt")
+                .setTimeStampYear(2019)
+                .setTimeStampMonth(Month.JANUARY)
+                .setTimeStampDay(Optional.of(9))
+                .setNullableTimeStampHour(10)
+                .setTimeStampMinute(5);
+
+        assertEquals(Optional.of(PartialDateTime.of(2019, 1, 9, 10, 5, -1, null)), builder.getTimeStamp());
+        assertEquals(Optional.of(5), builder.build().getTimeStampMinute());
+
+        builder.clearTimeStampMinute().setTimeStampHour(Optional.empty()).setNullableTimeStampDay(null).clearTimeStampMonth().clearTimeStampYear();
+        assertEquals(Optional.empty(), builder.getTimeStamp());
+    }
+
+    public Object parametersForTestFileNameRoundTrip() {
+        return new Object[] {//
+                new Object[] { "AM_FTFI12ABCD091000CCA_C_ABCD_201901091005--_foobar12345_-.met.gz" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_--------------.txt" }, //
+                new Object[] { "A_LTFI31EFKL231000RRB_C_EFKL_20190123100000.xml" }, //
+                new Object[] { "A_SAFI31EFHK231000_C_EFKL_20190123100000_extra.txt.Z" }, //
+                new Object[] { "T_SAFI31_C_EFHK_20190123100000.txt" }, //
+                new Object[] { "TM_FTFI33_C_EFPP_------250200--_-.met.bz2" }, //
+                new Object[] { "W_fi-fmi,TAF,EFHK+10_C_EFHK_20190109100500.xml" }, //
+                new Object[] { "WM_fi-fmi,TAF_C_EFHK_20190109100500_meta_data.met" }, //
+                new Object[] { "Z_local-product-1_C_EFHK_2019010910----.bin.zip" }, //
+                new Object[] { "X_experimental_C_EFHK_20190109100500.nc.xz" }, //
+        };
+    }
+
+    @Test
+    @Parameters
+    public void testFileNameRoundTrip(final String fileName) {
+        assertEquals(fileName, GTSExchangeFileInfo.Builder.from(fileName).build().toGTSExchangeFileName());
+    }
+
+    @Test
+    public void testTFlagFileNameParser() {
+        final GTSExchangeFileInfo info = GTSExchangeFileInfo.Builder.from("T_SAFI31_C_EFHK_20190123100000.txt").build();
+        final BulletinHeading expectedHeading = BulletinHeadingImpl.builder()
+                .setLocationIndicator("EFHK")
+                .setGeographicalDesignator("FI")
+                .setDataTypeDesignatorT1ForTAC(DataTypeDesignatorT1.SURFACE_DATA)
+                .setDataTypeDesignatorT2(DataTypeDesignatorT2.SurfaceDataTypeDesignatorT2.SD_AVIATION_ROUTINE_REPORTS)
+                .setType(BulletinHeading.Type.NORMAL)
+                .setBulletinNumber(31)
+                .setIssueTime(PartialOrCompleteTimeInstant.of(PartialDateTime.ofDayHourMinute(23, 10, 0)))
+                .build();
+
+        assertSame(GTSExchangeFileInfo.GTSExchangePFlag.T, info.getPFlag());
+        assertEquals(expectedHeading, info.getHeading());
+        assertEquals(Optional.of("EFHK"), info.getOriginator());
+        assertFalse(info.getProductIdentifier().isPresent());
+    }
+
+    @Test
+    public void testProductIdentifierFileNameParser() {
+        final GTSExchangeFileInfo info = GTSExchangeFileInfo.Builder.from("W_fi-fmi,TAF,EFHK+10_C_EFHK_20190109100500.xml").build();
+
+        assertSame(GTSExchangeFileInfo.GTSExchangePFlag.W, info.getPFlag());
+        assertNull(info.getHeading());
+        assertEquals(Optional.of("fi-fmi,TAF,EFHK+10"), info.getProductIdentifier());
+        assertEquals(Optional.of("EFHK"), info.getOriginator());
+        assertSame(GTSExchangeFileInfo.GTSExchangeFileType.XML, info.getFileType());
+        assertEquals(Optional.of(PartialDateTime.of(2019, 1, 9, 10, 5, 0, null)), info.getTimeStamp());
+    }
+
+    @Test
+    public void testProductIdentifierFileNameGenerator() {
+        final GTSExchangeFileInfo info = new GTSExchangeFileInfo.Builder().setPFlag(GTSExchangeFileInfo.GTSExchangePFlag.Z)
+                .setProductIdentifier("local-product")
+                .setOriginator("EFHK")
+                .setFileType(GTSExchangeFileInfo.GTSExchangeFileType.TEXT)
+                .setTimeStamp(LocalDateTime.of(2019, Month.JANUARY, 9, 10, 5))
+                .build();
+
+        assertEquals("Z_local-product_C_EFHK_20190109100500.txt", info.toGTSExchangeFileName());
+        assertEquals("Z_local-product_C_EFHK_----0109------.txt",
+                info.toGTSExchangeFileName(EnumSet.of(GTSExchangeFileInfo.TimeStampField.MONTH, GTSExchangeFileInfo.TimeStampField.DAY)));
+    }
+
+    @Test
+    public void testAppendFileName() {
+        final String fileName = "A_FTFI12ABCD091000CCA_C_ABCD_20190109100500.txt";
+        final GTSExchangeFileInfo info = GTSExchangeFileInfo.Builder.from(fileName).build();
+        final StringBuilder builder = new StringBuilder("prefix/");
+
+        assertSame(builder, info.appendGTSExchangeFileName(builder, EnumSet.allOf(GTSExchangeFileInfo.TimeStampField.class)));
+        assertEquals("prefix/" + fileName, builder.toString());
+    }
+
+    public Object parametersForTestInvalidFileNames() {
+        return new Object[] {//
+                new Object[] { "" }, //
+                new Object[] { "A" }, //
+                new Object[] { "Q_FTFI12ABCD091000_C_ABCD_20190109100500.txt" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_20190109100500" }, //
+                new Object[] { "A_FTFI12ABCD091000_D_ABCD_20190109100500.txt" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABC_20190109100500.txt" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_2019010910050.txt" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_201901091005-0.txt" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_20190109100500.docx" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_20190109100500.xyz" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_20190109100500.txt.rar" }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_20190109100500.txt." }, //
+                new Object[] { "A_FTFI12ABCD091000_C_ABCD_20190109100500_free.form.txt" }, //
+                new Object[] { "A_FTFI12ABCD0910_C_ABCD_20190109100500.txt" }, //
+                new Object[] { "A_FTFI12ABCD091000XXA_C_ABCD_20190109100500.txt" }, //
+                new Object[] { "A__C_ABCD_20190109100500.txt" }, //
+                new Object[] { "T_FTFI1_C_ABCD_20190109100500.txt" }, //
+                new Object[] { "T_FTFI12_C_ABCD_20190109----00.txt" }, //
+                new Object[] { "W_product.id_C_ABCD_20190109100500.txt" }, //
+        };
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    @Parameters
+    public void testInvalidFileNames(final String fileName) {
+        GTSExchangeFileInfo.Builder.from(fileName);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testHeadingRequiredForAFlag() {
+        new GTSExchangeFileInfo.Builder().setPFlag(GTSExchangeFileInfo.GTSExchangePFlag.A)
+                .setFileType(GTSExchangeFileInfo.GTSExchangeFileType.TEXT)
+                .setTimeStamp(LocalDateTime.of(2019, Month.JANUARY, 9, 10, 5))
+                .build();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testProductIdentifierRequiredForWFlag() {
+        new GTSExchangeFileInfo.Builder().setPFlag(GTSExchangeFileInfo.GTSExchangePFlag.W)
+                .setOriginator("EFHK")
+                .setFileType(GTSExchangeFileInfo.GTSExchangeFileType.TEXT)
+                .setTimeStamp(LocalDateTime.of(2019, Month.JANUARY, 9, 10, 5))
+                .build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testProductIdentifierMayNotContainUnderscore() {
+        new GTSExchangeFileInfo.Builder().setProductIdentifier("product_id");
     }
 }